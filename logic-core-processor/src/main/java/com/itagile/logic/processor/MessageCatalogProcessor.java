@@ -0,0 +1,411 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.text.MessageFormat;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+import com.itagile.logic.core.MessageCatalog;
+import com.itagile.logic.core.MessageDefinition;
+import com.itagile.logic.core.MessageTemplate;
+import com.itagile.logic.core.ResponseBuilder;
+
+/**
+ * Generates the implementation of each interface annotated with {@link MessageCatalog}.
+ *
+ * <p>Patterns are validated and split into literals and argument indices at compile time, so the generated
+ * {@link MessageTemplate} constants never parse them at runtime. Invalid patterns, patterns referencing more
+ * arguments than the method has, duplicated codes and methods without {@link MessageDefinition} are compile errors.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+public final class MessageCatalogProcessor extends AbstractProcessor {
+    /**
+     * Suffix of the generated classes.
+     */
+    static final String SUFFIX = "Catalog";
+
+    /**
+     * Suffix of the generated code constants.
+     */
+    private static final String CODE_SUFFIX = "_CODE";
+
+    /**
+     * Indentation of the generated code.
+     */
+    private static final String INDENT = "    ";
+
+    /**
+     * Qualified name of MessageTemplate.
+     */
+    private static final String TEMPLATE = MessageTemplate.class.getName();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(MessageCatalog.class.getName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        for (final Element element : roundEnv.getElementsAnnotatedWith(MessageCatalog.class)) {
+            if (element.getKind() == ElementKind.INTERFACE) {
+                processCatalog((TypeElement) element);
+            } else {
+                error(element, "@MessageCatalog is only allowed on interfaces");
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Validates a catalog and generates its implementation if it is valid.
+     *
+     * @param catalog the annotated interface
+     */
+    private void processCatalog(final TypeElement catalog) {
+        final TypeMirror builderType = processingEnv.getElementUtils()
+                .getTypeElement(ResponseBuilder.class.getName()).asType();
+        final Map<String, ExecutableElement> codes = new HashMap<>();
+        final Set<String> methodNames = new HashSet<>();
+        final Map<String, ExecutableElement> constantNames = new HashMap<>();
+        final StringBuilder constants = new StringBuilder();
+        final StringBuilder methods = new StringBuilder();
+        boolean valid = true;
+        for (final ExecutableElement method : ElementFilter.methodsIn(catalog.getEnclosedElements())) {
+            if (method.getModifiers().contains(Modifier.DEFAULT) || method.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            final MessageDefinition definition = method.getAnnotation(MessageDefinition.class);
+            final String constant = constantName(method.getSimpleName().toString());
+            if (definition == null) {
+                valid = error(method, "Methods of a @MessageCatalog must be annotated with @MessageDefinition");
+            } else if (!methodNames.add(method.getSimpleName().toString())) {
+                valid = error(method, "Methods of a @MessageCatalog cannot be overloaded");
+            } else if (!addConstants(constantNames, method, definition, constant)) {
+                valid = false;
+            } else if (!definition.code().isEmpty() && codes.put(definition.code(), method) != null) {
+                valid = error(method, "Duplicated code " + definition.code() + " in " + catalog.getSimpleName());
+            } else if (validateMethod(method, definition, builderType)) {
+                appendConstants(constants, method, definition, constant);
+                appendMethod(methods, method, constant);
+            } else {
+                valid = false;
+            }
+        }
+        if (valid) {
+            writeCatalog(catalog, constants, methods);
+        }
+    }
+
+    /**
+     * Registers the names of the template and code constants of a method, reporting a clash with the constants of
+     * other method, for example between {@code fooBar} and {@code foo_bar}, or between the code of {@code foo} and
+     * the template of {@code fooCode}.
+     *
+     * @param constantNames the methods by the names of their constants
+     * @param method        the method
+     * @param definition    the message definition of the method
+     * @param constant      the name of the template constant
+     * @return true if the names do not clash
+     */
+    private boolean addConstants(final Map<String, ExecutableElement> constantNames, final ExecutableElement method,
+                                 final MessageDefinition definition, final String constant) {
+        final String code = constant + CODE_SUFFIX;
+        final boolean hasCode = !definition.code().isEmpty();
+        for (final String name : hasCode ? new String[] {constant, code} : new String[] {constant}) {
+            final ExecutableElement other = constantNames.get(name);
+            if (other != null) {
+                return error(method, "The constant " + name + " generated for " + method.getSimpleName()
+                        + " clashes with a constant generated for " + other.getSimpleName());
+            }
+        }
+        constantNames.put(constant, method);
+        if (hasCode) {
+            constantNames.put(code, method);
+        }
+        return true;
+    }
+
+    /**
+     * Validates the signature and the pattern of a method.
+     *
+     * @param method      the method to validate
+     * @param definition  the message definition of the method
+     * @param builderType the ResponseBuilder type
+     * @return true if the method is valid
+     */
+    private boolean validateMethod(final ExecutableElement method, final MessageDefinition definition,
+                                   final TypeMirror builderType) {
+        final List<? extends VariableElement> parameters = method.getParameters();
+        if (parameters.isEmpty()
+                || !processingEnv.getTypeUtils().isAssignable(parameters.get(0).asType(), builderType)) {
+            return error(method, "The first parameter must be a ResponseBuilder");
+        }
+        final TypeMirror returnType = method.getReturnType();
+        if (returnType.getKind() != TypeKind.VOID
+                && !processingEnv.getTypeUtils().isAssignable(parameters.get(0).asType(), returnType)) {
+            return error(method, "The return type must be void or the type of the first parameter");
+        }
+        final int arguments;
+        try {
+            arguments = new MessageFormat(definition.pattern()).getFormatsByArgumentIndex().length;
+        } catch (final IllegalArgumentException e) {
+            return error(method, "Invalid pattern \"" + definition.pattern() + "\": " + e.getMessage());
+        }
+        if (arguments > parameters.size() - 1) {
+            return error(method, "The pattern references argument {" + (arguments - 1) + "} but there are only "
+                    + (parameters.size() - 1) + " arguments");
+        }
+        return true;
+    }
+
+    /**
+     * Appends the code and template constants of a method.
+     *
+     * @param source     the generated source
+     * @param method     the method
+     * @param definition the message definition of the method
+     * @param constant   the name of the template constant
+     */
+    private static void appendConstants(final StringBuilder source, final ExecutableElement method,
+                                        final MessageDefinition definition, final String constant) {
+        final String code;
+        if (definition.code().isEmpty()) {
+            code = "null";
+        } else {
+            code = constant + CODE_SUFFIX;
+            source.append(INDENT).append("/**\n")
+                    .append(INDENT).append(" * Code of {@link #").append(constant).append("}.\n")
+                    .append(INDENT).append(" */\n")
+                    .append(INDENT).append("public static final String ").append(code).append(" = ")
+                    .append(literal(definition.code())).append(";\n\n");
+        }
+        final MessageTemplate template = MessageTemplate.of(definition.type(), definition.pattern());
+        source.append(INDENT).append("/**\n")
+                .append(INDENT).append(" * Template of {@code ").append(method.getSimpleName()).append("}.\n")
+                .append(INDENT).append(" */\n")
+                .append(INDENT).append("public static final ").append(TEMPLATE).append(' ').append(constant)
+                .append(" = ").append(TEMPLATE).append(".of(\n")
+                .append(INDENT).append(INDENT).append(INDENT)
+                .append(definition.type().getDeclaringClass().getName()).append('.').append(definition.type())
+                .append(", ").append(literal(definition.pattern())).append(", ").append(code);
+        final String[] literals = template.getLiterals();
+        if (literals != null) {
+            source.append(",\n").append(INDENT).append(INDENT).append(INDENT).append("new String[] {");
+            for (int i = 0; i < literals.length; i++) {
+                source.append(i == 0 ? "" : ", ").append(literal(literals[i]));
+            }
+            source.append("}, new int[] {");
+            final int[] indices = template.getIndices();
+            for (int i = 0; i < indices.length; i++) {
+                source.append(i == 0 ? "" : ", ").append(indices[i]);
+            }
+            source.append('}');
+        }
+        source.append(");\n\n");
+    }
+
+    /**
+     * Appends the implementation of a method.
+     *
+     * @param source   the generated source
+     * @param method   the method
+     * @param constant the name of the template constant
+     */
+    private static void appendMethod(final StringBuilder source, final ExecutableElement method,
+                                     final String constant) {
+        final List<? extends VariableElement> parameters = method.getParameters();
+        source.append('\n').append(INDENT).append("@Override\n")
+                .append(INDENT).append("public ").append(method.getReturnType()).append(' ')
+                .append(method.getSimpleName()).append('(');
+        for (int i = 0; i < parameters.size(); i++) {
+            final VariableElement parameter = parameters.get(i);
+            source.append(i == 0 ? "" : ", ").append("final ").append(parameter.asType()).append(' ')
+                    .append(parameter.getSimpleName());
+        }
+        source.append(") {\n").append(INDENT).append(INDENT).append(parameters.get(0).getSimpleName())
+                .append(".add(").append(constant);
+        if (parameters.size() > 1) {
+            source.append(", new Object[] {");
+            for (int i = 1; i < parameters.size(); i++) {
+                source.append(i == 1 ? "" : ", ").append(parameters.get(i).getSimpleName());
+            }
+            source.append('}');
+        }
+        source.append(");\n");
+        if (method.getReturnType().getKind() != TypeKind.VOID) {
+            source.append(INDENT).append(INDENT).append("return ").append(parameters.get(0).getSimpleName())
+                    .append(";\n");
+        }
+        source.append(INDENT).append("}\n");
+    }
+
+    /**
+     * Writes the implementation of a catalog.
+     *
+     * @param catalog   the annotated interface
+     * @param constants the code and template constants
+     * @param methods   the implemented methods
+     */
+    private void writeCatalog(final TypeElement catalog, final CharSequence constants, final CharSequence methods) {
+        final PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(catalog);
+        final String packageName = packageElement.getQualifiedName().toString();
+        final String interfaceName = catalog.getQualifiedName().toString();
+        final String className = generatedName(catalog);
+        final StringBuilder source = new StringBuilder();
+        if (!packageElement.isUnnamed()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n")
+                .append(" * Message catalog generated from {@link ").append(interfaceName).append("}.\n")
+                .append(" */\n")
+                .append("public final class ").append(className).append(" implements ").append(interfaceName)
+                .append(" {\n")
+                .append(INDENT).append("/**\n")
+                .append(INDENT).append(" * The catalog instance.\n")
+                .append(INDENT).append(" */\n")
+                .append(INDENT).append("public static final ").append(className).append(" INSTANCE = new ")
+                .append(className).append("();\n\n")
+                .append(constants)
+                .append(INDENT).append("/**\n")
+                .append(INDENT).append(" * Hides default constructor, use {@link #INSTANCE}.\n")
+                .append(INDENT).append(" */\n")
+                .append(INDENT).append("private ").append(className).append("() {\n")
+                .append(INDENT).append(INDENT).append("super();\n")
+                .append(INDENT).append("}\n")
+                .append(methods)
+                .append("}\n");
+        final String qualifiedName = packageElement.isUnnamed() ? className : packageName + '.' + className;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, catalog).openWriter()) {
+            writer.write(source.toString());
+        } catch (final IOException e) {
+            error(catalog, "Failed to write " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the simple name of the class generated for a catalog. Names of enclosing types are joined with
+     * underscores.
+     *
+     * @param catalog the annotated interface
+     * @return the simple name of the generated class
+     */
+    static String generatedName(final TypeElement catalog) {
+        final StringBuilder name = new StringBuilder(catalog.getSimpleName());
+        Element enclosing = catalog.getEnclosingElement();
+        while (enclosing.getKind() != ElementKind.PACKAGE) {
+            name.insert(0, '_').insert(0, enclosing.getSimpleName());
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return name.append(SUFFIX).toString();
+    }
+
+    /**
+     * Converts a method name to a constant name, for example invalidCurrency to INVALID_CURRENCY.
+     *
+     * @param name the method name
+     * @return the constant name
+     */
+    static String constantName(final String name) {
+        final StringBuilder constant = new StringBuilder();
+        for (int i = 0; i < name.length(); i++) {
+            final char ch = name.charAt(i);
+            if (Character.isUpperCase(ch) && i > 0 && !Character.isUpperCase(name.charAt(i - 1))) {
+                constant.append('_');
+            }
+            constant.append(Character.toUpperCase(ch));
+        }
+        return constant.toString();
+    }
+
+    /**
+     * Returns the Java string literal of a text.
+     *
+     * @param text the text
+     * @return the string literal
+     */
+    static String literal(final String text) {
+        final StringBuilder literal = new StringBuilder("\"");
+        for (int i = 0; i < text.length(); i++) {
+            final char ch = text.charAt(i);
+            switch (ch) {
+                case '"':
+                    literal.append("\\\"");
+                    break;
+                case '\\':
+                    literal.append("\\\\");
+                    break;
+                case '\n':
+                    literal.append("\\n");
+                    break;
+                case '\r':
+                    literal.append("\\r");
+                    break;
+                case '\t':
+                    literal.append("\\t");
+                    break;
+                default:
+                    if (Character.isISOControl(ch)) {
+                        literal.append(String.format("\\u%04x", (int) ch));
+                    } else {
+                        literal.append(ch);
+                    }
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    /**
+     * Reports a compile error.
+     *
+     * @param element the element causing the error
+     * @param message the error message
+     * @return always false
+     */
+    private boolean error(final Element element, final String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+        return false;
+    }
+}
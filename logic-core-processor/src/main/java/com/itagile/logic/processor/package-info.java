@@ -0,0 +1,7 @@
+/**
+ * Provides the annotation processor generating message catalogs.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+package com.itagile.logic.processor;
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.processor;
+
+import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageType;
+import com.itagile.logic.core.AppResponseBuilder;
+import com.itagile.logic.core.MessageTemplate;
+import com.itagile.logic.core.ResponseBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MessageCatalogProcessor tests.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+class MessageCatalogProcessorTest {
+
+    @TempDir
+    Path dir;
+
+    private static final String CATALOG = String.join("\n",
+            "package sample;",
+            "import com.itagile.logic.api.ServiceMessageType;",
+            "import com.itagile.logic.core.*;",
+            "@MessageCatalog",
+            "public interface OrderMessages {",
+            "    @MessageDefinition(type = ServiceMessageType.ERROR, code = \"ORD-001\",",
+            "            pattern = \"Invalid currency {0} for \\\"{1}\\\"\")",
+            "    ResponseBuilder invalidCurrency(ResponseBuilder builder, String currency, String order);",
+            "    @MessageDefinition(type = ServiceMessageType.WARN, pattern = \"Total {0,number,#.00}\")",
+            "    void total(AppResponseBuilder builder, double total);",
+            "    @MessageDefinition(type = ServiceMessageType.INFO, code = \"ORD-003\", pattern = \"Saved\")",
+            "    AppResponseBuilder saved(AppResponseBuilder builder);",
+            "}");
+
+    private DiagnosticCollector<JavaFileObject> compile(final String source) throws IOException {
+        final Path file = dir.resolve("OrderMessages.java");
+        Files.write(file, source.getBytes(StandardCharsets.UTF_8));
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            final List<String> options = Arrays.asList("-d", dir.toString(), "-s", dir.toString(),
+                    "-classpath", System.getProperty("java.class.path"));
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                    fileManager.getJavaFileObjects(file.toFile()));
+            task.setProcessors(Collections.singletonList(new MessageCatalogProcessor()));
+            task.call();
+        }
+        return diagnostics;
+    }
+
+    private static String errors(final DiagnosticCollector<JavaFileObject> diagnostics) {
+        return diagnostics.getDiagnostics().stream()
+                .filter(x -> x.getKind() == Diagnostic.Kind.ERROR)
+                .map(x -> x.getMessage(null))
+                .collect(Collectors.joining("\n"));
+    }
+
+    @Test
+    void generate() throws Exception {
+        assertEquals("", errors(compile(CATALOG)));
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{dir.toUri().toURL()},
+                getClass().getClassLoader())) {
+            final Class<?> catalog = loader.loadClass("sample.OrderMessagesCatalog");
+            final Object instance = catalog.getField("INSTANCE").get(null);
+            assertEquals("ORD-001", catalog.getField("INVALID_CURRENCY_CODE").get(null));
+            final MessageTemplate template = (MessageTemplate) catalog.getField("INVALID_CURRENCY").get(null);
+            assertArrayEquals(new int[]{0, 1}, template.getIndices());
+            final AppResponseBuilder builder = ResponseBuilder.of();
+            final Method invalidCurrency = catalog.getMethod("invalidCurrency", ResponseBuilder.class,
+                    String.class, String.class);
+            assertSame(builder, invalidCurrency.invoke(instance, builder, "XXX", "A-1"));
+            catalog.getMethod("total", AppResponseBuilder.class, double.class).invoke(instance, builder, 12.5);
+            catalog.getMethod("saved", AppResponseBuilder.class).invoke(instance, builder);
+            final List<ServiceMessage> messages = builder.getMessages();
+            assertEquals(3, messages.size());
+            assertEquals(ServiceMessageType.ERROR, messages.get(0).getType());
+            assertEquals("Invalid currency XXX for \"A-1\"", messages.get(0).getMessage());
+            assertEquals("ORD-001", messages.get(0).getCode());
+            assertEquals(ServiceMessageType.WARN, messages.get(1).getType());
+            assertEquals(new java.text.DecimalFormat("#.00").format(12.5), messages.get(1).getMessage().substring(6));
+            assertNull(messages.get(1).getCode());
+            assertEquals("Saved", messages.get(2).getMessage());
+            assertEquals("ORD-003", messages.get(2).getCode());
+        }
+    }
+
+    @Test
+    void invalidPattern() throws IOException {
+        final String errors = errors(compile(CATALOG.replace("Saved", "Saved {0")));
+        assertTrue(errors.contains("Invalid pattern"), errors);
+    }
+
+    @Test
+    void missingArgument() throws IOException {
+        final String errors = errors(compile(CATALOG.replace("Saved", "Saved {0}")));
+        assertTrue(errors.contains("references argument {0}"), errors);
+    }
+
+    @Test
+    void duplicatedCode() throws IOException {
+        final String errors = errors(compile(CATALOG.replace("ORD-003", "ORD-001")));
+        assertTrue(errors.contains("Duplicated code ORD-001"), errors);
+    }
+
+    @Test
+    void constantClash() throws IOException {
+        final String sameConstant = errors(compile(CATALOG.replace("void total(", "void to_tal(")
+                .replace("AppResponseBuilder saved(", "AppResponseBuilder toTal(")));
+        assertTrue(sameConstant.contains("The constant TO_TAL generated for toTal clashes with a constant generated "
+                + "for to_tal"), sameConstant);
+        assertFalse(sameConstant.contains("overloaded"), sameConstant);
+        final String codeConstant = errors(compile(CATALOG.replace("saved(", "invalidCurrencyCode(")));
+        assertTrue(codeConstant.contains("The constant INVALID_CURRENCY_CODE generated for invalidCurrencyCode"),
+                codeConstant);
+    }
+
+    @Test
+    void overloaded() throws IOException {
+        final String errors = errors(compile(CATALOG.replace("saved(", "total(")));
+        assertTrue(errors.contains("cannot be overloaded"), errors);
+    }
+
+    @Test
+    void invalidSignature() throws IOException {
+        final String errors = errors(compile(CATALOG.replace("saved(AppResponseBuilder builder)", "saved()")));
+        assertTrue(errors.contains("first parameter must be a ResponseBuilder"), errors);
+    }
+
+    @Test
+    void constantName() {
+        assertEquals("INVALID_CURRENCY", MessageCatalogProcessor.constantName("invalidCurrency"));
+        assertEquals("SAVED_OK", MessageCatalogProcessor.constantName("savedOK"));
+    }
+
+    @Test
+    void literal() {
+        assertEquals("\"a\\\"b\\\\c\\n\\u0001\"", MessageCatalogProcessor.literal("a\"b\\c\n\u0001"));
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.api;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A DTO representing a standard application response with messages.
+ *
+ * <p>If there are any errors, the response is considered to be not Ok. Messages are classified as errors, warnings
+ * or, informative.
+ *
+ * <p>A response can be frozen through {@link #freeze()} to share it safely, for example in caches.
+ *
+ * <p>Methods starting with {@code with} return a copy of this response and never modify it. Copies share the messages
+ * with this response, so adding a message costs O(log32 n) and previous responses stay valid. Copies are made through
+ * {@link Object#clone()}, so properties added by subclasses are copied shallowly: subclasses with mutable properties, like
+ * collections, override {@code clone()} to copy them.
+ *
+ * @author Javier Alcala
+ * @since 1.0.0
+ */
+public class AppResponse implements Cloneable {
+    /**
+     * Shared frozen response with no messages.
+     */
+    private static final AppResponse EMPTY = new AppResponse().freeze();
+
+    /**
+     * Determines if this response was successful.
+     */
+    private boolean ok;
+
+    /**
+     * List of messages for this response.
+     */
+    private ServiceMessageList messages;
+
+    /**
+     * Determines if the messages of this response can no longer be modified.
+     */
+    private boolean frozen;
+
+    /**
+     * Empty constructor.
+     */
+    public AppResponse() {
+        this.messages = ServiceMessageList.empty();
+        this.ok = true;
+    }
+
+    /**
+     * Constructor with messages.
+     *
+     * @param messages the list of messages for this response
+     */
+    public AppResponse(final Collection<ServiceMessage> messages) {
+        this.setMessages(messages);
+    }
+
+    /**
+     * Returns the shared frozen response with no messages. Methods starting with {@code with} return new responses
+     * that are not frozen.
+     *
+     * @return the response with no messages
+     */
+    public static AppResponse empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Determines if this response was successful.
+     *
+     * @return true if no errors where found.
+     */
+    public boolean isOk() {
+        return ok;
+    }
+
+    /**
+     * Returns the list of messages for this response.
+     *
+     * @return the list of messages
+     */
+    public List<ServiceMessage> getMessages() {
+        return messages;
+    }
+
+    /**
+     * Returns the String joining all the messages from this response.
+     *
+     * @param delimiter the delimiter to be used between each message
+     * @return the String joining all the messages
+     */
+    public String getMessages(final CharSequence delimiter) {
+        return messages.stream().map(ServiceMessage::getMessage).collect(Collectors.joining(delimiter));
+    }
+
+    /**
+     * Sets the list of messages for this response. A {@link ServiceMessageList} is kept without copying.
+     *
+     * @param messages the list of messages for this response
+     */
+    public void setMessages(final Collection<ServiceMessage> messages) {
+        if (frozen) {
+            throw new UnsupportedOperationException("The response is frozen");
+        }
+        this.messages = ServiceMessageList.copyOf(messages);
+        this.ok = this.messages.isOk();
+    }
+
+    /**
+     * Prevents further modifications of the messages of this response and of each message. Properties added by
+     * subclasses are not affected. Copies returned by methods starting with {@code with} are not frozen.
+     *
+     * @return this object
+     */
+    public AppResponse freeze() {
+        if (!frozen) {
+            messages.forEach(ServiceMessage::freeze);
+            frozen = true;
+        }
+        return this;
+    }
+
+    /**
+     * Returns a copy of this response with the message appended. This response is not modified.
+     *
+     * @param message the message to append
+     * @return the copy of this response
+     */
+    public AppResponse withMessage(final ServiceMessage message) {
+        return copyWith(messages.plus(message));
+    }
+
+    /**
+     * Returns a copy of this response with the messages appended. This response is not modified.
+     *
+     * @param messages the messages to append
+     * @return the copy of this response
+     */
+    public AppResponse withAll(final Collection<ServiceMessage> messages) {
+        return copyWith(this.messages.plusAll(messages));
+    }
+
+    /**
+     * Returns a copy of this response without the messages with the code specified. This response is not modified.
+     *
+     * @param code the code of the messages to remove
+     * @return the copy of this response
+     */
+    public AppResponse without(final String code) {
+        return copyWith(messages.without(code));
+    }
+
+    /**
+     * Returns a shallow copy of this response, of the same class, with the messages specified. The copy is always a
+     * new instance that is not frozen.
+     *
+     * @param newMessages the messages of the copy
+     * @return the copy of this response
+     */
+    private AppResponse copyWith(final ServiceMessageList newMessages) {
+        final AppResponse copy;
+        try {
+            copy = (AppResponse) clone();
+        } catch (final CloneNotSupportedException e) {
+            throw new IllegalStateException("Failed to copy " + getClass().getName(), e);
+        }
+        copy.messages = newMessages;
+        copy.ok = newMessages.isOk();
+        copy.frozen = false;
+        return copy;
+    }
+}
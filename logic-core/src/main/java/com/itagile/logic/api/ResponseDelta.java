@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.api;
+
+import java.util.Collection;
+
+/**
+ * A DTO with the messages added to a response between two versions, returned to clients polling a long operation.
+ *
+ * <p>The ok state is the state of the whole response, not only of the messages of the delta. A delta since version
+ * zero has all the messages of the response. Clients keep the last delta merged through {@link #merge(ResponseDelta)}
+ * and poll with its version.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+public class ResponseDelta extends AppResponse {
+    /**
+     * Version of the response the messages were added after, zero for all the messages.
+     */
+    private long since;
+
+    /**
+     * Version of the response including the messages of this delta.
+     */
+    private long version;
+
+    /**
+     * Determines if the whole response was successful.
+     */
+    private boolean ok = true;
+
+    /**
+     * Empty constructor.
+     */
+    public ResponseDelta() {
+        super();
+    }
+
+    /**
+     * Constructor with the messages added.
+     *
+     * @param messages the messages added between the versions
+     */
+    public ResponseDelta(final Collection<ServiceMessage> messages) {
+        super(messages);
+    }
+
+    /**
+     * Applies the next delta of the same response. A delta since version zero replaces the messages merged before.
+     *
+     * @param next the next delta
+     * @return a new delta since the version of this delta, with the messages of both deltas, or the next delta if it
+     *     has all the messages
+     * @throws IllegalArgumentException if the next delta does not start at the version of this delta
+     */
+    public ResponseDelta merge(final ResponseDelta next) {
+        if (next.since == 0) {
+            return next;
+        }
+        if (next.since != version) {
+            throw new IllegalArgumentException("The delta since version " + next.since
+                    + " does not follow version " + version);
+        }
+        final ResponseDelta merged = (ResponseDelta) withAll(next.getMessages());
+        merged.version = next.version;
+        merged.ok = next.ok;
+        return merged;
+    }
+
+    /**
+     * Determines if the whole response was successful, including the messages not in this delta.
+     *
+     * @return true if no errors where found.
+     */
+    @Override
+    public boolean isOk() {
+        return ok;
+    }
+
+    /**
+     * Sets if the whole response was successful.
+     *
+     * @param ok true if no errors where found
+     */
+    public void setOk(final boolean ok) {
+        this.ok = ok;
+    }
+
+    /**
+     * Version of the response the messages were added after, zero for all the messages.
+     *
+     * @return the version before the messages of this delta
+     */
+    public long getSince() {
+        return since;
+    }
+
+    /**
+     * Sets the version of the response the messages were added after.
+     *
+     * @param since the version before the messages of this delta
+     */
+    public void setSince(final long since) {
+        this.since = since;
+    }
+
+    /**
+     * Version of the response including the messages of this delta, to poll the next delta with.
+     *
+     * @return the version after the messages of this delta
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets the version of the response including the messages of this delta.
+     *
+     * @param version the version after the messages of this delta
+     */
+    public void setVersion(final long version) {
+        this.version = version;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.api;
+
+/**
+ * A DTO representing an event of a streamed response: a message, or the summary sent after the last message.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+public class ResponseEvent {
+    /**
+     * The message of this event, null for the summary event.
+     */
+    private ServiceMessage message;
+
+    /**
+     * The summary of the response, null for message events.
+     */
+    private ResponseSummary summary;
+
+    /**
+     * Static factory method for a message event.
+     *
+     * @param message the message
+     * @return the created object
+     */
+    public static ResponseEvent of(final ServiceMessage message) {
+        final ResponseEvent data = new ResponseEvent();
+        data.setMessage(message);
+        return data;
+    }
+
+    /**
+     * Static factory method for the summary event.
+     *
+     * @param summary the summary of the response
+     * @return the created object
+     */
+    public static ResponseEvent of(final ResponseSummary summary) {
+        final ResponseEvent data = new ResponseEvent();
+        data.setSummary(summary);
+        return data;
+    }
+
+    /**
+     * The message of this event.
+     *
+     * @return the message, null for the summary event
+     */
+    public ServiceMessage getMessage() {
+        return message;
+    }
+
+    /**
+     * Sets the message of this event.
+     *
+     * @param message the message
+     */
+    public void setMessage(final ServiceMessage message) {
+        this.message = message;
+    }
+
+    /**
+     * The summary of the response.
+     *
+     * @return the summary, null for message events
+     */
+    public ResponseSummary getSummary() {
+        return summary;
+    }
+
+    /**
+     * Sets the summary of the response.
+     *
+     * @param summary the summary of the response
+     */
+    public void setSummary(final ResponseSummary summary) {
+        this.summary = summary;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.api;
+
+/**
+ * A DTO summarizing the messages of a streamed response.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+public class ResponseSummary {
+    /**
+     * Determines if the response was successful.
+     */
+    private boolean ok;
+
+    /**
+     * Number of errors.
+     */
+    private int errorCount;
+
+    /**
+     * Number of warnings.
+     */
+    private int warningCount;
+
+    /**
+     * Number of informative messages.
+     */
+    private int infoCount;
+
+    /**
+     * Static factory method using counts.
+     *
+     * @param errorCount   number of errors
+     * @param warningCount number of warnings
+     * @param infoCount    number of informative messages
+     * @return the created object
+     */
+    public static ResponseSummary of(final int errorCount, final int warningCount, final int infoCount) {
+        final ResponseSummary data = new ResponseSummary();
+        data.setOk(errorCount == 0);
+        data.setErrorCount(errorCount);
+        data.setWarningCount(warningCount);
+        data.setInfoCount(infoCount);
+        return data;
+    }
+
+    /**
+     * Determines if the response was successful.
+     *
+     * @return true if no errors where found.
+     */
+    public boolean isOk() {
+        return ok;
+    }
+
+    /**
+     * Sets if the response was successful.
+     *
+     * @param ok true if no errors where found
+     */
+    public void setOk(final boolean ok) {
+        this.ok = ok;
+    }
+
+    /**
+     * Number of errors.
+     *
+     * @return the number of errors
+     */
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * Sets the number of errors.
+     *
+     * @param errorCount the number of errors
+     */
+    public void setErrorCount(final int errorCount) {
+        this.errorCount = errorCount;
+    }
+
+    /**
+     * Number of warnings.
+     *
+     * @return the number of warnings
+     */
+    public int getWarningCount() {
+        return warningCount;
+    }
+
+    /**
+     * Sets the number of warnings.
+     *
+     * @param warningCount the number of warnings
+     */
+    public void setWarningCount(final int warningCount) {
+        this.warningCount = warningCount;
+    }
+
+    /**
+     * Number of informative messages.
+     *
+     * @return the number of informative messages
+     */
+    public int getInfoCount() {
+        return infoCount;
+    }
+
+    /**
+     * Sets the number of informative messages.
+     *
+     * @param infoCount the number of informative messages
+     */
+    public void setInfoCount(final int infoCount) {
+        this.infoCount = infoCount;
+    }
+}
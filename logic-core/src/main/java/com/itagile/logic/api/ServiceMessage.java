@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.api;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * A DTO representing a single message from the service.
+ *
+ * <p>A message can be frozen through {@link #freeze()} to share it safely, for example in cached responses. Setters
+ * of a frozen message throw UnsupportedOperationException.
+ *
+ * <p>The count, sample indices, sequence and origin are omitted from the JSON written by Jackson while they are not
+ * set, so messages keep the properties of version 1.0.0.
+ *
+ * @author Javier Alcala
+ * @since 1.0.0
+ */
+public class ServiceMessage {
+    /**
+     * Type of this message.
+     */
+    private ServiceMessageType type;
+
+    /**
+     * Text of this message.
+     */
+    private String message;
+
+    /**
+     * Code of this message. This value is optional.
+     */
+    private String code;
+
+    /**
+     * Number of occurrences collapsed into this message. This value is only set when duplicates are collapsed.
+     */
+    private Integer count;
+
+    /**
+     * Indices of some of the occurrences collapsed into this message. This value is optional.
+     */
+    private List<Integer> sampleIndices;
+
+    /**
+     * Position of this message among the messages created by its builder. This value is optional.
+     */
+    private Long sequence;
+
+    /**
+     * Origin of this message, for example the node that created it. This value is optional.
+     */
+    private String origin;
+
+    /**
+     * Determines if this message can no longer be modified.
+     */
+    private boolean frozen;
+
+    /**
+     * Static factory method using fields.
+     *
+     * @param type    type of this message
+     * @param message text of this message
+     * @return the created object
+     */
+    public static ServiceMessage of(final ServiceMessageType type, final String message) {
+        return of(type, message, null);
+    }
+
+    /**
+     * Static factory method using fields.
+     *
+     * @param type    type of this message
+     * @param message text of this message
+     * @param code    code of this message
+     * @return the created object
+     */
+    public static ServiceMessage of(final ServiceMessageType type, final String message, final String code) {
+        final ServiceMessage data = new ServiceMessage();
+        data.setType(type);
+        data.setMessage(message);
+        data.setCode(code);
+        return data;
+    }
+
+    /**
+     * Type of this message.
+     *
+     * @return the type of this message
+     */
+    public ServiceMessageType getType() {
+        return type;
+    }
+
+    /**
+     * Sets the type of this message.
+     *
+     * @param type the type of this message
+     */
+    public void setType(final ServiceMessageType type) {
+        checkNotFrozen();
+        this.type = type;
+    }
+
+    /**
+     * Text of this message.
+     *
+     * @return the text of this message
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Sets the text of this message.
+     *
+     * @param message the text of this message
+     */
+    public void setMessage(final String message) {
+        checkNotFrozen();
+        this.message = message;
+    }
+
+    /**
+     * Code of this message. This value is optional.
+     *
+     * @return the code of this message
+     */
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * Sets the code of this message.
+     *
+     * @param code the code of this message
+     */
+    public void setCode(final String code) {
+        checkNotFrozen();
+        this.code = code;
+    }
+
+    /**
+     * Number of occurrences collapsed into this message. This value is only set when duplicates are collapsed.
+     *
+     * @return the number of occurrences of this message
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public Integer getCount() {
+        return count;
+    }
+
+    /**
+     * Sets the number of occurrences collapsed into this message.
+     *
+     * @param count the number of occurrences of this message
+     */
+    public void setCount(final Integer count) {
+        checkNotFrozen();
+        this.count = count;
+    }
+
+    /**
+     * Indices of some of the occurrences collapsed into this message. This value is optional.
+     *
+     * @return the indices of sample occurrences
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public List<Integer> getSampleIndices() {
+        return sampleIndices;
+    }
+
+    /**
+     * Sets the indices of some of the occurrences collapsed into this message.
+     *
+     * @param sampleIndices the indices of sample occurrences
+     */
+    public void setSampleIndices(final List<Integer> sampleIndices) {
+        checkNotFrozen();
+        this.sampleIndices = sampleIndices;
+    }
+
+    /**
+     * Position of this message among the messages created by its builder. This value is optional.
+     *
+     * @return the sequence number of this message
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public Long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Sets the position of this message among the messages created by its builder.
+     *
+     * @param sequence the sequence number of this message
+     */
+    public void setSequence(final Long sequence) {
+        checkNotFrozen();
+        this.sequence = sequence;
+    }
+
+    /**
+     * Origin of this message, for example the node that created it. This value is optional.
+     *
+     * @return the origin of this message
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public String getOrigin() {
+        return origin;
+    }
+
+    /**
+     * Sets the origin of this message.
+     *
+     * @param origin the origin of this message
+     */
+    public void setOrigin(final String origin) {
+        checkNotFrozen();
+        this.origin = origin;
+    }
+
+    /**
+     * Prevents further modifications of this message.
+     *
+     * @return this object
+     */
+    public ServiceMessage freeze() {
+        if (!frozen && sampleIndices != null) {
+            sampleIndices = Collections.unmodifiableList(sampleIndices);
+        }
+        frozen = true;
+        return this;
+    }
+
+    /**
+     * Determines if this message can no longer be modified.
+     *
+     * @return true if this message is frozen
+     */
+    @JsonIgnore
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Throws an exception if this message is frozen.
+     */
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new UnsupportedOperationException("The message is frozen");
+        }
+    }
+}
@@ -0,0 +1,556 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.api;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * An immutable list of messages that keeps the number of messages by type.
+ *
+ * <p>This is a persistent vector: a trie of 32-way nodes plus a tail with the last messages. Appending returns a new
+ * list sharing the nodes of this one, so previous lists remain valid, unchanged and safe to use from other threads.
+ * Appending costs O(log32 n). The first append to a list writes in place into the tail, so publishing the messages of a
+ * builder into a response is a constant time operation.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+public final class ServiceMessageList extends AbstractList<ServiceMessage> implements RandomAccess {
+    /**
+     * Bits of the index used in each level of the trie.
+     */
+    private static final int BITS = 5;
+
+    /**
+     * Number of children of each node of the trie and capacity of the tail.
+     */
+    private static final int WIDTH = 1 << BITS;
+
+    /**
+     * Mask for the index in a node of the trie.
+     */
+    private static final int MASK = WIDTH - 1;
+
+    /**
+     * The empty list. Its tail is fully claimed so that it never holds messages.
+     */
+    private static final ServiceMessageList EMPTY =
+            new ServiceMessageList(new Object[WIDTH], BITS, new Tail().copy(0, WIDTH), 0, 0, 0, 0);
+
+    /**
+     * Root node of the trie with all the messages but the tail.
+     */
+    private final Object[] root;
+
+    /**
+     * Bits to shift the index to get the position in the root node.
+     */
+    private final int shift;
+
+    /**
+     * Last messages, shared with the lists appended from this one.
+     */
+    private final Tail tail;
+
+    /**
+     * Number of messages in this list.
+     */
+    private final int size;
+
+    /**
+     * Number of error messages.
+     */
+    private final int errors;
+
+    /**
+     * Number of warning messages.
+     */
+    private final int warnings;
+
+    /**
+     * Number of informative messages.
+     */
+    private final int infos;
+
+    /**
+     * Constructor using fields.
+     *
+     * @param root     root node of the trie
+     * @param shift    bits to shift the index to get the position in the root node
+     * @param tail     last messages
+     * @param size     number of messages in this list
+     * @param errors   number of error messages
+     * @param warnings number of warning messages
+     * @param infos    number of informative messages
+     */
+    private ServiceMessageList(final Object[] root, final int shift, final Tail tail, final int size,
+                               final int errors, final int warnings, final int infos) {
+        this.root = root;
+        this.shift = shift;
+        this.tail = tail;
+        this.size = size;
+        this.errors = errors;
+        this.warnings = warnings;
+        this.infos = infos;
+    }
+
+    /**
+     * Returns the empty list.
+     *
+     * @return the empty list
+     */
+    public static ServiceMessageList empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a list with the messages of the collection. If the collection is a ServiceMessageList it is returned
+     * without copying.
+     *
+     * @param messages the messages to copy
+     * @return a list with the messages of the collection
+     */
+    public static ServiceMessageList copyOf(final Collection<? extends ServiceMessage> messages) {
+        if (messages instanceof ServiceMessageList) {
+            return (ServiceMessageList) messages;
+        }
+        return EMPTY.plusAll(messages);
+    }
+
+    /**
+     * Returns the position of the first message in the tail.
+     *
+     * @param count the number of messages
+     * @return the position of the first message in the tail
+     */
+    private static int tailOffset(final int count) {
+        if (count < WIDTH) {
+            return 0;
+        }
+        return ((count - 1) >>> BITS) << BITS;
+    }
+
+    @Override
+    public ServiceMessage get(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        final int tailOffset = tailOffset(size);
+        if (index >= tailOffset) {
+            return (ServiceMessage) tail.elements[index - tailOffset];
+        }
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+        }
+        return (ServiceMessage) node[index & MASK];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of messages of the type specified.
+     *
+     * @param type the type of the messages
+     * @return the number of messages of the type specified
+     */
+    public int count(final ServiceMessageType type) {
+        final int count;
+        if (type == ServiceMessageType.ERROR) {
+            count = errors;
+        } else if (type == ServiceMessageType.WARN) {
+            count = warnings;
+        } else if (type == ServiceMessageType.INFO) {
+            count = infos;
+        } else {
+            count = 0;
+        }
+        return count;
+    }
+
+    /**
+     * Determines if there are no error messages in this list.
+     *
+     * @return true if no errors where found.
+     */
+    public boolean isOk() {
+        return errors == 0;
+    }
+
+    /**
+     * Returns a list with the messages of this list followed by the message specified. This list is not modified.
+     *
+     * @param message the message to append
+     * @return the new list
+     */
+    public ServiceMessageList plus(final ServiceMessage message) {
+        final ServiceMessageType type = message.getType();
+        final int newErrors = type == ServiceMessageType.ERROR ? errors + 1 : errors;
+        final int newWarnings = type == ServiceMessageType.WARN ? warnings + 1 : warnings;
+        final int newInfos = type == ServiceMessageType.INFO ? infos + 1 : infos;
+        final int tailSize = size - tailOffset(size);
+        if (tailSize < WIDTH) {
+            final Tail newTail;
+            if (tail.claim(tailSize, tailSize + 1)) {
+                newTail = tail;
+            } else {
+                newTail = tail.copy(tailSize, tailSize + 1);
+            }
+            newTail.elements[tailSize] = message;
+            return new ServiceMessageList(root, shift, newTail, size + 1, newErrors, newWarnings, newInfos);
+        }
+        final Appender appender = new Appender(this);
+        appender.pushTail();
+        final Tail newTail = new Tail();
+        newTail.elements[0] = message;
+        newTail.claimed = 1;
+        return new ServiceMessageList(appender.root, appender.shift, newTail, size + 1, newErrors, newWarnings,
+                newInfos);
+    }
+
+    /**
+     * Returns a list with the messages of this list followed by the messages specified. This list is not modified.
+     *
+     * @param messages the messages to append
+     * @return the new list
+     */
+    public ServiceMessageList plusAll(final Collection<? extends ServiceMessage> messages) {
+        if (messages.isEmpty()) {
+            return this;
+        }
+        if (size == 0 && messages instanceof ServiceMessageList) {
+            return (ServiceMessageList) messages;
+        }
+        final Appender appender = new Appender(this);
+        appender.reserve(messages.size());
+        for (final ServiceMessage message : messages) {
+            appender.add(message);
+        }
+        return appender.toList();
+    }
+
+    /**
+     * Returns a list with the message at the position specified replaced. This list is not modified.
+     *
+     * @param index   the position of the message to replace
+     * @param message the new message
+     * @return the new list
+     */
+    public ServiceMessageList with(final int index, final ServiceMessage message) {
+        final ServiceMessageType oldType = get(index).getType();
+        final ServiceMessageType newType = message.getType();
+        final int newErrors = errors + delta(ServiceMessageType.ERROR, oldType, newType);
+        final int newWarnings = warnings + delta(ServiceMessageType.WARN, oldType, newType);
+        final int newInfos = infos + delta(ServiceMessageType.INFO, oldType, newType);
+        final int tailOffset = tailOffset(size);
+        if (index >= tailOffset) {
+            final int tailSize = size - tailOffset;
+            final Tail newTail = tail.copy(tailSize, tailSize);
+            newTail.elements[index - tailOffset] = message;
+            return new ServiceMessageList(root, shift, newTail, size, newErrors, newWarnings, newInfos);
+        }
+        return new ServiceMessageList(replace(shift, root, index, message), shift, tail, size, newErrors,
+                newWarnings, newInfos);
+    }
+
+    /**
+     * Returns the change in the number of messages of a type when a message is replaced.
+     *
+     * @param type    the type counted
+     * @param oldType the type of the replaced message
+     * @param newType the type of the new message
+     * @return the change in the number of messages of the type counted
+     */
+    private static int delta(final ServiceMessageType type, final ServiceMessageType oldType,
+                             final ServiceMessageType newType) {
+        return (newType == type ? 1 : 0) - (oldType == type ? 1 : 0);
+    }
+
+    /**
+     * Copies the path to the position specified replacing the message.
+     *
+     * @param level   the level of the node
+     * @param node    the node
+     * @param index   the position of the message to replace
+     * @param message the new message
+     * @return the copy of the node
+     */
+    private static Object[] replace(final int level, final Object[] node, final int index,
+                                    final ServiceMessage message) {
+        final Object[] copy = node.clone();
+        if (level == 0) {
+            copy[index & MASK] = message;
+        } else {
+            final int child = (index >>> level) & MASK;
+            copy[child] = replace(level - BITS, (Object[]) node[child], index, message);
+        }
+        return copy;
+    }
+
+    /**
+     * Returns a list with the messages of this list without the messages with the code specified. This list is not
+     * modified.
+     *
+     * @param code the code of the messages to remove
+     * @return the new list, or this list if there are no messages with the code specified
+     */
+    public ServiceMessageList without(final String code) {
+        int first = 0;
+        while (first < size && !Objects.equals(get(first).getCode(), code)) {
+            first++;
+        }
+        if (first == size) {
+            return this;
+        }
+        int removed = 0;
+        for (int i = first; i < size; i++) {
+            if (Objects.equals(get(i).getCode(), code)) {
+                removed++;
+            }
+        }
+        if (removed == size) {
+            return EMPTY;
+        }
+        final Appender appender = new Appender(EMPTY);
+        appender.reserve(size - removed);
+        for (int i = 0; i < size; i++) {
+            final ServiceMessage message = get(i);
+            if (i < first || !Objects.equals(message.getCode(), code)) {
+                appender.add(message);
+            }
+        }
+        return appender.toList();
+    }
+
+    /**
+     * Appends several messages to a list without creating intermediate lists.
+     */
+    private static final class Appender {
+        /**
+         * Root node of the trie.
+         */
+        private Object[] root;
+
+        /**
+         * Bits to shift the index to get the position in the root node.
+         */
+        private int shift;
+
+        /**
+         * Last messages.
+         */
+        private Tail tail;
+
+        /**
+         * Number of messages.
+         */
+        private int size;
+
+        /**
+         * Number of error messages.
+         */
+        private int errors;
+
+        /**
+         * Number of warning messages.
+         */
+        private int warnings;
+
+        /**
+         * Number of informative messages.
+         */
+        private int infos;
+
+        /**
+         * Constructor with the list to append to.
+         *
+         * @param list the list to append to
+         */
+        Appender(final ServiceMessageList list) {
+            this.root = list.root;
+            this.shift = list.shift;
+            this.tail = list.tail;
+            this.size = list.size;
+            this.errors = list.errors;
+            this.warnings = list.warnings;
+            this.infos = list.infos;
+        }
+
+        /**
+         * Claims the free positions of the tail for the messages to append, or copies the tail if they are taken.
+         * This method must be called before adding messages, with the exact number of messages to add.
+         *
+         * @param count the number of messages to append
+         */
+        void reserve(final int count) {
+            final int tailSize = size - tailOffset(size);
+            if (tailSize < WIDTH) {
+                final int claimed = Math.min(WIDTH, tailSize + count);
+                if (!tail.claim(tailSize, claimed)) {
+                    tail = tail.copy(tailSize, claimed);
+                }
+            }
+        }
+
+        /**
+         * Appends a message. Positions of the tail must have been reserved through {@link #reserve(int)}, new tails
+         * are owned by this appender until the list is created.
+         *
+         * @param message the message to append
+         */
+        void add(final ServiceMessage message) {
+            int tailSize = size - tailOffset(size);
+            if (tailSize == WIDTH) {
+                pushTail();
+                tail = new Tail();
+                tailSize = 0;
+            }
+            tail.elements[tailSize] = message;
+            size++;
+            final ServiceMessageType type = message.getType();
+            if (type == ServiceMessageType.ERROR) {
+                errors++;
+            } else if (type == ServiceMessageType.WARN) {
+                warnings++;
+            } else if (type == ServiceMessageType.INFO) {
+                infos++;
+            }
+        }
+
+        /**
+         * Moves the full tail into the trie.
+         */
+        void pushTail() {
+            final Object[] node = tail.elements;
+            if ((size >>> BITS) > (1 << shift)) {
+                final Object[] newRoot = new Object[WIDTH];
+                newRoot[0] = root;
+                newRoot[1] = newPath(shift, node);
+                root = newRoot;
+                shift += BITS;
+            } else {
+                root = pushTail(shift, root, node);
+            }
+        }
+
+        /**
+         * Copies the path to the position of the tail, adding the tail as a leaf.
+         *
+         * @param level  the level of the parent node
+         * @param parent the parent node
+         * @param node   the tail to add
+         * @return the copy of the parent node
+         */
+        private Object[] pushTail(final int level, final Object[] parent, final Object[] node) {
+            final int index = ((size - 1) >>> level) & MASK;
+            final Object[] copy = parent.clone();
+            if (level == BITS) {
+                copy[index] = node;
+            } else {
+                final Object[] child = (Object[]) parent[index];
+                if (child == null) {
+                    copy[index] = newPath(level - BITS, node);
+                } else {
+                    copy[index] = pushTail(level - BITS, child, node);
+                }
+            }
+            return copy;
+        }
+
+        /**
+         * Creates the nodes from the level specified down to the leaf node.
+         *
+         * @param level the level of the first node
+         * @param node  the leaf node
+         * @return the first node
+         */
+        private static Object[] newPath(final int level, final Object[] node) {
+            if (level == 0) {
+                return node;
+            }
+            final Object[] path = new Object[WIDTH];
+            path[0] = newPath(level - BITS, node);
+            return path;
+        }
+
+        /**
+         * Returns the list with the messages appended.
+         *
+         * @return the list with the messages appended
+         */
+        ServiceMessageList toList() {
+            final int tailSize = size - tailOffset(size);
+            if (tail.claimed < tailSize) {
+                tail.claimed = tailSize;
+            }
+            return new ServiceMessageList(root, shift, tail, size, errors, warnings, infos);
+        }
+    }
+
+    /**
+     * Append-only array with the last messages of several lists.
+     */
+    private static final class Tail {
+        /**
+         * Updater for claimed field.
+         */
+        private static final AtomicIntegerFieldUpdater<Tail> CLAIMED =
+                AtomicIntegerFieldUpdater.newUpdater(Tail.class, "claimed");
+
+        /**
+         * The messages, positions lower than claimed are never written again.
+         */
+        private final Object[] elements = new Object[WIDTH];
+
+        /**
+         * Number of positions written or reserved.
+         */
+        private volatile int claimed;
+
+        /**
+         * Claims the positions from {@code from} (inclusive) to {@code to} (exclusive).
+         *
+         * @param from the first position to claim, must be the number of positions claimed
+         * @param to   the number of positions claimed after claiming
+         * @return true if the positions were claimed
+         */
+        boolean claim(final int from, final int to) {
+            return claimed == from && CLAIMED.compareAndSet(this, from, to);
+        }
+
+        /**
+         * Copies the first positions of this tail into a new tail.
+         *
+         * @param count   the number of positions to copy
+         * @param claimed the number of positions claimed in the new tail
+         * @return the new tail
+         */
+        Tail copy(final int count, final int claimed) {
+            final Tail copy = new Tail();
+            System.arraycopy(elements, 0, copy.elements, 0, count);
+            copy.claimed = claimed;
+            return copy;
+        }
+    }
+}
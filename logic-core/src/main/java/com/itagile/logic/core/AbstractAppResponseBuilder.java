@@ -0,0 +1,1199 @@
+/*
+ * Copyright (c) 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import com.itagile.logic.api.AppResponse;
+import com.itagile.logic.api.ResponseDelta;
+import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageList;
+import com.itagile.logic.api.ServiceMessageType;
+
+/**
+ * Abstract base class for AppResponse builder implementations.
+ *
+ * @author Javier Alcala
+ * @since 1.0.0
+ */
+public abstract class AbstractAppResponseBuilder implements ResponseBuilder {
+    /**
+     * Code of the notice summarizing the messages omitted to fit the size budget.
+     */
+    public static final String TRUNCATED_CODE = "RESPONSE_TRUNCATED";
+
+    /**
+     * List of messages for this response. Appending replaces the list, so lists already returned stay unchanged.
+     */
+    private ServiceMessageList messages = ServiceMessageList.empty();
+
+    /**
+     * The messages and the version of the first one, published together for {@link #deltaSince(long)} from other
+     * threads. The version of the first message increases on each reset so versions never decrease.
+     */
+    private volatile DeltaSnapshot snapshot = DeltaSnapshot.EMPTY;
+
+    /**
+     * The service for custom ServiceMessage instantiation.
+     */
+    private MessageProvider messageProvider;
+
+    /**
+     * The service resolving the patterns of many messages in a single lookup.
+     */
+    private BatchMessageProvider batchMessageProvider;
+
+    /**
+     * Messages appended whose pattern is not resolved yet by the batch message provider.
+     */
+    private List<DeferredMessage> deferred;
+
+    /**
+     * Notifications of the messages appended while patterns are not resolved yet, delivered in order once the
+     * patterns are resolved so listeners never see a message without text.
+     */
+    private List<Runnable> deferredEvents;
+
+    /**
+     * Metrics of the messages created by this builder, null if metrics are not recorded.
+     */
+    private MessageMetrics metrics;
+
+    /**
+     * Listener of the messages created by this builder, null if messages are not notified.
+     */
+    private MessageListener listener;
+
+    /**
+     * Determines if the messages created by this builder are stamped with their sequence number and origin.
+     */
+    private boolean sequencing;
+
+    /**
+     * Origin stamped on the messages created by this builder.
+     */
+    private String origin;
+
+    /**
+     * Sequence number of the next message created by this builder.
+     */
+    private long sequence;
+
+    /**
+     * How duplicated messages are identified, null when duplicates are not collapsed.
+     */
+    private DuplicateKey duplicateKey;
+
+    /**
+     * Maximum number of occurrence indices kept in each collapsed message.
+     */
+    private int sampleSize;
+
+    /**
+     * Collapsed messages by key.
+     */
+    private Map<MessageKey, ServiceMessage> duplicates;
+
+    /**
+     * Number of messages appended to this builder, including collapsed duplicates.
+     */
+    private int occurrences;
+
+    /**
+     * Message waiting for an optional code before being collapsed.
+     */
+    private PendingMessage pending;
+
+    /**
+     * Determines if the last message was appended from other response, so it may be shared and frozen.
+     */
+    private boolean lastShared;
+
+    /**
+     * The size budget of the response serialized, null if the size is not limited.
+     */
+    private SizeBudget budget;
+
+    /**
+     * The last checkpoint not released, null if there are no checkpoints.
+     */
+    private Checkpoint mark;
+
+    /**
+     * Changes to messages appended before a checkpoint, undone in reverse order on rollback, null if there are no
+     * checkpoints.
+     */
+    private UndoLog undo;
+
+    /**
+     * Determines if this response was successful.
+     *
+     * @return true if no errors where found.
+     */
+    @Override
+    public final boolean isOk() {
+        flushPending();
+        flushNotice();
+        return messages.isOk();
+    }
+
+    /**
+     * Returns the list of messages for this response. The list returned is immutable and it is not affected by
+     * messages appended later, so it can be published into a response without copying. Patterns not resolved yet by
+     * the batch message provider are resolved in a single lookup.
+     *
+     * @return the list of messages
+     */
+    @Override
+    public final ServiceMessageList getMessages() {
+        flushPending();
+        resolveDeferred();
+        flushNotice();
+        return messages;
+    }
+
+    /**
+     * Replaces the list of messages and publishes it with the version of the first message. While patterns are not
+     * resolved yet, the list is published once they are resolved.
+     *
+     * @param list the new list of messages
+     */
+    private void setMessages(final ServiceMessageList list) {
+        messages = list;
+        if (deferred == null) {
+            snapshot = snapshot.with(list);
+        }
+    }
+
+    /**
+     * Replaces the list of messages after the versions of the current messages, so versions never decrease. While
+     * patterns are not resolved yet, no message is published until they are resolved.
+     *
+     * @param list the new list of messages
+     */
+    private void restart(final ServiceMessageList list) {
+        snapshot = snapshot.restart(deferred == null ? list : ServiceMessageList.empty(), messages.size());
+        messages = list;
+    }
+
+    /**
+     * Appends the notice of the messages omitted to fit the size budget, or replaces it if more messages were omitted
+     * since it was appended. The notice is an error if any error was omitted, otherwise a warning.
+     */
+    private void flushNotice() {
+        final ServiceMessage notice = budget == null ? null : budget.notice();
+        if (notice == null) {
+            return;
+        }
+        final int index = budget.noticeIndex(messages.size());
+        if (index == messages.size()) {
+            setMessages(messages.plus(notice));
+        } else {
+            setMessages(messages.with(index, notice));
+        }
+    }
+
+    /**
+     * Resolves the patterns not resolved yet by the batch message provider in a single lookup.
+     */
+    private void resolveDeferred() {
+        if (deferred != null) {
+            final List<DeferredMessage> batch = deferred;
+            final List<Runnable> events = deferredEvents;
+            deferred = null;
+            deferredEvents = null;
+            resolved(batch, batchMessageProvider.getPatterns(keys(batch)), events);
+        }
+    }
+
+    /**
+     * Resolves the patterns not resolved yet by the batch message provider asynchronously. This builder must not be
+     * used until the future returned is completed.
+     *
+     * @return a future completed when the patterns are resolved
+     */
+    protected final CompletableFuture<Void> resolveAsync() {
+        flushPending();
+        if (deferred == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        final List<DeferredMessage> batch = deferred;
+        final List<Runnable> events = deferredEvents;
+        deferred = null;
+        deferredEvents = null;
+        return batchMessageProvider.getPatternsAsync(keys(batch))
+                .thenAccept(patterns -> resolved(batch, patterns, events));
+    }
+
+    /**
+     * Returns the keys of the messages without duplicates.
+     *
+     * @param batch the messages whose pattern is not resolved
+     * @return the keys of the messages
+     */
+    private static Set<String> keys(final List<DeferredMessage> batch) {
+        final Set<String> keys = new LinkedHashSet<>();
+        batch.forEach(x -> keys.add(x.key));
+        return keys;
+    }
+
+    /**
+     * Formats the messages with the patterns resolved, then publishes the messages and delivers the notifications
+     * held back while the patterns were not resolved.
+     *
+     * @param batch    the messages whose pattern is not resolved
+     * @param patterns the patterns by key
+     * @param events   the notifications held back
+     */
+    private void resolved(final List<DeferredMessage> batch, final Map<String, String> patterns,
+            final List<Runnable> events) {
+        for (final DeferredMessage message : batch) {
+            final String pattern = patterns.get(message.key);
+            final String text = pattern == null ? message.key : pattern;
+            message.dto.setMessage(message.args.length == 0 ? text : TextUtils.format(text, message.args));
+        }
+        setMessages(messages);
+        events.forEach(Runnable::run);
+    }
+
+    /**
+     * Removes all messages so this builder can be reused, keeping its configuration. Lists of messages already
+     * returned and responses already built are not affected.
+     */
+    public final void reset() {
+        deferred = null;
+        deferredEvents = null;
+        restart(ServiceMessageList.empty());
+        if (duplicates != null) {
+            duplicates.clear();
+        }
+        occurrences = 0;
+        sequence = 0;
+        pending = null;
+        lastShared = false;
+        if (budget != null) {
+            budget.reset();
+        }
+        mark = null;
+        undo = null;
+    }
+
+    /**
+     * Marks a checkpoint, so the messages appended since then can be discarded, for example to try other
+     * interpretation of the input when a speculative validation fails. Checkpoints can be nested. Marking runs in
+     * O(1), sharing the messages appended so far, and resetting the builder releases the checkpoints.
+     *
+     * @return the checkpoint
+     */
+    public final ResponseMark mark() {
+        flushPending();
+        mark = new Checkpoint(mark);
+        if (undo == null) {
+            undo = new UndoLog();
+        }
+        return mark;
+    }
+
+    /**
+     * Discards the messages appended since a checkpoint, restoring the ok state and the codes of the messages kept,
+     * and releases the checkpoint. It runs in O(1) plus the changes undone, like the codes set and the
+     * occurrences counted on messages appended before the checkpoint. Messages already notified to the listener or
+     * recorded in the metrics are not withdrawn. If any message is discarded, the version increases as after a
+     * {@link #reset()}, so polling clients receive all the messages again.
+     *
+     * @param mark the checkpoint returned by {@link #mark()}
+     * @return this object
+     * @throws IllegalArgumentException if the checkpoint is not active in this builder
+     */
+    public final ResponseBuilder rollbackTo(final ResponseMark mark) {
+        final Checkpoint checkpoint = active(mark);
+        pending = null;
+        undo.undo(checkpoint.undoSize);
+        if (deferred != null && deferred == checkpoint.deferred) {
+            deferred.subList(checkpoint.deferredSize, deferred.size()).clear();
+            deferredEvents.subList(checkpoint.deferredEventsSize, deferredEvents.size()).clear();
+        } else {
+            deferred = null;
+            deferredEvents = null;
+        }
+        if (messages != checkpoint.messages) {
+            restart(checkpoint.messages);
+        }
+        occurrences = checkpoint.occurrences;
+        sequence = checkpoint.sequence;
+        lastShared = checkpoint.lastShared;
+        if (budget != null) {
+            budget.restore(checkpoint.budget);
+        }
+        release(checkpoint);
+        return this;
+    }
+
+    /**
+     * Keeps the messages appended since a checkpoint in O(1) and releases the checkpoint.
+     *
+     * @param mark the checkpoint returned by {@link #mark()}
+     * @return this object
+     * @throws IllegalArgumentException if the checkpoint is not active in this builder
+     */
+    public final ResponseBuilder commit(final ResponseMark mark) {
+        release(active(mark));
+        return this;
+    }
+
+    /**
+     * Returns a checkpoint of this builder not released yet.
+     *
+     * @param responseMark the checkpoint
+     * @return the checkpoint
+     * @throws IllegalArgumentException if the checkpoint is not active in this builder
+     */
+    private Checkpoint active(final ResponseMark responseMark) {
+        for (Checkpoint checkpoint = mark; checkpoint != null; checkpoint = checkpoint.parent) {
+            if (checkpoint == responseMark) {
+                return checkpoint;
+            }
+        }
+        throw new IllegalArgumentException("The mark is not active in this builder");
+    }
+
+    /**
+     * Releases a checkpoint and the checkpoints marked after it.
+     *
+     * @param checkpoint the checkpoint
+     */
+    private void release(final Checkpoint checkpoint) {
+        mark = checkpoint.parent;
+        if (mark == null) {
+            undo = null;
+        }
+    }
+
+    /**
+     * Returns the version of the messages appended, which increases with each message and never decreases.
+     *
+     * @return the version of the messages appended
+     */
+    public final long getVersion() {
+        return snapshot.getVersion();
+    }
+
+    /**
+     * Returns the messages appended since a version, in O(delta) and sharing the messages without copying them.
+     * Polling clients merge the deltas through {@link ResponseDelta#merge(ResponseDelta)}. If the version is not
+     * reached yet or from before a reset, the delta has all the messages and is since version zero.
+     *
+     * <p>It can be called from other threads while messages are appended: it reads a snapshot of the messages
+     * appended, without the last message when duplicates are collapsed. While the batch message provider has patterns
+     * not resolved yet, the snapshot stops before them and the messages appended since are published once resolved.
+     * Changes to messages already returned, like the counts of collapsed duplicates, are not part of later deltas.
+     *
+     * @param version the version of the last delta merged by the client
+     * @return the messages appended since the version
+     */
+    public final ResponseDelta deltaSince(final long version) {
+        return snapshot.deltaSince(version);
+    }
+
+    /**
+     * Sets the service for custom ServiceMessage instantiation.
+     *
+     * @param messageProvider the service for custom ServiceMessage instantiation
+     */
+    protected void setMessageProvider(final MessageProvider messageProvider) {
+        this.messageProvider = messageProvider;
+    }
+
+    /**
+     * Sets the service resolving the patterns of many messages in a single lookup. It takes precedence over the
+     * message provider. Messages collapsed by formatted text are resolved when they are appended.
+     *
+     * @param batchMessageProvider the service resolving patterns, null resolves each message when it is appended
+     */
+    protected void setBatchMessageProvider(final BatchMessageProvider batchMessageProvider) {
+        this.batchMessageProvider = batchMessageProvider;
+    }
+
+    /**
+     * Sets the metrics of the messages created by this builder. Messages appended from other responses are not
+     * counted.
+     *
+     * @param metrics the metrics, null stops recording
+     */
+    protected void setMetrics(final MessageMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Sets the listener notified of the messages created by this builder and of the responses built. Messages
+     * appended from other responses are not notified. Messages resolved by the batch message provider are notified
+     * once their patterns are resolved, together with the messages and codes appended after them.
+     *
+     * @param listener the listener, null stops notifying
+     */
+    protected void setListener(final MessageListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Stamps each message created by this builder with its sequence number, starting at zero, and an origin, so the
+     * responses of many nodes can be merged in order. Messages appended from other responses keep their own values.
+     *
+     * @param origin the origin of the messages, for example the node name, null for no origin
+     */
+    protected void setSequencing(final String origin) {
+        this.sequencing = true;
+        this.origin = origin;
+    }
+
+    /**
+     * Limits the size of the response serialized as compact JSON by Jackson with its default configuration. The size
+     * of each message is estimated when it is appended, without serializing it. The text of the first message that
+     * does not fit is truncated, and further messages are omitted without formatting them, summarized by a single
+     * notice with code {@link #TRUNCATED_CODE}: an error if any error was omitted, so the ok state is kept, otherwise
+     * a warning. Collapsed messages are estimated with their maximum count and occurrence indices, and a code set
+     * through {@link #withCode(String)} that does not fit replaces the message with the notice. Properties other than
+     * the ok state and the messages, like the data of the response, are not counted. A batch message provider
+     * resolves each message when it is appended, so its size is known.
+     *
+     * @param sizeBudget the maximum size in bytes, zero for no limit
+     */
+    protected void setSizeBudget(final int sizeBudget) {
+        this.budget = sizeBudget == 0 ? null : new SizeBudget(sizeBudget, this::sizeOf);
+    }
+
+    /**
+     * Determines if a message fits the size budget, resolving the patterns not resolved yet so its size is known.
+     *
+     * @param dto    the message to append
+     * @param shared true if the message is appended from other response, so it can't be modified
+     * @return true if the message is appended
+     */
+    private boolean fits(final ServiceMessage dto, final boolean shared) {
+        if (dto.getMessage() == null && deferred != null && !budget.isExhausted()) {
+            resolveDeferred();
+        }
+        return budget.fits(dto, shared);
+    }
+
+    /**
+     * Returns the size of a message counted in the size budget.
+     *
+     * @param dto the message
+     * @return the size in bytes
+     */
+    private int sizeOf(final ServiceMessage dto) {
+        return duplicateKey == null ? JsonSize.of(dto) : JsonSize.ofCollapsed(dto, sampleSize);
+    }
+
+    /**
+     * Determines if the code of a message appended fits the size budget, otherwise the message is replaced with the
+     * notice of the messages omitted.
+     *
+     * @param index   the position of the message
+     * @param message the message
+     * @param code    the new code
+     * @return true if the code can be set
+     */
+    private boolean codeFits(final int index, final ServiceMessage message, final String code) {
+        if (budget == null || budget.codeFits(index, message, code)) {
+            return true;
+        }
+        flushNotice();
+        return false;
+    }
+
+    /**
+     * Determines if the size budget is reached, so further messages are omitted without formatting them.
+     *
+     * @return true if the size budget is reached
+     */
+    private boolean exhausted() {
+        return budget != null && budget.isExhausted();
+    }
+
+    /**
+     * Determines if the last message was omitted to fit the size budget, so its code is ignored.
+     *
+     * @return true if the last message was omitted
+     */
+    private boolean lastOmitted() {
+        return budget != null && budget.isLastOmitted();
+    }
+
+    /**
+     * Notifies the listener of a response built.
+     *
+     * @param response the response built
+     */
+    protected final void notifyBuilt(final AppResponse response) {
+        if (listener != null) {
+            listener.responseBuilt(response);
+        }
+    }
+
+    /**
+     * Enables collapsing duplicated messages into a single message carrying the number of occurrences. The
+     * occurrence index is the position of the message among all messages appended to this builder.
+     *
+     * @param duplicateKey how duplicated messages are identified, null disables collapsing
+     * @param sampleSize   maximum number of occurrence indices kept in each collapsed message
+     */
+    protected void setDuplicateCollapsing(final DuplicateKey duplicateKey, final int sampleSize) {
+        if (sampleSize < 0) {
+            throw new IllegalArgumentException("sampleSize must not be negative");
+        }
+        flushPending();
+        this.duplicateKey = duplicateKey;
+        this.sampleSize = sampleSize;
+    }
+
+    /**
+     * Appends a message and changes the ok state to false if the type is ERROR.
+     *
+     * @param type the type of this message
+     * @param message the error message to append
+     * @param args arguments referenced by the format specifiers in the format string
+     * @return this object
+     */
+    private ResponseBuilder addMessage(final ServiceMessageType type, final String message,
+            final Object... args) {
+        if (exhausted()) {
+            budget.omit(type);
+        } else if (duplicateKey == null) {
+            append(createMessage(type, message, args), args.length > 0);
+        } else {
+            flushPending();
+            pending = new PendingMessage(type, message, args);
+        }
+        return this;
+    }
+
+    /**
+     * Creates the message from a template using the message provider if any.
+     *
+     * @param template the template of the message
+     * @param args arguments referenced by the format specifiers in the template
+     * @return the new message
+     */
+    private ServiceMessage createMessage(final MessageTemplate template, final Object... args) {
+        if (batchMessageProvider != null) {
+            final ServiceMessage dto = defer(template.getType(), template.getPattern(), args);
+            dto.setCode(template.getCode());
+            return dto;
+        }
+        if (messageProvider == null) {
+            final Object event = MessageEvents.beginFormat();
+            final long start = metrics == null ? 0 : System.nanoTime();
+            final ServiceMessage dto = template.toMessage(args);
+            formatted(event, start, template.getPattern(), args);
+            return dto;
+        }
+        final ServiceMessage dto = resolve(template.getType(), template.getPattern(), args);
+        dto.setCode(template.getCode());
+        return dto;
+    }
+
+    /**
+     * Creates the message using the message provider.
+     *
+     * @param type the type of this message
+     * @param message the message or pattern to resolve
+     * @param args arguments referenced by the format specifiers in the pattern
+     * @return the new message
+     */
+    private ServiceMessage resolve(final ServiceMessageType type, final String message, final Object... args) {
+        final Object event = MessageEvents.beginResolve();
+        final long start = metrics == null ? 0 : System.nanoTime();
+        final ServiceMessage dto = messageProvider.getMessage(type, message, args);
+        MessageEvents.resolved(event, type, message);
+        if (metrics != null) {
+            metrics.recordResolve(System.nanoTime() - start);
+        }
+        return dto;
+    }
+
+    /**
+     * Records the format of a message.
+     *
+     * @param event the event returned by {@link MessageEvents#beginFormat()}
+     * @param start the time in nanoseconds when formatting started, if metrics are recorded
+     * @param pattern the pattern formatted
+     * @param args the arguments formatted
+     */
+    private void formatted(final Object event, final long start, final String pattern, final Object[] args) {
+        MessageEvents.formatted(event, pattern, args);
+        if (metrics != null) {
+            metrics.recordFormat(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Creates the message using the message provider if any.
+     *
+     * @param type the type of this message
+     * @param message the error message to append
+     * @param args arguments referenced by the format specifiers in the format string
+     * @return the new message
+     */
+    private ServiceMessage createMessage(final ServiceMessageType type, final String message,
+            final Object... args) {
+        final ServiceMessage dto;
+        if (batchMessageProvider != null) {
+            dto = defer(type, message, args);
+        } else if (messageProvider == null) {
+            if (args.length == 0) {
+                dto = ServiceMessage.of(type, message);
+            } else {
+                final Object event = MessageEvents.beginFormat();
+                final long start = metrics == null ? 0 : System.nanoTime();
+                dto = ServiceMessage.of(type, TextUtils.format(message, args));
+                formatted(event, start, message, args);
+            }
+        } else {
+            dto = resolve(type, message, args);
+        }
+        return dto;
+    }
+
+    /**
+     * Creates a message whose text is resolved later by the batch message provider. Messages collapsed by formatted
+     * text are resolved immediately, together with the messages not resolved yet.
+     *
+     * @param type the type of this message
+     * @param key the key of the pattern to resolve
+     * @param args arguments referenced by the format specifiers in the pattern
+     * @return the new message
+     */
+    private ServiceMessage defer(final ServiceMessageType type, final String key, final Object... args) {
+        final ServiceMessage dto = ServiceMessage.of(type, null);
+        if (deferred == null) {
+            deferred = new ArrayList<>();
+            deferredEvents = new ArrayList<>();
+        }
+        deferred.add(new DeferredMessage(dto, key, args));
+        if (duplicateKey == DuplicateKey.FORMATTED) {
+            resolveDeferred();
+        }
+        return dto;
+    }
+
+    /**
+     * Appends a message, the ok state changes to false if the type is ERROR.
+     *
+     * @param dto the message to append
+     * @param formatted true if the message was formatted with arguments
+     */
+    private void append(final ServiceMessage dto, final boolean formatted) {
+        if (sequencing) {
+            dto.setSequence(sequence++);
+            dto.setOrigin(origin);
+        }
+        if (budget != null && !fits(dto, false)) {
+            if (sequencing) {
+                sequence--;
+            }
+            return;
+        }
+        setMessages(messages.plus(dto));
+        lastShared = false;
+        added(dto, formatted);
+    }
+
+    /**
+     * Records a message created by this builder. The message is notified once the patterns not resolved yet are
+     * resolved.
+     *
+     * @param dto the message created
+     * @param formatted true if the message was formatted with arguments
+     */
+    private void added(final ServiceMessage dto, final boolean formatted) {
+        if (metrics != null) {
+            metrics.recordMessage(dto);
+        }
+        if (deferred == null) {
+            notifyAdded(dto, formatted);
+        } else {
+            deferredEvents.add(() -> notifyAdded(dto, formatted));
+        }
+    }
+
+    /**
+     * Notifies a message created by this builder.
+     *
+     * @param dto the message created
+     * @param formatted true if the message was formatted with arguments
+     */
+    private void notifyAdded(final ServiceMessage dto, final boolean formatted) {
+        MessageEvents.added(dto, formatted);
+        if (listener != null) {
+            listener.messageAdded(dto);
+        }
+    }
+
+    /**
+     * Notifies the code set on a message created by this builder, once the patterns not resolved yet are resolved.
+     *
+     * @param dto the message whose code was set
+     */
+    private void codeChanged(final ServiceMessage dto) {
+        if (listener == null) {
+            return;
+        }
+        if (deferred == null) {
+            listener.codeChanged(dto);
+        } else {
+            deferredEvents.add(() -> listener.codeChanged(dto));
+        }
+    }
+
+    /**
+     * Appends the pending message, or counts it as an occurrence of the message with the same key.
+     */
+    private void flushPending() {
+        if (pending == null) {
+            return;
+        }
+        final PendingMessage current = pending;
+        pending = null;
+        final int weight = current.source == null || current.source.getCount() == null ? 1
+                : current.source.getCount();
+        final int index = occurrences;
+        occurrences += weight;
+        ServiceMessage dto = null;
+        final MessageKey key;
+        if (duplicateKey == DuplicateKey.PATTERN) {
+            key = new MessageKey(current.type, current.message, current.code);
+        } else {
+            dto = current.create();
+            key = new MessageKey(dto.getType(), dto.getMessage(), dto.getCode());
+        }
+        if (duplicates == null) {
+            duplicates = new HashMap<>();
+        }
+        final ServiceMessage duplicate = duplicates.get(key);
+        if (duplicate == null) {
+            if (dto == null) {
+                dto = current.create();
+            }
+            dto.setCount(weight);
+            if (sampleSize > 0) {
+                final List<Integer> samples = new ArrayList<>();
+                samples.add(index);
+                dto.setSampleIndices(samples);
+            }
+            if (current.source == null) {
+                append(dto, current.args.length > 0);
+            } else if (budget == null || fits(dto, false)) {
+                setMessages(messages.plus(dto));
+                lastShared = false;
+            }
+            if (!lastOmitted()) {
+                duplicates.put(key, dto);
+                if (mark != null) {
+                    undo.add(() -> duplicates.remove(key));
+                }
+            }
+        } else {
+            if (current.source == null) {
+                added(duplicate, current.args.length > 0);
+            }
+            final List<Integer> samples = duplicate.getSampleIndices();
+            if (mark != null) {
+                final int count = duplicate.getCount();
+                final int sampled = samples == null ? 0 : samples.size();
+                undo.add(() -> {
+                    duplicate.setCount(count);
+                    if (samples != null) {
+                        samples.subList(sampled, samples.size()).clear();
+                    }
+                });
+            }
+            duplicate.setCount(duplicate.getCount() + weight);
+            if (samples != null && samples.size() < sampleSize) {
+                samples.add(index);
+            }
+        }
+    }
+
+    @Override
+    public final ResponseBuilder addError(final String message) {
+        return addMessage(ServiceMessageType.ERROR, message);
+    }
+
+    @Override
+    public final ResponseBuilder addError(final String message, final Object... args) {
+        return addMessage(ServiceMessageType.ERROR, message, args);
+    }
+
+    @Override
+    public final ResponseBuilder addWarning(final String message) {
+        return addMessage(ServiceMessageType.WARN, message);
+    }
+
+    @Override
+    public final ResponseBuilder addWarning(final String message, final Object... args) {
+        return addMessage(ServiceMessageType.WARN, message, args);
+    }
+
+    @Override
+    public final ResponseBuilder addInfo(final String message) {
+        return addMessage(ServiceMessageType.INFO, message);
+    }
+
+    @Override
+    public final ResponseBuilder addInfo(final String message, final Object... args) {
+        return addMessage(ServiceMessageType.INFO, message, args);
+    }
+
+    @Override
+    public final ResponseBuilder add(final MessageTemplate template, final Object... args) {
+        if (exhausted()) {
+            budget.omit(template.getType());
+        } else if (duplicateKey == null) {
+            append(createMessage(template, args), args.length > 0);
+        } else {
+            flushPending();
+            pending = new PendingMessage(template.getType(), template.getPattern(), args);
+            pending.template = template;
+            pending.code = template.getCode();
+        }
+        return this;
+    }
+
+    @Override
+    public final ResponseBuilder addAll(final AppResponse response) {
+        return addAll(response.getMessages());
+    }
+
+    @Override
+    public final ResponseBuilder addAll(final Collection<ServiceMessage> messages) {
+        messages.forEach(message -> addMessage(message.getType(), message.getMessage()));
+        return this;
+    }
+
+    /**
+     * Appends all messages from response object as they are, see {@link #addAllShared(Collection)}.
+     *
+     * @param response the service response to append
+     * @return this object
+     */
+    public final ResponseBuilder addAllShared(final AppResponse response) {
+        return addAllShared(response.getMessages());
+    }
+
+    /**
+     * Appends all messages from list as they are, keeping their codes and without applying the message provider.
+     * Frozen messages, like the messages of cached responses, are shared without copying them, other messages are
+     * copied. When duplicates are collapsed, each message is counted as many times as its count property.
+     *
+     * @param messages the list of messages
+     * @return this object
+     */
+    public final ResponseBuilder addAllShared(final Collection<ServiceMessage> messages) {
+        if (duplicateKey == null && budget == null && allFrozen(messages)) {
+            if (!messages.isEmpty()) {
+                setMessages(this.messages.plusAll(messages));
+                lastShared = true;
+            }
+            return this;
+        }
+        for (final ServiceMessage message : messages) {
+            final ServiceMessage shared = message.isFrozen() ? message : copyOf(message, message.getCode()).freeze();
+            if (duplicateKey != null) {
+                flushPending();
+                pending = new PendingMessage(shared.getType(), shared.getMessage(), null);
+                pending.source = shared;
+                pending.code = shared.getCode();
+            } else if (budget == null || fits(shared, true)) {
+                setMessages(this.messages.plus(shared));
+                lastShared = true;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Determines if all messages are frozen.
+     *
+     * @param messages the messages to check
+     * @return true if every message is frozen
+     */
+    private static boolean allFrozen(final Collection<ServiceMessage> messages) {
+        for (final ServiceMessage message : messages) {
+            if (!message.isFrozen()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Copies a message with all its properties.
+     *
+     * @param message the message to copy
+     * @param code the code of the copy
+     * @return the copy, not frozen
+     */
+    private static ServiceMessage copyOf(final ServiceMessage message, final String code) {
+        final ServiceMessage copy = ServiceMessage.of(message.getType(), message.getMessage(), code);
+        copy.setCount(message.getCount());
+        if (message.getSampleIndices() != null) {
+            copy.setSampleIndices(new ArrayList<>(message.getSampleIndices()));
+        }
+        copy.setSequence(message.getSequence());
+        copy.setOrigin(message.getOrigin());
+        return copy;
+    }
+
+    /**
+     * Sets the code of the last message appended. A message appended from other response is replaced with a copy,
+     * so the other response is not modified.
+     *
+     * @param code the code of the last message
+     * @return this object
+     */
+    @Override
+    public ResponseBuilder withCode(final String code) {
+        if (pending != null) {
+            pending.code = code;
+        } else if (messages.size() > 0 && !lastOmitted()) {
+            final int last = messages.size() - 1;
+            final ServiceMessage message = messages.get(last);
+            if (!codeFits(last, message, code)) {
+                return this;
+            }
+            if (lastShared) {
+                setMessages(messages.with(last, copyOf(message, code)));
+                lastShared = false;
+            } else {
+                if (mark != null && last < mark.messages.size()) {
+                    final String previous = message.getCode();
+                    undo.add(() -> message.setCode(previous));
+                }
+                message.setCode(code);
+                if (metrics != null) {
+                    metrics.recordCode(code);
+                }
+                codeChanged(message);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public boolean hasCode(final String code) {
+        flushPending();
+        flushNotice();
+        return messages.stream().anyMatch(x -> Objects.equals(x.getCode(), code));
+    }
+
+    /**
+     * A checkpoint of the state of this builder.
+     */
+    private final class Checkpoint implements ResponseMark {
+        /**
+         * The checkpoint marked before this one, null if none.
+         */
+        private final Checkpoint parent;
+
+        /**
+         * The messages appended.
+         */
+        private final ServiceMessageList messages;
+
+        /**
+         * Number of changes to undo when this checkpoint was marked.
+         */
+        private final int undoSize;
+
+        /**
+         * The messages whose pattern is not resolved yet.
+         */
+        private final List<DeferredMessage> deferred;
+
+        /**
+         * Number of messages whose pattern is not resolved yet.
+         */
+        private final int deferredSize;
+
+        /**
+         * Number of notifications held back until the patterns are resolved.
+         */
+        private final int deferredEventsSize;
+
+        /**
+         * Number of messages appended, including collapsed duplicates.
+         */
+        private final int occurrences;
+
+        /**
+         * Sequence number of the next message.
+         */
+        private final long sequence;
+
+        /**
+         * Determines if the last message was appended from other response.
+         */
+        private final boolean lastShared;
+
+        /**
+         * The state of the size budget, null if the size is not limited.
+         */
+        private final SizeBudget budget;
+
+        /**
+         * Constructor capturing the state of the builder.
+         *
+         * @param parent the checkpoint marked before this one, null if none
+         */
+        Checkpoint(final Checkpoint parent) {
+            final AbstractAppResponseBuilder builder = AbstractAppResponseBuilder.this;
+            this.parent = parent;
+            this.messages = builder.messages;
+            this.undoSize = builder.undo == null ? 0 : builder.undo.size();
+            this.deferred = builder.deferred;
+            this.deferredSize = builder.deferred == null ? 0 : builder.deferred.size();
+            this.deferredEventsSize = builder.deferredEvents == null ? 0 : builder.deferredEvents.size();
+            this.occurrences = builder.occurrences;
+            this.sequence = builder.sequence;
+            this.lastShared = builder.lastShared;
+            this.budget = builder.budget == null ? null : builder.budget.copy();
+        }
+
+        @Override
+        public boolean isActive() {
+            for (Checkpoint checkpoint = mark; checkpoint != null; checkpoint = checkpoint.parent) {
+                if (checkpoint == this) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A message appended while collapsing duplicates, its code may still be set through {@link #withCode(String)}.
+     */
+    private final class PendingMessage {
+        /**
+         * The type of this message.
+         */
+        private final ServiceMessageType type;
+
+        /**
+         * The message or pattern.
+         */
+        private final String message;
+
+        /**
+         * Arguments referenced by the format specifiers in the pattern.
+         */
+        private final Object[] args;
+
+        /**
+         * The template of this message, null if appended from a pattern.
+         */
+        private MessageTemplate template;
+
+        /**
+         * The message appended from other response, null if appended from a pattern or template.
+         */
+        private ServiceMessage source;
+
+        /**
+         * The code of this message.
+         */
+        private String code;
+
+        /**
+         * Constructor using fields.
+         *
+         * @param type    the type of this message
+         * @param message the message or pattern
+         * @param args    arguments referenced by the format specifiers in the pattern
+         */
+        PendingMessage(final ServiceMessageType type, final String message, final Object[] args) {
+            this.type = type;
+            this.message = message;
+            this.args = args;
+        }
+
+        /**
+         * Creates the message using the message provider if any. The code of this message replaces the code set by
+         * the message provider only when it is set.
+         *
+         * @return the new message
+         */
+        ServiceMessage create() {
+            final ServiceMessage dto;
+            if (source != null) {
+                dto = ServiceMessage.of(source.getType(), source.getMessage());
+            } else if (template == null) {
+                dto = createMessage(type, message, args);
+            } else {
+                dto = createMessage(template, args);
+            }
+            if (code != null) {
+                dto.setCode(code);
+            }
+            return dto;
+        }
+    }
+
+    /**
+     * A message whose text is resolved later by the batch message provider.
+     */
+    private static final class DeferredMessage {
+        /**
+         * The message appended.
+         */
+        private final ServiceMessage dto;
+
+        /**
+         * The key of the pattern to resolve.
+         */
+        private final String key;
+
+        /**
+         * Arguments referenced by the format specifiers in the pattern.
+         */
+        private final Object[] args;
+
+        /**
+         * Constructor using fields.
+         *
+         * @param dto  the message appended
+         * @param key  the key of the pattern to resolve
+         * @param args arguments referenced by the format specifiers in the pattern
+         */
+        DeferredMessage(final ServiceMessage dto, final String key, final Object[] args) {
+            this.dto = dto;
+            this.key = key;
+            this.args = args;
+        }
+    }
+
+}
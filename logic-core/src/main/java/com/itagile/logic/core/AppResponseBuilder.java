@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.itagile.logic.api.AppResponse;
+import com.itagile.logic.api.ServiceMessageList;
+
+/**
+ * A builder for creating an AppResponse object.
+ *
+ * @author Javier Alcala
+ * @since 1.0.0
+ */
+public class AppResponseBuilder extends AbstractAppResponseBuilder {
+    /**
+     * Builds an instance and assigns final properties values. When there are no messages, the shared frozen
+     * {@link AppResponse#empty()} is returned, so the success path allocates nothing but the builder.
+     *
+     * @return the new instance, or the shared response with no messages
+     */
+    @Override
+    public AppResponse build() {
+        final Object event = MessageEvents.beginBuild();
+        final ServiceMessageList messages = getMessages();
+        final AppResponse response = messages.isEmpty() ? AppResponse.empty() : new AppResponse(messages);
+        MessageEvents.built(event, response);
+        notifyBuilt(response);
+        return response;
+    }
+
+    /**
+     * Builds an instance once the patterns not resolved yet by the batch message provider are resolved
+     * asynchronously. This builder must not be used until the future returned is completed.
+     *
+     * @return the new instance, completed when the patterns are resolved
+     */
+    public CompletableFuture<AppResponse> buildAsync() {
+        return resolveAsync().thenApply(x -> build());
+    }
+
+    /**
+     * Sets the service for custom ServiceMessage instantiation.
+     *
+     * @param messageProvider the service for custom ServiceMessage instantiation
+     * @return this object
+     */
+    public AppResponseBuilder withMessageProvider(final MessageProvider messageProvider) {
+        setMessageProvider(messageProvider);
+        return this;
+    }
+
+    /**
+     * Resolves the patterns of the messages with a batch message provider, in a single lookup when the messages are
+     * requested or the response is built.
+     *
+     * @param batchMessageProvider the service resolving the patterns of many messages in a single lookup
+     * @return this object
+     */
+    public AppResponseBuilder withBatchMessageProvider(final BatchMessageProvider batchMessageProvider) {
+        setBatchMessageProvider(batchMessageProvider);
+        return this;
+    }
+
+    /**
+     * Records the number of messages by type and code, and the latencies of formatting and message provider
+     * resolution.
+     *
+     * @param metrics the metrics shared by builders
+     * @return this object
+     */
+    public AppResponseBuilder withMetrics(final MessageMetrics metrics) {
+        setMetrics(metrics);
+        return this;
+    }
+
+    /**
+     * Notifies a listener of each message created and of each response built.
+     *
+     * @param listener the listener, wrapped in an {@link AsyncMessageSink} if it is slow
+     * @return this object
+     */
+    public AppResponseBuilder withListener(final MessageListener listener) {
+        setListener(listener);
+        return this;
+    }
+
+    /**
+     * Stamps each message created with its sequence number and an origin, so the responses of many nodes can be
+     * merged in order through {@link ResponseAggregator}.
+     *
+     * @param origin the origin of the messages, for example the node name
+     * @return this object
+     */
+    public AppResponseBuilder withSequencing(final String origin) {
+        setSequencing(origin);
+        return this;
+    }
+
+    /**
+     * Limits the size of the response serialized as JSON, truncating the message that does not fit and summarizing
+     * the messages omitted in a single notice, without formatting them.
+     *
+     * @param sizeBudget the maximum size in bytes, zero for no limit
+     * @return this object
+     */
+    public AppResponseBuilder withSizeBudget(final int sizeBudget) {
+        setSizeBudget(sizeBudget);
+        return this;
+    }
+
+    /**
+     * Collapses duplicated messages into a single message carrying the number of occurrences.
+     *
+     * @param duplicateKey how duplicated messages are identified
+     * @return this object
+     */
+    public AppResponseBuilder withDuplicateCollapsing(final DuplicateKey duplicateKey) {
+        return withDuplicateCollapsing(duplicateKey, 0);
+    }
+
+    /**
+     * Collapses duplicated messages into a single message carrying the number of occurrences and the indices of the
+     * first {@code sampleSize} occurrences.
+     *
+     * @param duplicateKey how duplicated messages are identified
+     * @param sampleSize   maximum number of occurrence indices kept in each collapsed message
+     * @return this object
+     */
+    public AppResponseBuilder withDuplicateCollapsing(final DuplicateKey duplicateKey, final int sampleSize) {
+        setDuplicateCollapsing(duplicateKey, sampleSize);
+        return this;
+    }
+
+}
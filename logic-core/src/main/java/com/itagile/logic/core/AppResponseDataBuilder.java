@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import com.itagile.logic.api.AppResponse;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * A builder for creating a generic AppResponse. This builder is special for objects inheriting from AppResponse.
+ *
+ * @param <T> the AppResponse implementation class
+ * @author Javier Alcala
+ * @since 1.0.0
+ */
+public class AppResponseDataBuilder<T extends AppResponse> extends AbstractAppResponseBuilder {
+    /**
+     * Current class type.
+     */
+    private Class<T> clazz;
+
+    /**
+     * Current mutable instance.
+     */
+    private T data;
+
+    /**
+     * Specific constructor to use.
+     */
+    private Supplier<T> supplier;
+
+    /**
+     * Constructor with specific supplier.
+     *
+     * @param supplier the specific supplier
+     */
+    public AppResponseDataBuilder(final Supplier<T> supplier) {
+        this.supplier = supplier;
+    }
+
+    /**
+     * Constructor with class type.
+     *
+     * @param clazz the class type
+     */
+    protected AppResponseDataBuilder(final Class<T> clazz) {
+        this.clazz = clazz;
+    }
+
+    /**
+     * Static factory method with specific constructor to use.
+     *
+     * @param supplier the specific constructor to use
+     * @param <T>      the AppResponse implementation class
+     * @return the created object
+     */
+    public static <T extends AppResponse> AppResponseDataBuilder<T> of(final Supplier<T> supplier) {
+        return new AppResponseDataBuilder<>(supplier);
+    }
+
+    /**
+     * Static factory method with class type.
+     *
+     * @param clazz the class type
+     * @param <T>   the AppResponse implementation class
+     * @return the created object
+     */
+    public static <T extends AppResponse> AppResponseDataBuilder<T> of(final Class<T> clazz) {
+        return new AppResponseDataBuilder<>(clazz);
+    }
+
+    /**
+     * Sets the service for custom ServiceMessage instantiation.
+     *
+     * @param messageProvider the service for custom ServiceMessage instantiation
+     * @return this object
+     */
+    public AppResponseDataBuilder<T> withMessageProvider(final MessageProvider messageProvider) {
+        setMessageProvider(messageProvider);
+        return this;
+    }
+
+    /**
+     * Resolves the patterns of the messages with a batch message provider, in a single lookup when the messages are
+     * requested or the response is built.
+     *
+     * @param batchMessageProvider the service resolving the patterns of many messages in a single lookup
+     * @return this object
+     */
+    public AppResponseDataBuilder<T> withBatchMessageProvider(final BatchMessageProvider batchMessageProvider) {
+        setBatchMessageProvider(batchMessageProvider);
+        return this;
+    }
+
+    /**
+     * Records the number of messages by type and code, and the latencies of formatting and message provider
+     * resolution.
+     *
+     * @param metrics the metrics shared by builders
+     * @return this object
+     */
+    public AppResponseDataBuilder<T> withMetrics(final MessageMetrics metrics) {
+        setMetrics(metrics);
+        return this;
+    }
+
+    /**
+     * Notifies a listener of each message created and of each response built.
+     *
+     * @param listener the listener, wrapped in an {@link AsyncMessageSink} if it is slow
+     * @return this object
+     */
+    public AppResponseDataBuilder<T> withListener(final MessageListener listener) {
+        setListener(listener);
+        return this;
+    }
+
+    /**
+     * Stamps each message created with its sequence number and an origin, so the responses of many nodes can be
+     * merged in order through {@link ResponseAggregator}.
+     *
+     * @param origin the origin of the messages, for example the node name
+     * @return this object
+     */
+    public AppResponseDataBuilder<T> withSequencing(final String origin) {
+        setSequencing(origin);
+        return this;
+    }
+
+    /**
+     * Limits the size of the response serialized as JSON, truncating the message that does not fit and summarizing
+     * the messages omitted in a single notice, without formatting them. The data is not counted.
+     *
+     * @param sizeBudget the maximum size in bytes, zero for no limit
+     * @return this object
+     */
+    public AppResponseDataBuilder<T> withSizeBudget(final int sizeBudget) {
+        setSizeBudget(sizeBudget);
+        return this;
+    }
+
+    /**
+     * Collapses duplicated messages into a single message carrying the number of occurrences.
+     *
+     * @param duplicateKey how duplicated messages are identified
+     * @return this object
+     */
+    public AppResponseDataBuilder<T> withDuplicateCollapsing(final DuplicateKey duplicateKey) {
+        return withDuplicateCollapsing(duplicateKey, 0);
+    }
+
+    /**
+     * Collapses duplicated messages into a single message carrying the number of occurrences and the indices of the
+     * first {@code sampleSize} occurrences.
+     *
+     * @param duplicateKey how duplicated messages are identified
+     * @param sampleSize   maximum number of occurrence indices kept in each collapsed message
+     * @return this object
+     */
+    public AppResponseDataBuilder<T> withDuplicateCollapsing(final DuplicateKey duplicateKey, final int sampleSize) {
+        setDuplicateCollapsing(duplicateKey, sampleSize);
+        return this;
+    }
+
+    /**
+     * Builds the instance once the patterns not resolved yet by the batch message provider are resolved
+     * asynchronously. This builder must not be used until the future returned is completed.
+     *
+     * @return the instance, completed when the patterns are resolved
+     */
+    public CompletableFuture<T> buildAsync() {
+        return resolveAsync().thenApply(x -> build());
+    }
+
+    /**
+     * Builds an instance and assigns ok value and messages. Subsequent calls to this method will return the same
+     * instance. The aforementioned is to ease setting other properties of the response.
+     *
+     * <p>Messages are published without copying: the response shares the append-only storage of this builder, so the
+     * cost of each call does not depend on the number of messages.
+     *
+     * @return the new instance
+     */
+    @Override
+    public T build() {
+        final Object event = MessageEvents.beginBuild();
+        if (data == null) {
+            if (supplier == null) {
+                try {
+                    data = clazz.newInstance();
+                } catch (final IllegalAccessException | InstantiationException e) {
+                    throw new IllegalStateException("Failed to instantiate " + clazz.getName(), e);
+                }
+            } else {
+                data = supplier.get();
+            }
+        }
+        data.setMessages(getMessages());
+        MessageEvents.built(event, data);
+        notifyBuilt(data);
+        return data;
+    }
+}
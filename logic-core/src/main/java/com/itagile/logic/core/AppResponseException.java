@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import com.itagile.logic.api.AppResponse;
+
+/**
+ * Unchecked exception carrying a response that was not Ok.
+ *
+ * <p>It is meant to leave deep call chains on validation failures, so by default the stack trace is not captured and
+ * suppression is disabled: throwing it costs about as much as returning the response. The message is built from the
+ * response only when requested. Use {@link ResponseBuilder#addAll(Throwable)} to turn it back into messages.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+public class AppResponseException extends RuntimeException {
+    /**
+     * Serialization version.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Delimiter between messages in the message of this exception.
+     */
+    private static final String DELIMITER = "; ";
+
+    /**
+     * The response carried by this exception.
+     */
+    private final transient AppResponse response;
+
+    /**
+     * Constructor with response, the stack trace is not captured.
+     *
+     * @param response the response carried by this exception
+     */
+    public AppResponseException(final AppResponse response) {
+        this(response, false);
+    }
+
+    /**
+     * Constructor with response.
+     *
+     * @param response           the response carried by this exception
+     * @param writableStackTrace whether or not the stack trace should be captured
+     */
+    public AppResponseException(final AppResponse response, final boolean writableStackTrace) {
+        super(null, null, false, writableStackTrace);
+        this.response = response;
+    }
+
+    /**
+     * Returns the response carried by this exception.
+     *
+     * @return the response carried by this exception
+     */
+    public AppResponse getResponse() {
+        return response;
+    }
+
+    /**
+     * Returns the messages of the response joined by semicolons.
+     *
+     * @return the messages of the response
+     */
+    @Override
+    public String getMessage() {
+        if (response == null) {
+            return null;
+        }
+        return response.getMessages(DELIMITER);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import java.util.Collections;
+import java.util.List;
+
+import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageType;
+
+/**
+ * A frozen view of a message in a {@link MessageArena}, decoding each property on access.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+final class ArenaMessage extends ServiceMessage {
+    /**
+     * The arena.
+     */
+    private final MessageArena arena;
+
+    /**
+     * The address of the message in the arena.
+     */
+    private final long address;
+
+    /**
+     * Constructor using fields.
+     *
+     * @param arena   the arena
+     * @param address the address of the message in the arena
+     */
+    ArenaMessage(final MessageArena arena, final long address) {
+        this.arena = arena;
+        this.address = address;
+        freeze();
+    }
+
+    @Override
+    public ServiceMessageType getType() {
+        return MessageCodec.type(arena.segment(address), MessageArena.offset(address));
+    }
+
+    @Override
+    public String getMessage() {
+        return MessageCodec.message(arena.segment(address), MessageArena.offset(address));
+    }
+
+    @Override
+    public String getCode() {
+        return MessageCodec.code(arena.segment(address), MessageArena.offset(address));
+    }
+
+    @Override
+    public Integer getCount() {
+        return MessageCodec.count(arena.segment(address), MessageArena.offset(address));
+    }
+
+    @Override
+    public List<Integer> getSampleIndices() {
+        final List<Integer> samples = MessageCodec.sampleIndices(arena.segment(address), MessageArena.offset(address));
+        return samples == null ? null : Collections.unmodifiableList(samples);
+    }
+
+    @Override
+    public Long getSequence() {
+        return MessageCodec.sequence(arena.segment(address), MessageArena.offset(address));
+    }
+
+    @Override
+    public String getOrigin() {
+        return MessageCodec.origin(arena.segment(address), MessageArena.offset(address));
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+/**
+ * A builder encoding messages into an off-heap arena, for batch jobs building millions of messages.
+ *
+ * <p>Messages are encoded into direct buffer segments out of the Java heap once the next message is added, so the
+ * heap used and the garbage collection pressure stay flat regardless of the number of messages. The response built is
+ * a {@link SpilledAppResponse} whose messages are views decoding each property on access. Closing either the response
+ * or the builder frees the arena, deterministically when the runtime allows it; the messages can no longer be read
+ * afterwards.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+public class ArenaResponseBuilder extends SpillingResponseBuilder {
+    /**
+     * Constructor with the limit of messages kept in memory and the size of the segments of the arena.
+     *
+     * @param heapLimit   maximum number of messages kept in memory
+     * @param segmentSize size of each direct buffer segment, at least 8 bytes
+     */
+    public ArenaResponseBuilder(final int heapLimit, final int segmentSize) {
+        super(heapLimit, () -> new MessageArena(segmentSize));
+        if (segmentSize < Long.BYTES) {
+            throw new IllegalArgumentException("segmentSize must be at least " + Long.BYTES);
+        }
+    }
+
+    /**
+     * Static factory method encoding all messages into an arena of 1 MiB segments.
+     *
+     * @return the created object
+     */
+    public static ArenaResponseBuilder of() {
+        return new ArenaResponseBuilder(0, MessageArena.DEFAULT_SEGMENT_SIZE);
+    }
+}
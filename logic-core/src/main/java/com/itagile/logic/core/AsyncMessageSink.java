@@ -0,0 +1,440 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import com.itagile.logic.api.AppResponse;
+import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageType;
+
+/**
+ * A listener handing the notifications of builders to other listener in a single background thread, so the threads
+ * adding messages never wait for its I/O.
+ *
+ * <p>Notifications are copied into the slots of a ring buffer allocated up front. Threads adding messages claim slots
+ * with a compare-and-set on the next sequence, without locks, and publish them in order to the consumer thread. When
+ * the buffer is full, the notification is dropped and counted, or the thread waits for a free slot, depending on the
+ * {@link OverflowPolicy}.
+ *
+ * <p>The message passed to the listener is a frozen copy with all the properties of the message notified, so the
+ * listener may keep it. Exceptions thrown by the listener are counted and do not stop the consumer.
+ * Closing the sink delivers the pending notifications and stops the consumer thread; later notifications are dropped.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+public final class AsyncMessageSink implements MessageListener, Closeable {
+    /**
+     * Default number of slots of the buffer.
+     */
+    public static final int DEFAULT_CAPACITY = 8_192;
+
+    /**
+     * Maximum number of slots of the buffer.
+     */
+    private static final int MAX_CAPACITY = 1_073_741_824;
+
+    /**
+     * Maximum time in nanoseconds the consumer waits for notifications before checking the buffer again.
+     */
+    private static final long IDLE_NANOS = 1_000_000;
+
+    /**
+     * Time in nanoseconds a blocked thread waits before checking the buffer again.
+     */
+    private static final long BLOCK_NANOS = 10_000;
+
+    /**
+     * Kind of a notification of a message added.
+     */
+    private static final int ADDED = 0;
+
+    /**
+     * Kind of a notification of a code changed.
+     */
+    private static final int CODE = 1;
+
+    /**
+     * Kind of a notification of a response built.
+     */
+    private static final int BUILT = 2;
+
+    /**
+     * The listener called by the consumer thread.
+     */
+    private final MessageListener listener;
+
+    /**
+     * What is done with a notification when the buffer is full.
+     */
+    private final OverflowPolicy policy;
+
+    /**
+     * The slots of the buffer.
+     */
+    private final Slot[] slots;
+
+    /**
+     * Mask of the position of a sequence in the buffer.
+     */
+    private final int mask;
+
+    /**
+     * Sequence published in each slot, so the consumer knows it was written.
+     */
+    private final AtomicLongArray published;
+
+    /**
+     * Next sequence claimed by the threads adding messages.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * Next sequence read by the consumer.
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * Number of notifications dropped.
+     */
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * Number of exceptions thrown by the listener.
+     */
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * The consumer thread.
+     */
+    private final Thread consumer;
+
+    /**
+     * Determines if the consumer is waiting for notifications.
+     */
+    private volatile boolean waiting;
+
+    /**
+     * Determines if the sink was closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Constructor with the listener, the capacity and the overflow policy.
+     *
+     * @param listener the listener called by the consumer thread
+     * @param capacity the minimum number of slots of the buffer
+     * @param policy   what is done with a notification when the buffer is full
+     */
+    private AsyncMessageSink(final MessageListener listener, final int capacity, final OverflowPolicy policy) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("capacity must be between 1 and " + MAX_CAPACITY);
+        }
+        this.listener = listener;
+        this.policy = policy;
+        final int size = capacity == 1 ? 1 : 1 << Integer.SIZE - Integer.numberOfLeadingZeros(capacity - 1);
+        this.slots = new Slot[size];
+        this.published = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+            published.set(i, -1);
+        }
+        this.mask = size - 1;
+        this.consumer = new Thread(this::consume, "message-sink");
+        consumer.setDaemon(true);
+    }
+
+    /**
+     * Creates a sink with the default capacity, dropping notifications when the buffer is full.
+     *
+     * @param listener the listener called by the consumer thread
+     * @return the sink, with its consumer thread started
+     */
+    public static AsyncMessageSink of(final MessageListener listener) {
+        return of(listener, DEFAULT_CAPACITY, OverflowPolicy.DROP);
+    }
+
+    /**
+     * Creates a sink.
+     *
+     * @param listener the listener called by the consumer thread
+     * @param capacity the minimum number of slots of the buffer, rounded up to a power of two
+     * @param policy   what is done with a notification when the buffer is full
+     * @return the sink, with its consumer thread started
+     */
+    public static AsyncMessageSink of(final MessageListener listener, final int capacity,
+                                      final OverflowPolicy policy) {
+        final AsyncMessageSink sink = new AsyncMessageSink(listener, capacity, policy);
+        sink.consumer.start();
+        return sink;
+    }
+
+    @Override
+    public void messageAdded(final ServiceMessage message) {
+        publish(ADDED, message, null);
+    }
+
+    @Override
+    public void codeChanged(final ServiceMessage message) {
+        publish(CODE, message, null);
+    }
+
+    @Override
+    public void responseBuilt(final AppResponse response) {
+        publish(BUILT, null, response);
+    }
+
+    /**
+     * Claims a slot, copies the notification and publishes it to the consumer.
+     *
+     * @param kind     the kind of notification
+     * @param message  the message, null for responses
+     * @param response the response, null for messages
+     */
+    private void publish(final int kind, final ServiceMessage message, final AppResponse response) {
+        long sequence;
+        while (true) {
+            if (closed) {
+                dropped.increment();
+                return;
+            }
+            sequence = tail.get();
+            if (sequence - head.get() >= slots.length) {
+                if (policy == OverflowPolicy.DROP) {
+                    dropped.increment();
+                    return;
+                }
+                LockSupport.parkNanos(this, BLOCK_NANOS);
+            } else if (tail.compareAndSet(sequence, sequence + 1)) {
+                break;
+            }
+        }
+        final int index = (int) sequence & mask;
+        slots[index].set(kind, message, response);
+        published.lazySet(index, sequence);
+        if (waiting) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    /**
+     * Delivers the notifications published until the sink is closed and the buffer is empty.
+     */
+    private void consume() {
+        long next = 0;
+        while (true) {
+            final int index = (int) next & mask;
+            if (published.get(index) == next) {
+                final Slot slot = slots[index];
+                final int kind = slot.kind;
+                final AppResponse response = slot.response;
+                final ServiceMessage copy = kind == BUILT ? null : slot.copy();
+                slot.clear();
+                next++;
+                head.lazySet(next);
+                deliver(kind, copy, response);
+            } else if (closed && tail.get() == next) {
+                return;
+            } else {
+                waiting = true;
+                if (published.get(index) != next && !closed) {
+                    LockSupport.parkNanos(this, IDLE_NANOS);
+                }
+                waiting = false;
+            }
+        }
+    }
+
+    /**
+     * Calls the listener, counting its exceptions.
+     *
+     * @param kind     the kind of notification
+     * @param copy     the copy of the message
+     * @param response the response
+     */
+    private void deliver(final int kind, final ServiceMessage copy, final AppResponse response) {
+        try {
+            if (kind == ADDED) {
+                listener.messageAdded(copy);
+            } else if (kind == CODE) {
+                listener.codeChanged(copy);
+            } else {
+                listener.responseBuilt(response);
+            }
+        } catch (final RuntimeException e) {
+            failed.increment();
+        }
+    }
+
+    /**
+     * Number of notifications dropped because the buffer was full or the sink was closed.
+     *
+     * @return the number of notifications dropped
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Number of exceptions thrown by the listener.
+     *
+     * @return the number of exceptions
+     */
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    /**
+     * Number of notifications published and not delivered yet.
+     *
+     * @return the number of notifications pending
+     */
+    public long getPending() {
+        return tail.get() - head.get();
+    }
+
+    /**
+     * Number of slots of the buffer.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return slots.length;
+    }
+
+    /**
+     * Delivers the pending notifications and stops the consumer thread. Notifications published while closing may be
+     * lost.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(consumer);
+        try {
+            consumer.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A slot of the buffer, holding a copy of a notification.
+     */
+    private static final class Slot {
+        /**
+         * The kind of notification.
+         */
+        private int kind;
+
+        /**
+         * The type of the message.
+         */
+        private ServiceMessageType type;
+
+        /**
+         * The text of the message.
+         */
+        private String message;
+
+        /**
+         * The code of the message.
+         */
+        private String code;
+
+        /**
+         * The number of occurrences of the message.
+         */
+        private Integer count;
+
+        /**
+         * The indices of sample occurrences of the message.
+         */
+        private List<Integer> sampleIndices;
+
+        /**
+         * The sequence number of the message.
+         */
+        private Long sequence;
+
+        /**
+         * The origin of the message.
+         */
+        private String origin;
+
+        /**
+         * The response built.
+         */
+        private AppResponse response;
+
+        /**
+         * Copies a notification.
+         *
+         * @param newKind     the kind of notification
+         * @param dto         the message, null for responses
+         * @param newResponse the response, null for messages
+         */
+        void set(final int newKind, final ServiceMessage dto, final AppResponse newResponse) {
+            kind = newKind;
+            response = newResponse;
+            if (dto != null) {
+                type = dto.getType();
+                message = dto.getMessage();
+                code = dto.getCode();
+                count = dto.getCount();
+                sequence = dto.getSequence();
+                origin = dto.getOrigin();
+                final List<Integer> indices = dto.getSampleIndices();
+                sampleIndices = indices == null || dto.isFrozen() ? indices : new ArrayList<>(indices);
+            }
+        }
+
+        /**
+         * Creates a frozen message with the properties copied.
+         *
+         * @return the message
+         */
+        ServiceMessage copy() {
+            final ServiceMessage dto = ServiceMessage.of(type, message, code);
+            dto.setCount(count);
+            dto.setSampleIndices(sampleIndices);
+            dto.setSequence(sequence);
+            dto.setOrigin(origin);
+            return dto.freeze();
+        }
+
+        /**
+         * Releases the references of the notification.
+         */
+        void clear() {
+            type = null;
+            message = null;
+            code = null;
+            count = null;
+            sampleIndices = null;
+            sequence = null;
+            origin = null;
+            response = null;
+        }
+    }
+}
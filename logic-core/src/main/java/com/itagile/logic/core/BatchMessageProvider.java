@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Contract for resolving the patterns of many messages in a single lookup, for example from a translation service.
+ *
+ * <p>Builders configured with a batch provider record the type, key and arguments of each message, and resolve all the
+ * keys not resolved yet in one call when the messages are requested or the response is built. Keys are deduplicated
+ * across the response. The resolved pattern is formatted with the arguments of each message.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+@FunctionalInterface
+public interface BatchMessageProvider {
+    /**
+     * Resolves the patterns of the keys. Keys missing in the map returned are used as patterns.
+     *
+     * @param keys the keys of the messages, without duplicates
+     * @return the patterns by key
+     */
+    Map<String, String> getPatterns(Set<String> keys);
+
+    /**
+     * Resolves the patterns of the keys asynchronously. The default implementation resolves them in the calling
+     * thread through {@link #getPatterns(Set)}.
+     *
+     * @param keys the keys of the messages, without duplicates
+     * @return the patterns by key, completed when the lookup finishes
+     */
+    default CompletableFuture<Map<String, String>> getPatternsAsync(final Set<String> keys) {
+        return CompletableFuture.completedFuture(getPatterns(keys));
+    }
+}
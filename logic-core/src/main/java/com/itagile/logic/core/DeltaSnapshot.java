@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import com.itagile.logic.api.ResponseDelta;
+import com.itagile.logic.api.ServiceMessageList;
+
+/**
+ * The messages published by a builder and the version of the first one, read together by other threads. Instances
+ * are immutable, so they are published through a volatile field.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+final class DeltaSnapshot {
+    /**
+     * Snapshot of a new builder.
+     */
+    static final DeltaSnapshot EMPTY = new DeltaSnapshot(ServiceMessageList.empty(), 0);
+
+    /**
+     * The messages published.
+     */
+    private final ServiceMessageList messages;
+
+    /**
+     * Version of the first message.
+     */
+    private final long firstVersion;
+
+    /**
+     * Constructor using fields.
+     *
+     * @param messages     the messages published
+     * @param firstVersion version of the first message
+     */
+    private DeltaSnapshot(final ServiceMessageList messages, final long firstVersion) {
+        this.messages = messages;
+        this.firstVersion = firstVersion;
+    }
+
+    /**
+     * Returns a snapshot of messages appended after the messages of this snapshot, with the same first version.
+     *
+     * @param list the messages published
+     * @return the new snapshot
+     */
+    DeltaSnapshot with(final ServiceMessageList list) {
+        return new DeltaSnapshot(list, firstVersion);
+    }
+
+    /**
+     * Returns a snapshot of messages replacing the messages appended, whose first version follows the versions of
+     * the messages appended, so versions never decrease.
+     *
+     * @param list     the messages published
+     * @param appended the number of messages appended, including the messages not published yet
+     * @return the new snapshot
+     */
+    DeltaSnapshot restart(final ServiceMessageList list, final int appended) {
+        return new DeltaSnapshot(list, firstVersion + appended + 1);
+    }
+
+    /**
+     * Returns the version of the messages published.
+     *
+     * @return the version of the last message
+     */
+    long getVersion() {
+        return firstVersion + messages.size();
+    }
+
+    /**
+     * Returns the messages published since a version, sharing the messages without copying them. If the version is
+     * not reached yet or from before a restart, the delta has all the messages and is since version zero.
+     *
+     * @param version the version of the last delta merged by the client
+     * @return the messages published since the version
+     */
+    ResponseDelta deltaSince(final long version) {
+        final long current = getVersion();
+        final ResponseDelta delta;
+        if (version < firstVersion || version > current) {
+            delta = new ResponseDelta(messages);
+            delta.setSince(0);
+        } else {
+            final int from = (int) (version - firstVersion);
+            delta = new ResponseDelta(from == 0 ? messages : messages.subList(from, messages.size()));
+            delta.setSince(version);
+        }
+        delta.setVersion(current);
+        delta.setOk(messages.isOk());
+        return delta;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * Frees the memory of direct and memory-mapped buffers without waiting for the garbage collector.
+ *
+ * <p>The memory is freed through {@code sun.misc.Unsafe.invokeCleaner} on Java 9 and later or the cleaner of the
+ * buffer on Java 8. On runtimes allowing neither, buffers are freed when garbage collected. A freed buffer must not be
+ * accessed again.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+final class DirectBuffers {
+    /**
+     * Frees a direct buffer, null if buffers are freed by the garbage collector.
+     */
+    private static final Cleaner CLEANER = cleaner();
+
+    /**
+     * Utility class.
+     */
+    private DirectBuffers() {
+    }
+
+    /**
+     * Finds how direct buffers are freed in this runtime.
+     *
+     * @return the cleaner, null if buffers are freed by the garbage collector
+     */
+    private static Cleaner cleaner() {
+        final Cleaner cleaner = unsafeCleaner();
+        return cleaner == null ? bufferCleaner() : cleaner;
+    }
+
+    /**
+     * Frees direct buffers through {@code sun.misc.Unsafe.invokeCleaner}, available on Java 9 and later.
+     *
+     * @return the cleaner, null if not available
+     */
+    private static Cleaner unsafeCleaner() {
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            final Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            final Object unsafe = field.get(null);
+            return buffer -> invokeCleaner.invoke(unsafe, buffer);
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Frees direct buffers through their cleaner, available on Java 8.
+     *
+     * @return the cleaner, null if not available
+     */
+    private static Cleaner bufferCleaner() {
+        try {
+            final ByteBuffer probe = ByteBuffer.allocateDirect(1);
+            final Method cleanerMethod = probe.getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+            final Method clean = cleanerMethod.getReturnType().getMethod("clean");
+            clean.setAccessible(true);
+            final Cleaner cleaner = buffer -> clean.invoke(cleanerMethod.invoke(buffer));
+            cleaner.free(probe);
+            return cleaner;
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Frees a direct buffer, or does nothing if buffers are freed by the garbage collector in this runtime.
+     *
+     * @param buffer the buffer, direct or memory-mapped
+     */
+    static void free(final ByteBuffer buffer) {
+        if (CLEANER == null) {
+            return;
+        }
+        try {
+            CLEANER.free(buffer);
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to free a direct buffer", e);
+        }
+    }
+
+    /**
+     * Frees a direct buffer.
+     */
+    @FunctionalInterface
+    private interface Cleaner {
+        /**
+         * Frees a direct buffer.
+         *
+         * @param buffer the buffer
+         * @throws ReflectiveOperationException if the buffer could not be freed
+         */
+        void free(ByteBuffer buffer) throws ReflectiveOperationException;
+    }
+}
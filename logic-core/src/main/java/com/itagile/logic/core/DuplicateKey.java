@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+/**
+ * Constants that indicate how duplicated messages are identified when a builder collapses them.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+public enum DuplicateKey {
+    /**
+     * Messages with the same type, pattern and code are duplicates. Duplicates are never formatted, so the arguments
+     * of the first occurrence are the ones shown.
+     */
+    PATTERN,
+    /**
+     * Messages with the same type, formatted text and code are duplicates.
+     */
+    FORMATTED
+}
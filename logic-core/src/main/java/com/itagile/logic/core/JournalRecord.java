@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.itagile.logic.api.AppResponse;
+import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageType;
+
+/**
+ * A response appended to a {@link ResponseJournal}, read in place from the mapped segment.
+ *
+ * <p>The time, the ok state and the number of messages are read from the record header. {@link #hasType} and
+ * {@link #hasCode} go through the messages reading only their type and code bytes, so records can be filtered without
+ * deserializing them. {@link #toResponse()} deserializes the whole response. Every method throws IllegalStateException
+ * once the journal is closed.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+public final class JournalRecord {
+    /**
+     * The journal.
+     */
+    private final ResponseJournal journal;
+
+    /**
+     * The mapped segment.
+     */
+    private final ByteBuffer segment;
+
+    /**
+     * Position of the record in the segment.
+     */
+    private final int offset;
+
+    /**
+     * Constructor using fields.
+     *
+     * @param journal the journal
+     * @param segment the mapped segment
+     * @param offset  position of the record in the segment
+     */
+    JournalRecord(final ResponseJournal journal, final ByteBuffer segment, final int offset) {
+        this.journal = journal;
+        this.segment = segment;
+        this.offset = offset;
+    }
+
+    /**
+     * Time when the response was appended.
+     *
+     * @return the time in milliseconds since the epoch
+     */
+    public long getTimestamp() {
+        journal.checkOpen();
+        return segment.getLong(offset + ResponseJournal.TIMESTAMP_OFFSET);
+    }
+
+    /**
+     * Determines if the response was successful.
+     *
+     * @return true if the response had no errors
+     */
+    public boolean isOk() {
+        journal.checkOpen();
+        return segment.get(offset + ResponseJournal.OK_OFFSET) != 0;
+    }
+
+    /**
+     * Number of messages of the response.
+     *
+     * @return the number of messages
+     */
+    public int getMessageCount() {
+        journal.checkOpen();
+        return segment.getInt(offset + ResponseJournal.COUNT_OFFSET);
+    }
+
+    /**
+     * Determines if the response has messages of a type, without deserializing them.
+     *
+     * @param type the type of the messages
+     * @return true if there is any message of the type
+     */
+    public boolean hasType(final ServiceMessageType type) {
+        int position = offset + ResponseJournal.HEADER_SIZE;
+        for (int i = getMessageCount(); i > 0; i--) {
+            journal.checkOpen();
+            final int length = MessageCodec.varint(segment, position);
+            position += MessageCodec.varintSize(length);
+            if (MessageCodec.type(segment, position) == type) {
+                return true;
+            }
+            position += length;
+        }
+        return false;
+    }
+
+    /**
+     * Determines if the response has messages with a code, comparing the code bytes without deserializing them.
+     *
+     * @param code the code of the messages, null for messages without code
+     * @return true if there is any message with the code
+     */
+    public boolean hasCode(final String code) {
+        final byte[] bytes = code == null ? null : code.getBytes(StandardCharsets.UTF_8);
+        int position = offset + ResponseJournal.HEADER_SIZE;
+        for (int i = getMessageCount(); i > 0; i--) {
+            journal.checkOpen();
+            final int length = MessageCodec.varint(segment, position);
+            position += MessageCodec.varintSize(length);
+            if (MessageCodec.hasCode(segment, position, bytes)) {
+                return true;
+            }
+            position += length;
+        }
+        return false;
+    }
+
+    /**
+     * Deserializes the response.
+     *
+     * @return a new response with the messages
+     */
+    public AppResponse toResponse() {
+        final List<ServiceMessage> messages = new ArrayList<>(getMessageCount());
+        int position = offset + ResponseJournal.HEADER_SIZE;
+        for (int i = getMessageCount(); i > 0; i--) {
+            journal.checkOpen();
+            final int length = MessageCodec.varint(segment, position);
+            position += MessageCodec.varintSize(length);
+            messages.add(MessageCodec.decode(segment, position));
+            position += length;
+        }
+        return new AppResponse(messages);
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.itagile.logic.core;
+
+import java.util.List;
+
+import com.itagile.logic.api.ServiceMessage;
+
+/**
+ * Upper bounds of the size in bytes of responses and messages serialized as compact UTF-8 JSON by Jackson with its
+ * default configuration, which writes null values except for the optional properties of the messages. Lengths are
+ * computed from the values, without serializing them.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+final class JsonSize {
+    /**
+     * Size of an empty response, the worst case of the ok property.
+     */
+    static final int EMPTY_RESPONSE = "{\"ok\":false,\"messages\":[]}".length();
+
+    /**
+     * Size of a message without values: braces, property names, colons and commas.
+     */
+    private static final int MESSAGE = "{\"type\":,\"message\":,\"code\":}".length();
+
+    /**
+     * Size of the count property without value, omitted when null.
+     */
+    private static final int COUNT = ",\"count\":".length();
+
+    /**
+     * Size of the sample indices property without value, omitted when null.
+     */
+    private static final int SAMPLE_INDICES = ",\"sampleIndices\":".length();
+
+    /**
+     * Size of the sequence property without value, omitted when null.
+     */
+    private static final int SEQUENCE = ",\"sequence\":".length();
+
+    /**
+     * Size of the origin property without value, omitted when null.
+     */
+    private static final int ORIGIN = ",\"origin\":".length();
+
+    /**
+     * Size of a null value.
+     */
+    private static final int NULL = "null".length();
+
+    /**
+     * Maximum size of an int value.
+     */
+    private static final int MAX_INT = "-2147483648".length();
+
+    /**
+     * Maximum size of a character escaped as unicode.
+     */
+    private static final int UNICODE_ESCAPE = "\\u0000".length();
+
+    /**
+     * First character not escaped.
+     */
+    private static final char FIRST_PRINTABLE = ' ';
+
+    /**
+     * First character encoded in two bytes.
+     */
+    private static final char TWO_BYTES = '\u0080';
+
+    /**
+     * First character encoded in three bytes.
+     */
+    private static final char THREE_BYTES = '\u0800';
+
+    /**
+     * Size of a character encoded in three bytes.
+     */
+    private static final int THREE_BYTES_SIZE = 3;
+
+    /**
+     * Appended to a truncated text.
+     */
+    private static final String ELLIPSIS = "...";
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private JsonSize() {
+    }
+
+    /**
+     * Returns the size of a message with its current values.
+     *
+     * @param message the message
+     * @return the size in bytes
+     */
+    static int of(final ServiceMessage message) {
+        return MESSAGE + (message.getType() == null ? NULL : message.getType().name().length() + 2)
+                + of(message.getMessage()) + of(message.getCode())
+                + optional(COUNT, message.getCount(), of(message.getCount()))
+                + optional(SAMPLE_INDICES, message.getSampleIndices(), of(message.getSampleIndices()))
+                + optional(SEQUENCE, message.getSequence(), of(message.getSequence()))
+                + optional(ORIGIN, message.getOrigin(), of(message.getOrigin()));
+    }
+
+    /**
+     * Returns the size of an optional property, omitted when null.
+     *
+     * @param property the size of the property without value
+     * @param value    the value
+     * @param size     the size of the value
+     * @return the size in bytes, 0 if the value is null
+     */
+    private static int optional(final int property, final Object value, final int size) {
+        return value == null ? 0 : property + size;
+    }
+
+    /**
+     * Returns the size of a collapsed message, counting the maximum count and the maximum number of occurrence
+     * indices, so the message can be counted again without growing.
+     *
+     * @param message    the collapsed message
+     * @param sampleSize maximum number of occurrence indices kept in the message
+     * @return the size in bytes
+     */
+    static int ofCollapsed(final ServiceMessage message, final int sampleSize) {
+        int size = of(message) - optional(COUNT, message.getCount(), of(message.getCount())) + COUNT + MAX_INT;
+        if (message.getSampleIndices() != null) {
+            size += -of(message.getSampleIndices()) + 2 + sampleSize * (MAX_INT + 1);
+        }
+        return size;
+    }
+
+    /**
+     * Returns the size of a string value, with quotes and escapes.
+     *
+     * @param value the value
+     * @return the size in bytes
+     */
+    static int of(final String value) {
+        if (value == null) {
+            return NULL;
+        }
+        int size = 2;
+        for (int i = 0; i < value.length(); i++) {
+            size += of(value.charAt(i));
+        }
+        return size;
+    }
+
+    /**
+     * Returns the size of a character, Jackson escapes control characters and surrogates as unicode.
+     *
+     * @param c the character
+     * @return the size in bytes
+     */
+    private static int of(final char c) {
+        if (c < FIRST_PRINTABLE || Character.isSurrogate(c)) {
+            return UNICODE_ESCAPE;
+        }
+        if (c == '"' || c == '\\') {
+            return 2;
+        }
+        if (c < TWO_BYTES) {
+            return 1;
+        }
+        if (c < THREE_BYTES) {
+            return 2;
+        }
+        return THREE_BYTES_SIZE;
+    }
+
+    /**
+     * Returns the size of a number value.
+     *
+     * @param value the value
+     * @return the size in bytes
+     */
+    private static int of(final Number value) {
+        return value == null ? NULL : value.toString().length();
+    }
+
+    /**
+     * Returns the size of a list of int values.
+     *
+     * @param values the values
+     * @return the size in bytes
+     */
+    private static int of(final List<Integer> values) {
+        if (values == null) {
+            return NULL;
+        }
+        int size = 2 + Math.max(0, values.size() - 1);
+        for (final Integer value : values) {
+            size += of(value);
+        }
+        return size;
+    }
+
+    /**
+     * Truncates a text so its size as a string value, with quotes and an ellipsis, does not exceed a maximum. Surrogate
+     * pairs are not split.
+     *
+     * @param value   the text to truncate
+     * @param maxSize the maximum size in bytes
+     * @return the text truncated, or null if not even one character fits
+     */
+    static String truncate(final String value, final long maxSize) {
+        long size = 2 + ELLIPSIS.length();
+        int end = 0;
+        while (end < value.length()) {
+            final int next = Character.isHighSurrogate(value.charAt(end)) && end + 1 < value.length() ? end + 2
+                    : end + 1;
+            for (int i = end; i < next; i++) {
+                size += of(value.charAt(i));
+            }
+            if (size > maxSize) {
+                break;
+            }
+            end = next;
+        }
+        return end == 0 ? null : value.substring(0, end) + ELLIPSIS;
+    }
+
+}
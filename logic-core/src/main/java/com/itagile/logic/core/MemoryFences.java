@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+/**
+ * Memory fences ordering plain accesses to shared buffers, such as the records of a {@link ResponseJournal}.
+ *
+ * <p>A writer calls {@link #release()} between the writes of some data and the write publishing it, and a reader
+ * calls {@link #acquire()} between the read of the publishing value and the reads of the data. The Java 8 version
+ * calls {@code sun.misc.Unsafe.storeFence} and {@code loadFence} through method handles bound once. A runtime without
+ * them fails when this class is initialized, as plain accesses could not be ordered otherwise.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+final class MemoryFences {
+    /**
+     * The store fence.
+     */
+    private static final MethodHandle STORE_FENCE = fence("storeFence");
+
+    /**
+     * The load fence.
+     */
+    private static final MethodHandle LOAD_FENCE = fence("loadFence");
+
+    /**
+     * Utility class.
+     */
+    private MemoryFences() {
+    }
+
+    /**
+     * Finds a fence method bound to the unsafe instance.
+     *
+     * @param name the name of the method
+     * @return the method handle
+     * @throws IllegalStateException if the method is not accessible
+     */
+    private static MethodHandle fence(final String name) {
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, name, MethodType.methodType(void.class))
+                    .bindTo(field.get(null));
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            throw new IllegalStateException("Memory fences are not available in this runtime", e);
+        }
+    }
+
+    /**
+     * Keeps the accesses before the fence from being reordered with the writes after it.
+     */
+    static void release() {
+        invoke(STORE_FENCE);
+    }
+
+    /**
+     * Keeps the reads before the fence from being reordered with the accesses after it.
+     */
+    static void acquire() {
+        invoke(LOAD_FENCE);
+    }
+
+    /**
+     * Calls a fence.
+     *
+     * @param fence the fence method handle
+     */
+    private static void invoke(final MethodHandle fence) {
+        try {
+            fence.invokeExact();
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new IllegalStateException("Failed to issue a memory fence", e);
+        }
+    }
+}
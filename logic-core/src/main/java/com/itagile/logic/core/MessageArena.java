@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.itagile.logic.api.ServiceMessage;
+
+/**
+ * Messages encoded by {@link MessageCodec} into direct buffers allocated out of the Java heap.
+ *
+ * <p>Messages are appended to fixed size segments, and a message larger than a segment gets a segment of its own. The
+ * segment and offset of each message are kept in direct buffers too, so the heap used does not grow with the number
+ * of messages but for a reference per segment. Reading returns {@link ArenaMessage} views decoding each property on
+ * access.
+ *
+ * <p>Closing frees the memory right away when the runtime allows it, see {@link DirectBuffers#free(ByteBuffer)}.
+ * Messages can no longer be read once closed, and the arena must not be closed while other threads are reading it.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+final class MessageArena implements MessageStore {
+    /**
+     * Default size of each segment.
+     */
+    static final int DEFAULT_SEGMENT_SIZE = 1_048_576;
+
+    /**
+     * Bits of the offset in a message address.
+     */
+    private static final int OFFSET_BITS = 32;
+
+    /**
+     * Mask of the offset in a message address.
+     */
+    private static final long OFFSET_MASK = 0xFFFFFFFFL;
+
+    /**
+     * Size of each segment.
+     */
+    private final int segmentSize;
+
+    /**
+     * Number of addresses of each index segment.
+     */
+    private final int indexSize;
+
+    /**
+     * Segments of encoded messages.
+     */
+    private final List<ByteBuffer> segments = new ArrayList<>();
+
+    /**
+     * Segments of message addresses, the segment index in the high bits and the offset in the low bits.
+     */
+    private final List<ByteBuffer> index = new ArrayList<>();
+
+    /**
+     * Segment where messages are appended, null before the first message.
+     */
+    private ByteBuffer current;
+
+    /**
+     * Number of messages appended.
+     */
+    private int size;
+
+    /**
+     * Number of bytes allocated.
+     */
+    private long allocated;
+
+    /**
+     * Determines if the memory was freed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Constructor with the size of each segment.
+     *
+     * @param segmentSize size of each segment, at least 8 bytes
+     */
+    MessageArena(final int segmentSize) {
+        if (segmentSize < Long.BYTES) {
+            throw new IllegalArgumentException("segmentSize must be at least " + Long.BYTES);
+        }
+        this.segmentSize = segmentSize;
+        this.indexSize = segmentSize / Long.BYTES;
+    }
+
+    /**
+     * Number of bytes allocated out of the heap.
+     *
+     * @return the number of bytes
+     */
+    long getAllocated() {
+        return allocated;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void write(final ServiceMessage message) {
+        checkOpen();
+        final byte[] bytes = MessageCodec.encode(message);
+        if (current == null || current.remaining() < bytes.length) {
+            current = allocate(Math.max(segmentSize, bytes.length));
+            segments.add(current);
+        }
+        final long address = (long) (segments.size() - 1) << OFFSET_BITS | current.position();
+        current.put(bytes);
+        if (size % indexSize == 0) {
+            index.add(allocate(indexSize * Long.BYTES));
+        }
+        index.get(size / indexSize).putLong(size % indexSize * Long.BYTES, address);
+        size++;
+    }
+
+    /**
+     * Messages are readable once written.
+     */
+    @Override
+    public void flush() {
+        // Nothing to flush
+    }
+
+    /**
+     * Reads the message at the position specified, returning a view decoding each property on access.
+     *
+     * @param position the position of the message
+     * @return the view of the message
+     */
+    @Override
+    public ServiceMessage read(final int position) {
+        checkOpen();
+        return new ArenaMessage(this, index.get(position / indexSize).getLong(position % indexSize * Long.BYTES));
+    }
+
+    @Override
+    public MessageStore.Reader reader(final int position) {
+        return new MessageStore.Reader() {
+            private int next = position;
+
+            @Override
+            public ServiceMessage read() {
+                return MessageArena.this.read(next++);
+            }
+        };
+    }
+
+    /**
+     * Returns the segment of a message.
+     *
+     * @param address the address of the message
+     * @return the segment
+     * @throws IllegalStateException if the arena is closed
+     */
+    ByteBuffer segment(final long address) {
+        checkOpen();
+        return segments.get((int) (address >>> OFFSET_BITS));
+    }
+
+    /**
+     * Returns the offset of a message in its segment.
+     *
+     * @param address the address of the message
+     * @return the offset
+     */
+    static int offset(final long address) {
+        return (int) (address & OFFSET_MASK);
+    }
+
+    /**
+     * Frees the memory of the arena.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        segments.forEach(DirectBuffers::free);
+        index.forEach(DirectBuffers::free);
+        segments.clear();
+        index.clear();
+        current = null;
+        allocated = 0;
+    }
+
+    /**
+     * Allocates a direct buffer.
+     *
+     * @param capacity the capacity of the buffer
+     * @return the buffer
+     */
+    private ByteBuffer allocate(final int capacity) {
+        allocated += capacity;
+        return ByteBuffer.allocateDirect(capacity);
+    }
+
+    /**
+     * Throws an exception if the arena is closed.
+     */
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("The arena is closed");
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an interface whose methods are message definitions. The annotation processor of the logic-core-processor
+ * module generates an implementation named after the interface with the {@code Catalog} suffix.
+ *
+ * <p>Each method must be annotated with {@link MessageDefinition}, its first parameter must be a
+ * {@link ResponseBuilder} and the remaining parameters are the arguments of the pattern:
+ *
+ * <pre>
+ * &#64;MessageCatalog
+ * public interface OrderMessages {
+ *     &#64;MessageDefinition(type = ServiceMessageType.ERROR, code = "ORD-001", pattern = "Invalid currency {0}")
+ *     ResponseBuilder invalidCurrency(ResponseBuilder builder, String currency);
+ * }
+ * </pre>
+ *
+ * <p>The generated class has a {@link MessageTemplate} constant for each method, with the pattern split at compile
+ * time, a constant with each code and a singleton {@code INSTANCE} implementing the interface.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface MessageCatalog {
+}
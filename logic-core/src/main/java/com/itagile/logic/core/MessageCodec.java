@@ -0,0 +1,553 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageType;
+
+/**
+ * Compact binary encoding of messages, shared by {@link MessageSpill} and {@link MessageArena}.
+ *
+ * <p>A message starts with a byte holding the type and a flag for each optional property, followed by the present
+ * properties: strings as their UTF-8 length and bytes, numbers as variable length integers. Properties are decoded
+ * from absolute positions of a buffer, so buffers are never modified and can be read concurrently.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+final class MessageCodec {
+    /**
+     * Maximum number of bytes of a variable length integer.
+     */
+    static final int VARINT_MAX_BYTES = 5;
+
+    /**
+     * Flag of a message with text.
+     */
+    private static final int HAS_MESSAGE = 1;
+
+    /**
+     * Flag of a message with code.
+     */
+    private static final int HAS_CODE = 2;
+
+    /**
+     * Flag of a message with count.
+     */
+    private static final int HAS_COUNT = 4;
+
+    /**
+     * Flag of a message with sample indices.
+     */
+    private static final int HAS_SAMPLES = 8;
+
+    /**
+     * Flag of a message with sequence number.
+     */
+    private static final int HAS_SEQUENCE = 16;
+
+    /**
+     * Flag of a message with origin.
+     */
+    private static final int HAS_ORIGIN = 32;
+
+    /**
+     * Position of the type, plus one so zero is no type, in the header byte.
+     */
+    private static final int TYPE_SHIFT = 6;
+
+    /**
+     * Maximum number of bytes of a variable length long.
+     */
+    private static final int VARLONG_MAX_BYTES = 10;
+
+    /**
+     * Bits of each byte of a variable length integer.
+     */
+    private static final int VARINT_BITS = 7;
+
+    /**
+     * Mask of the bits of each byte of a variable length integer.
+     */
+    private static final int VARINT_MASK = 0x7F;
+
+    /**
+     * Flag of the bytes of a variable length integer followed by more bytes.
+     */
+    private static final int VARINT_MORE = 0x80;
+
+    /**
+     * Mask of an unsigned byte.
+     */
+    private static final int BYTE_MASK = 0xFF;
+
+    /**
+     * Message types by ordinal.
+     */
+    private static final ServiceMessageType[] TYPES = ServiceMessageType.values();
+
+    /**
+     * Utility class.
+     */
+    private MessageCodec() {
+    }
+
+    /**
+     * Encodes a message.
+     *
+     * @param message the message
+     * @return the bytes of the message
+     */
+    static byte[] encode(final ServiceMessage message) {
+        final byte[] text = message.getMessage() == null ? null : message.getMessage().getBytes(StandardCharsets.UTF_8);
+        final byte[] code = message.getCode() == null ? null : message.getCode().getBytes(StandardCharsets.UTF_8);
+        final List<Integer> samples = message.getSampleIndices();
+        final byte[] origin = message.getOrigin() == null ? null
+                : message.getOrigin().getBytes(StandardCharsets.UTF_8);
+        int size = 1;
+        if (text != null) {
+            size += VARINT_MAX_BYTES + text.length;
+        }
+        if (code != null) {
+            size += VARINT_MAX_BYTES + code.length;
+        }
+        if (message.getCount() != null) {
+            size += VARINT_MAX_BYTES;
+        }
+        if (samples != null) {
+            size += VARINT_MAX_BYTES * (samples.size() + 1);
+        }
+        if (message.getSequence() != null) {
+            size += VARLONG_MAX_BYTES;
+        }
+        if (origin != null) {
+            size += VARINT_MAX_BYTES + origin.length;
+        }
+        final ByteBuffer buffer = ByteBuffer.allocate(size);
+        final int type = message.getType() == null ? 0 : message.getType().ordinal() + 1;
+        buffer.put((byte) (type << TYPE_SHIFT
+                | (text == null ? 0 : HAS_MESSAGE)
+                | (code == null ? 0 : HAS_CODE)
+                | (message.getCount() == null ? 0 : HAS_COUNT)
+                | (samples == null ? 0 : HAS_SAMPLES)
+                | (message.getSequence() == null ? 0 : HAS_SEQUENCE)
+                | (origin == null ? 0 : HAS_ORIGIN)));
+        putBytes(buffer, text);
+        putBytes(buffer, code);
+        if (message.getCount() != null) {
+            putInt(buffer, message.getCount());
+        }
+        if (samples != null) {
+            putVarint(buffer, samples.size());
+            for (final Integer sample : samples) {
+                putInt(buffer, sample);
+            }
+        }
+        if (message.getSequence() != null) {
+            putLong(buffer, message.getSequence());
+        }
+        putBytes(buffer, origin);
+        final byte[] bytes = new byte[buffer.position()];
+        System.arraycopy(buffer.array(), 0, bytes, 0, bytes.length);
+        return bytes;
+    }
+
+    /**
+     * Puts bytes preceded by their length, if not null.
+     *
+     * @param buffer the buffer
+     * @param bytes  the bytes, null to put nothing
+     */
+    private static void putBytes(final ByteBuffer buffer, final byte[] bytes) {
+        if (bytes != null) {
+            putVarint(buffer, bytes.length);
+            buffer.put(bytes);
+        }
+    }
+
+    /**
+     * Puts a signed integer, small negative values take few bytes.
+     *
+     * @param buffer the buffer
+     * @param value  the integer
+     */
+    private static void putInt(final ByteBuffer buffer, final int value) {
+        putVarint(buffer, value << 1 ^ value >> (Integer.SIZE - 1));
+    }
+
+    /**
+     * Puts a signed long as a variable length long, small negative values take few bytes.
+     *
+     * @param buffer the buffer
+     * @param value  the long
+     */
+    private static void putLong(final ByteBuffer buffer, final long value) {
+        long rest = value << 1 ^ value >> (Long.SIZE - 1);
+        while ((rest & ~VARINT_MASK) != 0) {
+            buffer.put((byte) (rest & VARINT_MASK | VARINT_MORE));
+            rest >>>= VARINT_BITS;
+        }
+        buffer.put((byte) rest);
+    }
+
+    /**
+     * Puts an unsigned variable length integer.
+     *
+     * @param buffer the buffer
+     * @param value  the integer, read as unsigned
+     */
+    static void putVarint(final ByteBuffer buffer, final int value) {
+        int rest = value;
+        while ((rest & ~VARINT_MASK) != 0) {
+            buffer.put((byte) (rest & VARINT_MASK | VARINT_MORE));
+            rest >>>= VARINT_BITS;
+        }
+        buffer.put((byte) rest);
+    }
+
+    /**
+     * Decodes the type of a message.
+     *
+     * @param buffer   the buffer
+     * @param position the position of the message
+     * @return the type of the message
+     */
+    static ServiceMessageType type(final ByteBuffer buffer, final int position) {
+        final int type = (buffer.get(position) & BYTE_MASK) >>> TYPE_SHIFT;
+        return type == 0 ? null : TYPES[type - 1];
+    }
+
+    /**
+     * Decodes the text of a message.
+     *
+     * @param buffer   the buffer
+     * @param position the position of the message
+     * @return the text of the message
+     */
+    static String message(final ByteBuffer buffer, final int position) {
+        return new Cursor(buffer, position).skipTo(HAS_MESSAGE).string();
+    }
+
+    /**
+     * Decodes the code of a message.
+     *
+     * @param buffer   the buffer
+     * @param position the position of the message
+     * @return the code of the message
+     */
+    static String code(final ByteBuffer buffer, final int position) {
+        return new Cursor(buffer, position).skipTo(HAS_CODE).string();
+    }
+
+    /**
+     * Determines if a message has a code, comparing its UTF-8 bytes in place without decoding it.
+     *
+     * @param buffer   the buffer
+     * @param position the position of the message
+     * @param code     the UTF-8 bytes of the code, null for no code
+     * @return true if the message has the code
+     */
+    static boolean hasCode(final ByteBuffer buffer, final int position, final byte[] code) {
+        final Cursor cursor = new Cursor(buffer, position).skipTo(HAS_CODE);
+        if (!cursor.present || code == null) {
+            return !cursor.present && code == null;
+        }
+        return cursor.matches(code);
+    }
+
+    /**
+     * Decodes the count of a message.
+     *
+     * @param buffer   the buffer
+     * @param position the position of the message
+     * @return the count of the message
+     */
+    static Integer count(final ByteBuffer buffer, final int position) {
+        final Cursor cursor = new Cursor(buffer, position).skipTo(HAS_COUNT);
+        return cursor.present ? cursor.signed() : null;
+    }
+
+    /**
+     * Decodes the sample indices of a message.
+     *
+     * @param buffer   the buffer
+     * @param position the position of the message
+     * @return a new list with the sample indices of the message
+     */
+    static List<Integer> sampleIndices(final ByteBuffer buffer, final int position) {
+        return new Cursor(buffer, position).skipTo(HAS_SAMPLES).samples();
+    }
+
+    /**
+     * Decodes the sequence number of a message.
+     *
+     * @param buffer   the buffer
+     * @param position the position of the message
+     * @return the sequence number of the message
+     */
+    static Long sequence(final ByteBuffer buffer, final int position) {
+        final Cursor cursor = new Cursor(buffer, position).skipTo(HAS_SEQUENCE);
+        return cursor.present ? cursor.signedLong() : null;
+    }
+
+    /**
+     * Decodes the origin of a message.
+     *
+     * @param buffer   the buffer
+     * @param position the position of the message
+     * @return the origin of the message
+     */
+    static String origin(final ByteBuffer buffer, final int position) {
+        return new Cursor(buffer, position).skipTo(HAS_ORIGIN).string();
+    }
+
+    /**
+     * Decodes a message.
+     *
+     * @param buffer   the buffer
+     * @param position the position of the message
+     * @return a new message
+     */
+    static ServiceMessage decode(final ByteBuffer buffer, final int position) {
+        final Cursor cursor = new Cursor(buffer, position);
+        final ServiceMessage message = ServiceMessage.of(type(buffer, position), cursor.skipTo(HAS_MESSAGE).string());
+        message.setCode(cursor.skipTo(HAS_CODE).string());
+        if (cursor.skipTo(HAS_COUNT).present) {
+            message.setCount(cursor.signed());
+        }
+        message.setSampleIndices(cursor.skipTo(HAS_SAMPLES).samples());
+        if (cursor.skipTo(HAS_SEQUENCE).present) {
+            message.setSequence(cursor.signedLong());
+        }
+        message.setOrigin(cursor.skipTo(HAS_ORIGIN).string());
+        return message;
+    }
+
+    /**
+     * Reads an unsigned variable length integer.
+     *
+     * @param buffer   the buffer
+     * @param position the position of the integer
+     * @return the integer
+     */
+    static int varint(final ByteBuffer buffer, final int position) {
+        int value = 0;
+        int shift = 0;
+        int index = position;
+        int current = buffer.get(index++);
+        while ((current & VARINT_MORE) != 0) {
+            value |= (current & VARINT_MASK) << shift;
+            shift += VARINT_BITS;
+            current = buffer.get(index++);
+        }
+        return value | (current & BYTE_MASK) << shift;
+    }
+
+    /**
+     * Number of bytes of an unsigned variable length integer.
+     *
+     * @param value the integer, read as unsigned
+     * @return the number of bytes
+     */
+    static int varintSize(final int value) {
+        int size = 1;
+        int rest = value >>> VARINT_BITS;
+        while (rest != 0) {
+            size++;
+            rest >>>= VARINT_BITS;
+        }
+        return size;
+    }
+
+    /**
+     * Reads the properties of a message in order from absolute positions.
+     */
+    private static final class Cursor {
+        /**
+         * The buffer.
+         */
+        private final ByteBuffer buffer;
+
+        /**
+         * Flags of the properties present.
+         */
+        private final int flags;
+
+        /**
+         * Position of the next byte.
+         */
+        private int position;
+
+        /**
+         * Flag of the next property, zero before the first one.
+         */
+        private int next;
+
+        /**
+         * Determines if the property the cursor was moved to is present.
+         */
+        private boolean present;
+
+        /**
+         * Constructor with the position of a message.
+         *
+         * @param buffer   the buffer
+         * @param position the position of the message
+         */
+        Cursor(final ByteBuffer buffer, final int position) {
+            this.buffer = buffer;
+            this.flags = buffer.get(position);
+            this.position = position + 1;
+            this.next = HAS_MESSAGE;
+        }
+
+        /**
+         * Skips the properties before the property specified.
+         *
+         * @param property the flag of the property
+         * @return this object
+         */
+        Cursor skipTo(final int property) {
+            while (next < property) {
+                if ((flags & next) != 0) {
+                    skip();
+                }
+                next <<= 1;
+            }
+            present = (flags & property) != 0;
+            next = property << 1;
+            return this;
+        }
+
+        /**
+         * Skips the present property the cursor is at.
+         */
+        private void skip() {
+            if (next == HAS_MESSAGE || next == HAS_CODE || next == HAS_ORIGIN) {
+                final int length = varint();
+                position += length;
+            } else if (next == HAS_COUNT) {
+                varint();
+            } else if (next == HAS_SEQUENCE) {
+                signedLong();
+            } else {
+                for (int i = varint(); i > 0; i--) {
+                    varint();
+                }
+            }
+        }
+
+        /**
+         * Reads the string property the cursor was moved to.
+         *
+         * @return the string, null if not present
+         */
+        String string() {
+            if (!present) {
+                return null;
+            }
+            final int length = varint();
+            final byte[] bytes = new byte[length];
+            final ByteBuffer source = buffer.duplicate();
+            // Called through Buffer, the Java 8 return type, to run on Java 8 when built on newer JDKs
+            ((Buffer) source).position(position);
+            source.get(bytes);
+            position += length;
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Compares the string property the cursor was moved to with UTF-8 bytes.
+         *
+         * @param bytes the UTF-8 bytes
+         * @return true if the property has the same bytes
+         */
+        boolean matches(final byte[] bytes) {
+            if (varint() != bytes.length) {
+                return false;
+            }
+            for (int i = 0; i < bytes.length; i++) {
+                if (buffer.get(position + i) != bytes[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Reads the sample indices property the cursor was moved to.
+         *
+         * @return a new list with the sample indices, null if not present
+         */
+        List<Integer> samples() {
+            if (!present) {
+                return null;
+            }
+            final int size = varint();
+            final List<Integer> samples = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                samples.add(signed());
+            }
+            return samples;
+        }
+
+        /**
+         * Reads a signed integer.
+         *
+         * @return the integer
+         */
+        int signed() {
+            final int value = varint();
+            return value >>> 1 ^ -(value & 1);
+        }
+
+        /**
+         * Reads a signed variable length long.
+         *
+         * @return the long
+         */
+        long signedLong() {
+            long value = 0;
+            int shift = 0;
+            int current = buffer.get(position++);
+            while ((current & VARINT_MORE) != 0) {
+                value |= (long) (current & VARINT_MASK) << shift;
+                shift += VARINT_BITS;
+                current = buffer.get(position++);
+            }
+            value |= (long) (current & BYTE_MASK) << shift;
+            return value >>> 1 ^ -(value & 1);
+        }
+
+        /**
+         * Reads an unsigned variable length integer.
+         *
+         * @return the integer
+         */
+        int varint() {
+            final int value = MessageCodec.varint(buffer, position);
+            position += varintSize(value);
+            return value;
+        }
+    }
+}
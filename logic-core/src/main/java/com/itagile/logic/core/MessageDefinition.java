@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.itagile.logic.api.ServiceMessageType;
+
+/**
+ * Defines the message appended by a method of a {@link MessageCatalog} interface.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.METHOD)
+public @interface MessageDefinition {
+    /**
+     * Type of the message.
+     *
+     * @return the type of the message
+     */
+    ServiceMessageType type();
+
+    /**
+     * Pattern of the message using {@link java.text.MessageFormat} syntax.
+     *
+     * @return the pattern of the message
+     */
+    String pattern();
+
+    /**
+     * Code of the message, empty for messages without code.
+     *
+     * @return the code of the message
+     */
+    String code() default "";
+}
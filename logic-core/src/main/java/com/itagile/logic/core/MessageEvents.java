@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.itagile.logic.core;
+
+import com.itagile.logic.api.AppResponse;
+import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageType;
+
+/**
+ * JDK Flight Recorder events of message creation, formatting, resolution and build.
+ *
+ * <p>The Java 8 API has no Flight Recorder, so these base classes record no events and every method returns
+ * immediately. The multi-release JAR replaces this class on Java 11 and later with a version recording the events.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+final class MessageEvents {
+    /**
+     * Utility class.
+     */
+    private MessageEvents() {
+    }
+
+    /**
+     * Determines if events are recorded.
+     *
+     * @return always false
+     */
+    static boolean isAvailable() {
+        return false;
+    }
+
+    /**
+     * Records that a message was added.
+     *
+     * @param message   the message added
+     * @param formatted true if the message was formatted with arguments
+     */
+    static void added(final ServiceMessage message, final boolean formatted) {
+        // No events on Java 8
+    }
+
+    /**
+     * Starts timing the format of a message.
+     *
+     * @return always null
+     */
+    static Object beginFormat() {
+        return null;
+    }
+
+    /**
+     * Records the format of a message.
+     *
+     * @param token   the event returned by {@link #beginFormat()}
+     * @param pattern the pattern formatted
+     * @param args    the arguments formatted
+     */
+    static void formatted(final Object token, final String pattern, final Object[] args) {
+        // No events on Java 8
+    }
+
+    /**
+     * Starts timing the resolution of a message by the message provider.
+     *
+     * @return always null
+     */
+    static Object beginResolve() {
+        return null;
+    }
+
+    /**
+     * Records the resolution of a message by the message provider.
+     *
+     * @param token   the event returned by {@link #beginResolve()}
+     * @param type    the type of the message
+     * @param pattern the message or pattern resolved
+     */
+    static void resolved(final Object token, final ServiceMessageType type, final String pattern) {
+        // No events on Java 8
+    }
+
+    /**
+     * Starts timing the build of a response.
+     *
+     * @return always null
+     */
+    static Object beginBuild() {
+        return null;
+    }
+
+    /**
+     * Records the build of a response.
+     *
+     * @param token    the event returned by {@link #beginBuild()}
+     * @param response the response built
+     */
+    static void built(final Object token, final AppResponse response) {
+        // No events on Java 8
+    }
+}
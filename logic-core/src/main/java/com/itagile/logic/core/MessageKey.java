@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import java.util.Objects;
+
+import com.itagile.logic.api.ServiceMessageType;
+
+/**
+ * Identity of a message by its type, text and code, used to find duplicated messages.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+final class MessageKey {
+    /**
+     * The type of the message.
+     */
+    private final ServiceMessageType type;
+
+    /**
+     * The pattern or formatted text of the message.
+     */
+    private final String text;
+
+    /**
+     * The code of the message.
+     */
+    private final String code;
+
+    /**
+     * Constructor using fields.
+     *
+     * @param type the type of the message
+     * @param text the pattern or formatted text of the message
+     * @param code the code of the message
+     */
+    MessageKey(final ServiceMessageType type, final String text, final String code) {
+        this.type = type;
+        this.text = text;
+        this.code = code;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof MessageKey)) {
+            return false;
+        }
+        final MessageKey other = (MessageKey) obj;
+        return type == other.type && Objects.equals(text, other.text) && Objects.equals(code, other.code);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, text, code);
+    }
+}
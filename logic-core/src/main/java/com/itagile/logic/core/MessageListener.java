@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import com.itagile.logic.api.AppResponse;
+import com.itagile.logic.api.ServiceMessage;
+
+/**
+ * Contract for being notified of the messages created by a builder and of the responses built, for example to log
+ * them for diagnostics.
+ *
+ * <p>Listeners are called in the thread adding the message, so slow listeners, like the ones doing I/O, should be
+ * wrapped in an {@link AsyncMessageSink}. Messages appended from other responses are not notified. The code set
+ * through {@link ResponseBuilder#withCode(String)} after adding a message is notified through
+ * {@link #codeChanged(ServiceMessage)}.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+@FunctionalInterface
+public interface MessageListener {
+    /**
+     * Called when a builder creates a message, or counts other occurrence of a collapsed message.
+     *
+     * @param message the message
+     */
+    void messageAdded(ServiceMessage message);
+
+    /**
+     * Called when the code of the last message created is set. The default implementation does nothing.
+     *
+     * @param message the message with its new code
+     */
+    default void codeChanged(final ServiceMessage message) {
+        // Codes are not notified by default
+    }
+
+    /**
+     * Called when a builder builds a response. The default implementation does nothing.
+     *
+     * @param response the response built
+     */
+    default void responseBuilt(final AppResponse response) {
+        // Responses are not notified by default
+    }
+}
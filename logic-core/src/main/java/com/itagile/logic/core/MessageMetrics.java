@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageType;
+
+/**
+ * Counts of messages by type and code, and latencies of formatting and message provider resolution. Instances are
+ * thread-safe and meant to be shared by all builders through {@code withMetrics}.
+ *
+ * <p>Counters are striped, so recording from many threads does not contend. The number of codes is bounded, codes
+ * beyond the maximum are counted under {@link #OTHER_CODE}. Metrics can be exposed through the platform MBean server
+ * with {@link #register(String)}.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+public final class MessageMetrics implements MessageMetricsMXBean {
+    /**
+     * Code counting messages whose code exceeded the maximum number of codes.
+     */
+    public static final String OTHER_CODE = "<other>";
+
+    /**
+     * Domain and type of the object names of registered metrics.
+     */
+    private static final String OBJECT_NAME = "com.itagile.logic:type=MessageMetrics,name=";
+
+    /**
+     * Median percentile.
+     */
+    private static final double P50 = 50;
+
+    /**
+     * 90th percentile.
+     */
+    private static final double P90 = 90;
+
+    /**
+     * 99th percentile.
+     */
+    private static final double P99 = 99;
+
+    /**
+     * Count of messages by type ordinal.
+     */
+    private final LongAdder[] types;
+
+    /**
+     * Count of messages by code.
+     */
+    private final ConcurrentMap<String, LongAdder> codes = new ConcurrentHashMap<>();
+
+    /**
+     * Maximum number of codes counted separately.
+     */
+    private final int maximumCodes;
+
+    /**
+     * Latencies of formatting.
+     */
+    private final LatencyHistogram formatLatency = new LatencyHistogram();
+
+    /**
+     * Latencies of message provider resolution.
+     */
+    private final LatencyHistogram resolveLatency = new LatencyHistogram();
+
+    /**
+     * The name this object is registered with, null if it is not registered.
+     */
+    private volatile ObjectName objectName;
+
+    /**
+     * Constructor using fields.
+     *
+     * @param maximumCodes maximum number of codes counted separately
+     */
+    private MessageMetrics(final int maximumCodes) {
+        this.maximumCodes = maximumCodes;
+        this.types = new LongAdder[ServiceMessageType.values().length];
+        for (int i = 0; i < types.length; i++) {
+            types[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Static factory method using fields.
+     *
+     * @param maximumCodes maximum number of codes counted separately
+     * @return the created object
+     * @throws IllegalArgumentException if the maximum number of codes is negative
+     */
+    public static MessageMetrics of(final int maximumCodes) {
+        if (maximumCodes < 0) {
+            throw new IllegalArgumentException("maximumCodes must not be negative");
+        }
+        return new MessageMetrics(maximumCodes);
+    }
+
+    /**
+     * Counts a message by type and by code, if any.
+     *
+     * @param message the message added
+     */
+    public void recordMessage(final ServiceMessage message) {
+        if (message.getType() != null) {
+            types[message.getType().ordinal()].increment();
+        }
+        recordCode(message.getCode());
+    }
+
+    /**
+     * Counts a message by code. Messages without code are not counted.
+     *
+     * @param code the code of the message
+     */
+    public void recordCode(final String code) {
+        if (code == null) {
+            return;
+        }
+        LongAdder counter = codes.get(code);
+        if (counter == null) {
+            counter = codes.size() < maximumCodes ? codes.computeIfAbsent(code, x -> new LongAdder())
+                    : codes.computeIfAbsent(OTHER_CODE, x -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    /**
+     * Records the latency of formatting a message.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public void recordFormat(final long nanos) {
+        formatLatency.record(nanos);
+    }
+
+    /**
+     * Records the latency of a message provider resolution.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    public void recordResolve(final long nanos) {
+        resolveLatency.record(nanos);
+    }
+
+    /**
+     * Registers this object in the platform MBean server.
+     *
+     * @param name the value of the name key of the object name
+     * @return the object name
+     * @throws IllegalStateException if the registration failed
+     */
+    public synchronized ObjectName register(final String name) {
+        if (objectName != null) {
+            throw new IllegalStateException("Already registered as " + objectName);
+        }
+        try {
+            final ObjectName newName = new ObjectName(OBJECT_NAME + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, newName);
+            objectName = newName;
+            return newName;
+        } catch (final JMException e) {
+            throw new IllegalStateException("Failed to register " + name, e);
+        }
+    }
+
+    /**
+     * Unregisters this object from the platform MBean server, if it is registered.
+     *
+     * @throws IllegalStateException if the unregistration failed
+     */
+    public synchronized void unregister() {
+        if (objectName == null) {
+            return;
+        }
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(objectName);
+            objectName = null;
+        } catch (final JMException e) {
+            throw new IllegalStateException("Failed to unregister " + objectName, e);
+        }
+    }
+
+    @Override
+    public long getErrorCount() {
+        return types[ServiceMessageType.ERROR.ordinal()].sum();
+    }
+
+    @Override
+    public long getWarningCount() {
+        return types[ServiceMessageType.WARN.ordinal()].sum();
+    }
+
+    @Override
+    public long getInfoCount() {
+        return types[ServiceMessageType.INFO.ordinal()].sum();
+    }
+
+    @Override
+    public Map<String, Long> getCodeCounts() {
+        final Map<String, Long> counts = new TreeMap<>();
+        codes.forEach((code, counter) -> counts.put(code, counter.sum()));
+        return counts;
+    }
+
+    @Override
+    public long getFormatCount() {
+        return formatLatency.getCount();
+    }
+
+    @Override
+    public long getFormatLatencyP50() {
+        return formatLatency.getPercentile(P50);
+    }
+
+    @Override
+    public long getFormatLatencyP90() {
+        return formatLatency.getPercentile(P90);
+    }
+
+    @Override
+    public long getFormatLatencyP99() {
+        return formatLatency.getPercentile(P99);
+    }
+
+    @Override
+    public long getResolveCount() {
+        return resolveLatency.getCount();
+    }
+
+    @Override
+    public long getResolveLatencyP50() {
+        return resolveLatency.getPercentile(P50);
+    }
+
+    @Override
+    public long getResolveLatencyP90() {
+        return resolveLatency.getPercentile(P90);
+    }
+
+    @Override
+    public long getResolveLatencyP99() {
+        return resolveLatency.getPercentile(P99);
+    }
+
+    @Override
+    public void reset() {
+        for (final LongAdder counter : types) {
+            counter.reset();
+        }
+        codes.clear();
+        formatLatency.reset();
+        resolveLatency.reset();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link MessageMetrics}, exposed through the platform MBean server.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+public interface MessageMetricsMXBean {
+    /**
+     * Returns the number of errors added.
+     *
+     * @return the number of errors
+     */
+    long getErrorCount();
+
+    /**
+     * Returns the number of warnings added.
+     *
+     * @return the number of warnings
+     */
+    long getWarningCount();
+
+    /**
+     * Returns the number of informative messages added.
+     *
+     * @return the number of informative messages
+     */
+    long getInfoCount();
+
+    /**
+     * Returns the number of messages by code. Codes beyond the maximum number of codes are counted together.
+     *
+     * @return the number of messages by code
+     */
+    Map<String, Long> getCodeCounts();
+
+    /**
+     * Returns the number of messages formatted with arguments.
+     *
+     * @return the number of messages formatted
+     */
+    long getFormatCount();
+
+    /**
+     * Returns the median latency of formatting in nanoseconds.
+     *
+     * @return the median latency of formatting
+     */
+    long getFormatLatencyP50();
+
+    /**
+     * Returns the 90th percentile of the latency of formatting in nanoseconds.
+     *
+     * @return the 90th percentile of the latency of formatting
+     */
+    long getFormatLatencyP90();
+
+    /**
+     * Returns the 99th percentile of the latency of formatting in nanoseconds.
+     *
+     * @return the 99th percentile of the latency of formatting
+     */
+    long getFormatLatencyP99();
+
+    /**
+     * Returns the number of messages resolved by message providers.
+     *
+     * @return the number of messages resolved
+     */
+    long getResolveCount();
+
+    /**
+     * Returns the median latency of message provider resolution in nanoseconds.
+     *
+     * @return the median latency of resolution
+     */
+    long getResolveLatencyP50();
+
+    /**
+     * Returns the 90th percentile of the latency of message provider resolution in nanoseconds.
+     *
+     * @return the 90th percentile of the latency of resolution
+     */
+    long getResolveLatencyP90();
+
+    /**
+     * Returns the 99th percentile of the latency of message provider resolution in nanoseconds.
+     *
+     * @return the 99th percentile of the latency of resolution
+     */
+    long getResolveLatencyP99();
+
+    /**
+     * Resets all counters and latencies.
+     */
+    void reset();
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.itagile.logic.api.AppResponse;
+import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageList;
+
+/**
+ * Mutable container of the collectors returned by {@link ResponseBuilder#toResponse()}. It keeps the message lists of
+ * the accumulated responses in encounter order, so combining two containers only concatenates their lists of
+ * segments and messages are copied once when finishing.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+final class MessageSegments {
+    /**
+     * Message lists of the accumulated responses, empty lists are skipped.
+     */
+    private final List<List<ServiceMessage>> segments = new ArrayList<>();
+
+    /**
+     * Accumulates the messages of a response.
+     *
+     * @param response the response to accumulate
+     */
+    void add(final AppResponse response) {
+        final List<ServiceMessage> messages = response.getMessages();
+        if (!messages.isEmpty()) {
+            segments.add(messages);
+        }
+    }
+
+    /**
+     * Appends the segments of other container, which must follow this one in encounter order.
+     *
+     * @param other the container to append
+     * @return this object
+     */
+    MessageSegments combine(final MessageSegments other) {
+        segments.addAll(other.segments);
+        return this;
+    }
+
+    /**
+     * Returns the accumulated messages. A single ServiceMessageList segment is returned without copying, otherwise
+     * the following segments are appended to the first one.
+     *
+     * @return the accumulated messages
+     */
+    ServiceMessageList toList() {
+        if (segments.isEmpty()) {
+            return ServiceMessageList.empty();
+        }
+        ServiceMessageList messages = ServiceMessageList.copyOf(segments.get(0));
+        for (int i = 1; i < segments.size(); i++) {
+            messages = messages.plusAll(segments.get(i));
+        }
+        return messages;
+    }
+}
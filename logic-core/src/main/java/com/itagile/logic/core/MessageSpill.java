@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import com.itagile.logic.api.ServiceMessage;
+
+/**
+ * Messages written to a temporary file and read back through a {@link FileChannel}.
+ *
+ * <p>Each message is written as its length followed by its {@link MessageCodec} encoding. The file position of one in
+ * {@value #INDEX_INTERVAL} messages is kept in memory to read a message by index.
+ *
+ * <p>Messages are written by a single thread. Once written and flushed, they can be read concurrently, as reads do not
+ * depend on the position of the channel. The file is deleted when closed.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+final class MessageSpill implements MessageStore {
+    /**
+     * Size of the buffers used for writing and reading.
+     */
+    private static final int BUFFER_SIZE = 65_536;
+
+    /**
+     * Number of messages between positions kept in memory.
+     */
+    private static final int INDEX_INTERVAL = 64;
+
+    /**
+     * The temporary file.
+     */
+    private final Path path;
+
+    /**
+     * Channel reading and writing the file.
+     */
+    private final FileChannel channel;
+
+    /**
+     * Bytes written and not flushed to the file yet.
+     */
+    private final ByteBuffer output = ByteBuffer.allocate(BUFFER_SIZE);
+
+    /**
+     * File position of one in {@link #INDEX_INTERVAL} messages.
+     */
+    private long[] positions = new long[INDEX_INTERVAL];
+
+    /**
+     * Number of bytes flushed to the file.
+     */
+    private long length;
+
+    /**
+     * Number of messages written.
+     */
+    private int size;
+
+    /**
+     * Constructor using fields.
+     *
+     * @param path    the temporary file
+     * @param channel channel reading and writing the file
+     */
+    private MessageSpill(final Path path, final FileChannel channel) {
+        this.path = path;
+        this.channel = channel;
+    }
+
+    /**
+     * Creates a temporary file.
+     *
+     * @param directory the directory of the file, null for the default temporary directory
+     * @return the created object
+     * @throws IOException if the file could not be created
+     */
+    static MessageSpill create(final Path directory) throws IOException {
+        final Path path = directory == null ? Files.createTempFile("messages", ".spill")
+                : Files.createTempFile(directory, "messages", ".spill");
+        try {
+            return new MessageSpill(path, FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                    StandardOpenOption.DELETE_ON_CLOSE));
+        } catch (final IOException e) {
+            Files.deleteIfExists(path);
+            throw e;
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void write(final ServiceMessage message) throws IOException {
+        if (size % INDEX_INTERVAL == 0) {
+            final int slot = size / INDEX_INTERVAL;
+            if (slot == positions.length) {
+                positions = Arrays.copyOf(positions, slot * 2);
+            }
+            positions[slot] = length + output.position();
+        }
+        final byte[] bytes = MessageCodec.encode(message);
+        if (output.remaining() < MessageCodec.VARINT_MAX_BYTES + bytes.length) {
+            flush();
+        }
+        MessageCodec.putVarint(output, bytes.length);
+        if (bytes.length > output.remaining()) {
+            flush();
+            writeFully(ByteBuffer.wrap(bytes));
+        } else {
+            output.put(bytes);
+        }
+        size++;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        // Buffer methods are called through Buffer, the Java 8 return type, to run on Java 8 when built on newer JDKs
+        ((Buffer) output).flip();
+        writeFully(output);
+        ((Buffer) output).clear();
+    }
+
+    /**
+     * Writes all the bytes of a buffer at the end of the file.
+     *
+     * @param buffer the bytes
+     * @throws IOException if the file could not be written
+     */
+    private void writeFully(final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            length += channel.write(buffer, length);
+        }
+    }
+
+    /**
+     * Reads the message at the position specified, decoding a new frozen message.
+     *
+     * @param index the position of the message, lower than the number of messages flushed
+     * @return a new message
+     * @throws IOException if the file could not be read
+     */
+    @Override
+    public ServiceMessage read(final int index) throws IOException {
+        return reader(index).read();
+    }
+
+    @Override
+    public Reader reader(final int index) throws IOException {
+        final Reader reader = new Reader(positions[index / INDEX_INTERVAL]);
+        for (int i = index % INDEX_INTERVAL; i > 0; i--) {
+            reader.skip();
+        }
+        return reader;
+    }
+
+    /**
+     * Closes and deletes the file.
+     *
+     * @throws IOException if the file could not be deleted
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            channel.close();
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    /**
+     * Reads messages sequentially from a position of the file.
+     */
+    final class Reader implements MessageStore.Reader {
+        /**
+         * Bytes read and not decoded yet.
+         */
+        private ByteBuffer input = ByteBuffer.allocate(BUFFER_SIZE);
+
+        /**
+         * File position of the byte following the bytes read.
+         */
+        private long next;
+
+        /**
+         * Constructor with the position of the first message.
+         *
+         * @param position the position of the first message
+         */
+        Reader(final long position) {
+            this.next = position;
+            ((Buffer) input).flip();
+        }
+
+        /**
+         * Reads the next message, decoding a new frozen message.
+         *
+         * @return a new message
+         * @throws IOException if the file could not be read
+         */
+        @Override
+        public ServiceMessage read() throws IOException {
+            final int bytes = fill();
+            final ServiceMessage message = MessageCodec.decode(input, input.position());
+            ((Buffer) input).position(input.position() + bytes);
+            return message.freeze();
+        }
+
+        /**
+         * Skips the next message.
+         *
+         * @throws IOException if the file could not be read
+         */
+        void skip() throws IOException {
+            final int bytes = fill();
+            ((Buffer) input).position(input.position() + bytes);
+        }
+
+        /**
+         * Reads the length of the next message and makes sure its bytes are in the buffer.
+         *
+         * @return the length of the next message
+         * @throws IOException if the file could not be read
+         */
+        private int fill() throws IOException {
+            require(MessageCodec.VARINT_MAX_BYTES);
+            final int bytes = MessageCodec.varint(input, input.position());
+            ((Buffer) input).position(input.position() + MessageCodec.varintSize(bytes));
+            require(bytes);
+            if (input.remaining() < bytes) {
+                throw new EOFException(path.toString());
+            }
+            return bytes;
+        }
+
+        /**
+         * Reads bytes from the file until the buffer has the number of bytes specified or the file ends.
+         *
+         * @param bytes the number of bytes
+         * @throws IOException if the file could not be read
+         */
+        private void require(final int bytes) throws IOException {
+            if (input.remaining() >= bytes) {
+                return;
+            }
+            if (bytes > input.capacity()) {
+                input = ByteBuffer.allocate(bytes).put(input);
+            } else {
+                input.compact();
+            }
+            int read = 0;
+            while (input.position() < bytes && read >= 0) {
+                read = channel.read(input, next);
+                if (read > 0) {
+                    next += read;
+                }
+            }
+            ((Buffer) input).flip();
+        }
+    }
+}
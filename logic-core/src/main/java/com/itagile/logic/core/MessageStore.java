@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import com.itagile.logic.api.ServiceMessage;
+
+/**
+ * Messages kept out of the Java heap by {@link SpillingResponseBuilder}.
+ *
+ * <p>Messages are written by a single thread. Once written and flushed, they can be read concurrently until the store
+ * is closed.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+interface MessageStore extends Closeable {
+    /**
+     * Number of messages written.
+     *
+     * @return the number of messages
+     */
+    int size();
+
+    /**
+     * Writes a message at the end of the store. It can be read once flushed.
+     *
+     * @param message the message
+     * @throws IOException if the message could not be written
+     */
+    void write(ServiceMessage message) throws IOException;
+
+    /**
+     * Makes the messages written readable.
+     *
+     * @throws IOException if the messages could not be written
+     */
+    void flush() throws IOException;
+
+    /**
+     * Reads the message at the position specified.
+     *
+     * @param index the position of the message, lower than the number of messages flushed
+     * @return the message, frozen
+     * @throws IOException if the message could not be read
+     */
+    ServiceMessage read(int index) throws IOException;
+
+    /**
+     * Creates a reader of the messages flushed.
+     *
+     * @param index the position of the first message to read
+     * @return the reader
+     * @throws IOException if the messages could not be read
+     */
+    Reader reader(int index) throws IOException;
+
+    /**
+     * Reads messages sequentially.
+     */
+    interface Reader {
+        /**
+         * Reads the next message.
+         *
+         * @return the message, frozen
+         * @throws IOException if the message could not be read
+         */
+        ServiceMessage read() throws IOException;
+    }
+
+    /**
+     * Creates stores.
+     */
+    @FunctionalInterface
+    interface Factory {
+        /**
+         * Creates a store.
+         *
+         * @return the new store
+         * @throws IOException if the store could not be created
+         */
+        MessageStore create() throws IOException;
+    }
+}
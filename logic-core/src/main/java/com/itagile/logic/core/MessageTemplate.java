@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import java.text.DateFormat;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageType;
+
+/**
+ * A pre-parsed message pattern with a fixed type and code. Instances are immutable and thread-safe.
+ *
+ * <p>Patterns follow {@link java.text.MessageFormat} syntax. Patterns whose arguments have no format type, like
+ * {@code "Invalid currency {0}"}, are split into literals and argument indices once and formatted by concatenation
+ * with the same output as MessageFormat. Other patterns are parsed once and formatted with a copy of the parsed
+ * MessageFormat.
+ *
+ * <p>Templates are usually declared in a {@link MessageCatalog}, whose generated implementation passes the literals
+ * and argument indices split at compile time.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+public final class MessageTemplate {
+    /**
+     * Estimated length of each formatted argument.
+     */
+    private static final int ARGUMENT_LENGTH = 16;
+
+    /**
+     * Maximum number of digits of a simple argument index.
+     */
+    private static final int MAX_INDEX_DIGITS = 4;
+
+    /**
+     * Type of the messages created from this template.
+     */
+    private final ServiceMessageType type;
+
+    /**
+     * The pattern.
+     */
+    private final String pattern;
+
+    /**
+     * Code of the messages created from this template, this value is optional.
+     */
+    private final String code;
+
+    /**
+     * Literal text around the arguments, null if the pattern is not simple.
+     */
+    private final String[] literals;
+
+    /**
+     * Index of the argument after each literal but the last one, null if the pattern is not simple.
+     */
+    private final int[] indices;
+
+    /**
+     * Parsed pattern copied for each format, null if the pattern is simple.
+     */
+    private final MessageFormat prototype;
+
+    /**
+     * Constructor using fields.
+     *
+     * @param type      type of the messages created from this template
+     * @param pattern   the pattern
+     * @param code      code of the messages created from this template
+     * @param literals  literal text around the arguments
+     * @param indices   index of the argument after each literal but the last one
+     * @param prototype parsed pattern copied for each format
+     */
+    private MessageTemplate(final ServiceMessageType type, final String pattern, final String code,
+                            final String[] literals, final int[] indices, final MessageFormat prototype) {
+        this.type = type;
+        this.pattern = pattern;
+        this.code = code;
+        this.literals = literals;
+        this.indices = indices;
+        this.prototype = prototype;
+    }
+
+    /**
+     * Static factory method parsing the pattern.
+     *
+     * @param type    type of the messages created from this template
+     * @param pattern the pattern
+     * @return the created object
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public static MessageTemplate of(final ServiceMessageType type, final String pattern) {
+        return of(type, pattern, null);
+    }
+
+    /**
+     * Static factory method parsing the pattern.
+     *
+     * @param type    type of the messages created from this template
+     * @param pattern the pattern
+     * @param code    code of the messages created from this template
+     * @return the created object
+     * @throws IllegalArgumentException if the pattern is invalid
+     */
+    public static MessageTemplate of(final ServiceMessageType type, final String pattern, final String code) {
+        final List<String> literals = new ArrayList<>();
+        final List<Integer> indices = new ArrayList<>();
+        if (split(pattern, literals, indices)) {
+            final int[] values = new int[indices.size()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = indices.get(i);
+            }
+            return new MessageTemplate(type, pattern, code, literals.toArray(new String[0]), values, null);
+        }
+        return new MessageTemplate(type, pattern, code, null, null, new MessageFormat(pattern));
+    }
+
+    /**
+     * Static factory method with a pattern already split. This method is meant for generated code.
+     *
+     * @param type     type of the messages created from this template
+     * @param pattern  the pattern
+     * @param code     code of the messages created from this template
+     * @param literals literal text around the arguments
+     * @param indices  index of the argument after each literal but the last one
+     * @return the created object
+     * @throws IllegalArgumentException if there is not one more literal than indices
+     */
+    public static MessageTemplate of(final ServiceMessageType type, final String pattern, final String code,
+                                     final String[] literals, final int[] indices) {
+        if (literals.length != indices.length + 1) {
+            throw new IllegalArgumentException("There must be one more literal than indices");
+        }
+        return new MessageTemplate(type, pattern, code, literals.clone(), indices.clone(), null);
+    }
+
+    /**
+     * Splits a pattern whose arguments have no format type into literals and argument indices.
+     *
+     * @param pattern  the pattern
+     * @param literals the list where literals are added
+     * @param indices  the list where argument indices are added
+     * @return false if the pattern is not simple
+     */
+    private static boolean split(final String pattern, final List<String> literals, final List<Integer> indices) {
+        StringBuilder literal = new StringBuilder();
+        boolean quoted = false;
+        int i = 0;
+        while (i < pattern.length()) {
+            final char ch = pattern.charAt(i);
+            if (ch == '\'') {
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+                    literal.append(ch);
+                    i++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (quoted || ch != '{') {
+                literal.append(ch);
+            } else {
+                final int end = pattern.indexOf('}', i + 1);
+                if (end < 0 || end == i + 1 || end - i - 1 > MAX_INDEX_DIGITS) {
+                    return false;
+                }
+                for (int j = i + 1; j < end; j++) {
+                    if (!Character.isDigit(pattern.charAt(j))) {
+                        return false;
+                    }
+                }
+                literals.add(literal.toString());
+                literal = new StringBuilder();
+                indices.add(Integer.parseInt(pattern.substring(i + 1, end)));
+                i = end;
+            }
+            i++;
+        }
+        literals.add(literal.toString());
+        return true;
+    }
+
+    /**
+     * Type of the messages created from this template.
+     *
+     * @return the type of the messages
+     */
+    public ServiceMessageType getType() {
+        return type;
+    }
+
+    /**
+     * The pattern of this template.
+     *
+     * @return the pattern
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Code of the messages created from this template. This value is optional.
+     *
+     * @return the code of the messages
+     */
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * Literal text around the arguments.
+     *
+     * @return a copy of the literals, or null if the pattern is formatted using MessageFormat
+     */
+    public String[] getLiterals() {
+        return literals == null ? null : literals.clone();
+    }
+
+    /**
+     * Index of the argument after each literal but the last one.
+     *
+     * @return a copy of the indices, or null if the pattern is formatted using MessageFormat
+     */
+    public int[] getIndices() {
+        return indices == null ? null : indices.clone();
+    }
+
+    /**
+     * Formats the arguments with this template.
+     *
+     * @param args arguments referenced by the format specifiers in the pattern
+     * @return the formatted text
+     */
+    public String format(final Object... args) {
+        if (prototype != null) {
+            return ((MessageFormat) prototype.clone()).format(args);
+        }
+        if (indices.length == 0) {
+            return literals[0];
+        }
+        final StringBuilder text = new StringBuilder(pattern.length() + ARGUMENT_LENGTH * indices.length);
+        text.append(literals[0]);
+        for (int i = 0; i < indices.length; i++) {
+            final int index = indices[i];
+            if (index < args.length) {
+                appendArgument(text, args[index]);
+            } else {
+                text.append('{').append(index).append('}');
+            }
+            text.append(literals[i + 1]);
+        }
+        return text.toString();
+    }
+
+    /**
+     * Appends an argument formatted as MessageFormat does for arguments without format type.
+     *
+     * @param text     the text to append to
+     * @param argument the argument to format
+     */
+    private static void appendArgument(final StringBuilder text, final Object argument) {
+        if (argument instanceof String) {
+            text.append((String) argument);
+        } else if (argument instanceof Number) {
+            text.append(NumberFormat.getInstance(Locale.getDefault(Locale.Category.FORMAT)).format(argument));
+        } else if (argument instanceof Date) {
+            text.append(DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT,
+                    Locale.getDefault(Locale.Category.FORMAT)).format(argument));
+        } else {
+            text.append(argument);
+        }
+    }
+
+    /**
+     * Creates a message with the type and code of this template and the formatted arguments.
+     *
+     * @param args arguments referenced by the format specifiers in the pattern
+     * @return the new message
+     */
+    public ServiceMessage toMessage(final Object... args) {
+        return ServiceMessage.of(type, format(args), code);
+    }
+}
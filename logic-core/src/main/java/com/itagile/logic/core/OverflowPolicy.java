@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+/**
+ * Constants that indicate what an {@link AsyncMessageSink} does with an event when its buffer is full.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+public enum OverflowPolicy {
+    /**
+     * The event is discarded and counted, so the thread adding the message never waits.
+     */
+    DROP,
+    /**
+     * The thread adding the message waits until the consumer frees space in the buffer.
+     */
+    BLOCK
+}
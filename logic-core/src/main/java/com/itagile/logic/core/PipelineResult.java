@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+/**
+ * Aggregate counters of a {@link ValidationPipeline} run.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+public final class PipelineResult {
+    /**
+     * Number of items validated.
+     */
+    private final long itemCount;
+
+    /**
+     * Number of items with errors.
+     */
+    private final long failedItemCount;
+
+    /**
+     * Number of errors.
+     */
+    private final long errorCount;
+
+    /**
+     * Number of warnings.
+     */
+    private final long warningCount;
+
+    /**
+     * Number of informative messages.
+     */
+    private final long infoCount;
+
+    /**
+     * Constructor using fields.
+     *
+     * @param itemCount       number of items validated
+     * @param failedItemCount number of items with errors
+     * @param errorCount      number of errors
+     * @param warningCount    number of warnings
+     * @param infoCount       number of informative messages
+     */
+    PipelineResult(final long itemCount, final long failedItemCount, final long errorCount, final long warningCount,
+                   final long infoCount) {
+        this.itemCount = itemCount;
+        this.failedItemCount = failedItemCount;
+        this.errorCount = errorCount;
+        this.warningCount = warningCount;
+        this.infoCount = infoCount;
+    }
+
+    /**
+     * Determines if no item failed validation.
+     *
+     * @return true if no errors where found
+     */
+    public boolean isOk() {
+        return failedItemCount == 0;
+    }
+
+    /**
+     * Number of items validated.
+     *
+     * @return the number of items validated
+     */
+    public long getItemCount() {
+        return itemCount;
+    }
+
+    /**
+     * Number of items with errors.
+     *
+     * @return the number of items with errors
+     */
+    public long getFailedItemCount() {
+        return failedItemCount;
+    }
+
+    /**
+     * Number of errors of all items.
+     *
+     * @return the number of errors
+     */
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * Number of warnings of all items.
+     *
+     * @return the number of warnings
+     */
+    public long getWarningCount() {
+        return warningCount;
+    }
+
+    /**
+     * Number of informative messages of all items.
+     *
+     * @return the number of informative messages
+     */
+    public long getInfoCount() {
+        return infoCount;
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import com.itagile.logic.api.AppResponse;
+import com.itagile.logic.api.ResponseSummary;
+import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageList;
+import com.itagile.logic.api.ServiceMessageType;
+
+/**
+ * Merges the responses of many nodes, like the shards of a search, into a single response with a deterministic order.
+ *
+ * <p>Messages are merged by their sequence number, stamped by builders configured through
+ * {@link AppResponseBuilder#withSequencing(String)}, with a k-way merge taking O(n log k) for n messages from k
+ * responses. Messages without sequence number are ordered by their position in their response, and messages with the
+ * same sequence number by the order the responses were added. Messages with the same type, code and text as a message
+ * merged before are removed. Messages are shared with the responses added, without copying them.
+ *
+ * <p>The summary of the merged response is computed from the counts of each response added, kept by their
+ * {@link ServiceMessageList}, and the duplicates removed while merging, without reading the merged messages again.
+ *
+ * @param <T> the AppResponse implementation class
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+public final class ResponseAggregator<T extends AppResponse> {
+    /**
+     * Message types by ordinal.
+     */
+    private static final ServiceMessageType[] TYPES = ServiceMessageType.values();
+
+    /**
+     * Constructor of the merged response.
+     */
+    private final Supplier<T> supplier;
+
+    /**
+     * The messages of the responses added.
+     */
+    private final List<List<ServiceMessage>> responses = new ArrayList<>();
+
+    /**
+     * Number of messages of each type in the responses added, by ordinal.
+     */
+    private final int[] counts = new int[TYPES.length];
+
+    /**
+     * Summary of the last merged response, null until merged.
+     */
+    private ResponseSummary summary;
+
+    /**
+     * Constructor with the constructor of the merged response.
+     *
+     * @param supplier the constructor of the merged response
+     */
+    private ResponseAggregator(final Supplier<T> supplier) {
+        this.supplier = supplier;
+    }
+
+    /**
+     * Static factory method merging into an AppResponse.
+     *
+     * @return the created object
+     */
+    public static ResponseAggregator<AppResponse> of() {
+        return new ResponseAggregator<>(AppResponse::new);
+    }
+
+    /**
+     * Static factory method with the constructor of the merged response.
+     *
+     * @param supplier the constructor of the merged response
+     * @param <T>      the AppResponse implementation class
+     * @return the created object
+     */
+    public static <T extends AppResponse> ResponseAggregator<T> of(final Supplier<T> supplier) {
+        return new ResponseAggregator<>(supplier);
+    }
+
+    /**
+     * Adds the response of a node. Its counts by type are read from its {@link ServiceMessageList}, or counted once
+     * if the response has other list.
+     *
+     * @param response the response of a node
+     * @return this object
+     */
+    public ResponseAggregator<T> add(final AppResponse response) {
+        final List<ServiceMessage> messages = response.getMessages();
+        if (messages instanceof ServiceMessageList) {
+            final ServiceMessageList list = (ServiceMessageList) messages;
+            for (final ServiceMessageType type : TYPES) {
+                counts[type.ordinal()] += list.count(type);
+            }
+        } else {
+            for (final ServiceMessage message : messages) {
+                if (message.getType() != null) {
+                    counts[message.getType().ordinal()]++;
+                }
+            }
+        }
+        responses.add(messages);
+        return this;
+    }
+
+    /**
+     * Merges the responses added.
+     *
+     * @return a new response with the messages merged
+     */
+    public T merge() {
+        final PriorityQueue<Run> runs = new PriorityQueue<>(Math.max(1, responses.size()));
+        for (int i = 0; i < responses.size(); i++) {
+            final Run run = new Run(i, responses.get(i));
+            if (run.hasNext()) {
+                runs.add(run);
+            }
+        }
+        final Set<MessageKey> merged = new HashSet<>();
+        final int[] removed = new int[TYPES.length];
+        ServiceMessageList messages = ServiceMessageList.empty();
+        while (!runs.isEmpty()) {
+            final Run run = runs.poll();
+            final ServiceMessage message = run.next();
+            if (merged.add(new MessageKey(message.getType(), message.getMessage(), message.getCode()))) {
+                messages = messages.plus(message);
+            } else if (message.getType() != null) {
+                removed[message.getType().ordinal()]++;
+            }
+            if (run.hasNext()) {
+                runs.add(run);
+            }
+        }
+        summary = ResponseSummary.of(
+                counts[ServiceMessageType.ERROR.ordinal()] - removed[ServiceMessageType.ERROR.ordinal()],
+                counts[ServiceMessageType.WARN.ordinal()] - removed[ServiceMessageType.WARN.ordinal()],
+                counts[ServiceMessageType.INFO.ordinal()] - removed[ServiceMessageType.INFO.ordinal()]);
+        final T response = supplier.get();
+        response.setMessages(messages);
+        return response;
+    }
+
+    /**
+     * Summary of the last merged response, with its ok state and counts by type.
+     *
+     * @return the summary
+     * @throws IllegalStateException if the responses were not merged yet
+     */
+    public ResponseSummary getSummary() {
+        if (summary == null) {
+            throw new IllegalStateException("The responses were not merged yet");
+        }
+        return summary;
+    }
+
+    /**
+     * The messages of a response not merged yet, ordered by the sequence number of the next one.
+     */
+    private static final class Run implements Comparable<Run> {
+        /**
+         * Order the response was added.
+         */
+        private final int order;
+
+        /**
+         * The messages of the response.
+         */
+        private final List<ServiceMessage> messages;
+
+        /**
+         * Position of the next message.
+         */
+        private int position;
+
+        /**
+         * Sequence number of the next message, or its position if it has no sequence number.
+         */
+        private long sequence;
+
+        /**
+         * Constructor using fields.
+         *
+         * @param order    order the response was added
+         * @param messages the messages of the response
+         */
+        Run(final int order, final List<ServiceMessage> messages) {
+            this.order = order;
+            this.messages = messages;
+            advance();
+        }
+
+        /**
+         * Determines if there are messages not merged yet.
+         *
+         * @return true if there are messages not merged yet
+         */
+        boolean hasNext() {
+            return position < messages.size();
+        }
+
+        /**
+         * Returns the next message and moves to the following one.
+         *
+         * @return the next message
+         */
+        ServiceMessage next() {
+            final ServiceMessage message = messages.get(position++);
+            advance();
+            return message;
+        }
+
+        /**
+         * Reads the sequence number of the next message.
+         */
+        private void advance() {
+            if (hasNext()) {
+                final Long next = messages.get(position).getSequence();
+                sequence = next == null ? position : next;
+            }
+        }
+
+        @Override
+        public int compareTo(final Run other) {
+            final int bySequence = Long.compare(sequence, other.sequence);
+            return bySequence == 0 ? Integer.compare(order, other.order) : bySequence;
+        }
+    }
+}
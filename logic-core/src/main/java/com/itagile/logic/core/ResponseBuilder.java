@@ -19,10 +19,12 @@ package com.itagile.logic.core;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.Supplier;
+import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
 import com.itagile.logic.api.AppResponse;
 import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageType;
 
 /**
  * Contract for AppResponse builder implementations.
@@ -31,6 +33,10 @@ import com.itagile.logic.api.ServiceMessage;
  * @since 1.0.0
  */
 public interface ResponseBuilder {
+    /**
+     * Error message added by {@link #addAll(Throwable)} for throwables that are not an AppResponseException.
+     */
+    String UNEXPECTED_ERROR_MESSAGE = "Unexpected error";
 
     /**
      * Default static factory method.
@@ -63,6 +69,34 @@ public interface ResponseBuilder {
         return new AppResponseDataBuilder<>(clazz);
     }
 
+    /**
+     * Returns a Collector merging the messages of AppResponse objects into a new AppResponse, keeping encounter order.
+     * Partial results of parallel streams are combined by concatenating their message lists, messages are copied
+     * once when the final response is created.
+     *
+     * @return the collector
+     */
+    static Collector<AppResponse, ?, AppResponse> toResponse() {
+        return toResponse(AppResponse::new);
+    }
+
+    /**
+     * Returns a Collector merging the messages of AppResponse objects into the response created by the supplier,
+     * keeping encounter order. Partial results of parallel streams are combined by concatenating their message lists,
+     * messages are copied once when the final response is created.
+     *
+     * @param supplier the specific constructor to use
+     * @param <T> the AppResponse implementation class
+     * @return the collector
+     */
+    static <T extends AppResponse> Collector<AppResponse, ?, T> toResponse(final Supplier<T> supplier) {
+        return Collector.of(MessageSegments::new, MessageSegments::add, MessageSegments::combine, segments -> {
+            final T response = supplier.get();
+            response.setMessages(segments.toList());
+            return response;
+        });
+    }
+
     /**
      * Determines if this response was successful.
      *
@@ -142,6 +176,27 @@ public interface ResponseBuilder {
      */
     ResponseBuilder addInfo(String message, Object... args);
 
+    /**
+     * Appends a message with the type and code of the template. The message is formatted using the pre-parsed
+     * template, or passed to the message provider if there is any. The default implementation appends the formatted
+     * text through the method of its type and sets the code.
+     *
+     * @param template the template of the message to append
+     * @param args arguments referenced by the format specifiers in the template
+     * @return this object
+     */
+    default ResponseBuilder add(final MessageTemplate template, final Object... args) {
+        final String message = template.format(args);
+        if (template.getType() == ServiceMessageType.ERROR) {
+            addError(message);
+        } else if (template.getType() == ServiceMessageType.WARN) {
+            addWarning(message);
+        } else {
+            addInfo(message);
+        }
+        return withCode(template.getCode());
+    }
+
     /**
      * Appends all messages from response object.
      *
@@ -158,6 +213,35 @@ public interface ResponseBuilder {
      */
     ResponseBuilder addAll(Collection<ServiceMessage> messages);
 
+    /**
+     * Appends the messages carried by an {@link AppResponseException}, or the error {@link #UNEXPECTED_ERROR_MESSAGE}
+     * for any other throwable, whose message may expose internal details.
+     *
+     * @param throwable the throwable to turn into messages
+     * @return this object
+     */
+    default ResponseBuilder addAll(final Throwable throwable) {
+        return addAll(throwable, UNEXPECTED_ERROR_MESSAGE);
+    }
+
+    /**
+     * Appends the messages carried by an {@link AppResponseException}, or a generic error message for any other
+     * throwable and for exceptions whose response was not serialized.
+     *
+     * @param throwable    the throwable to turn into messages
+     * @param errorMessage the error message added for other throwables
+     * @return this object
+     */
+    default ResponseBuilder addAll(final Throwable throwable, final String errorMessage) {
+        if (throwable instanceof AppResponseException) {
+            final AppResponse response = ((AppResponseException) throwable).getResponse();
+            if (response != null) {
+                return addAll(response);
+            }
+        }
+        return addError(errorMessage);
+    }
+
     /**
      * Sets code for last added message.
      *
@@ -173,4 +257,28 @@ public interface ResponseBuilder {
      */
     boolean hasCode(String code);
 
+    /**
+     * Builds the response with the messages of this builder. The default implementation creates an AppResponse with
+     * the messages returned by {@link #getMessages()}.
+     *
+     * @return the response
+     */
+    default AppResponse build() {
+        return new AppResponse(getMessages());
+    }
+
+    /**
+     * Throws an {@link AppResponseException} carrying the built response if there are any errors. The stack trace of
+     * the exception is not captured.
+     *
+     * @return this object
+     * @throws AppResponseException if there are any errors
+     */
+    default ResponseBuilder throwIfNotOk() {
+        if (!isOk()) {
+            throw new AppResponseException(build());
+        }
+        return this;
+    }
+
 }
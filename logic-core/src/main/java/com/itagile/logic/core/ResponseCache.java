@@ -0,0 +1,432 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import com.itagile.logic.api.AppResponse;
+
+/**
+ * Memoizes the responses of idempotent validations by their input. Instances are thread-safe.
+ *
+ * <p>Responses are frozen when loaded, so they can be shared between callers and appended to builders through
+ * {@link AbstractAppResponseBuilder#addAllShared(AppResponse)} without copying their messages. Concurrent requests of
+ * a key not cached load the response once and the other callers wait for it. Responses expire after the time to
+ * live since they were loaded.
+ *
+ * <p>Responses are split by the hash of their key into segments with their own lock, so callers of different keys
+ * rarely wait for each other. Each segment holds a share of the maximum size and evicts its least recently used
+ * response when it is exceeded. Responses being loaded are neither counted nor evicted, so callers waiting for a load
+ * always share it.
+ *
+ * <p>Only the messages of the cached responses are frozen, properties added by subclasses must not be modified.
+ *
+ * @param <K> type of the input of the validation
+ * @param <T> type of the response
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+public final class ResponseCache<K, T extends AppResponse> {
+    /**
+     * Initial capacity of the map of entries.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Load factor of the map of entries.
+     */
+    private static final float LOAD_FACTOR = 0.75f;
+
+    /**
+     * Maximum number of segments.
+     */
+    private static final int MAX_SEGMENTS = 16;
+
+    /**
+     * Minimum share of the maximum size held by each segment.
+     */
+    private static final int MIN_SEGMENT_SIZE = 64;
+
+    /**
+     * Loads the response of a key not cached.
+     */
+    private final Function<? super K, ? extends T> loader;
+
+    /**
+     * Nanoseconds a response is kept since it was loaded.
+     */
+    private final long timeToLive;
+
+    /**
+     * Source of the current time in nanoseconds.
+     */
+    private final LongSupplier ticker;
+
+    /**
+     * Segments of the cached responses, selected by the hash of the key.
+     */
+    private final Segment<K, T>[] segments;
+
+    /**
+     * Mask of the segment of a hash.
+     */
+    private final int mask;
+
+    /**
+     * Number of requests served from the cache.
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * Number of requests that loaded the response.
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Number of responses removed because of size or expiration.
+     */
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructor using fields.
+     *
+     * @param loader      loads the response of a key not cached
+     * @param maximumSize maximum number of cached responses
+     * @param timeToLive  nanoseconds a response is kept since it was loaded
+     * @param ticker      source of the current time in nanoseconds
+     */
+    @SuppressWarnings("unchecked")
+    private ResponseCache(final Function<? super K, ? extends T> loader, final int maximumSize,
+                          final long timeToLive, final LongSupplier ticker) {
+        this.loader = Objects.requireNonNull(loader, "loader");
+        this.timeToLive = timeToLive;
+        this.ticker = ticker;
+        final int count = Integer.highestOneBit(Math.max(1, Math.min(MAX_SEGMENTS, maximumSize / MIN_SEGMENT_SIZE)));
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment<>(maximumSize / count + (i < maximumSize % count ? 1 : 0));
+        }
+        this.mask = count - 1;
+    }
+
+    /**
+     * Static factory method using fields.
+     *
+     * @param loader      loads the response of a key not cached, it must not return null
+     * @param maximumSize maximum number of cached responses
+     * @param timeToLive  time a response is kept since it was loaded
+     * @param <K>         type of the input of the validation
+     * @param <T>         type of the response
+     * @return the created object
+     * @throws IllegalArgumentException if the maximum size or the time to live are not positive
+     */
+    public static <K, T extends AppResponse> ResponseCache<K, T> of(final Function<? super K, ? extends T> loader,
+                                                                    final int maximumSize,
+                                                                    final Duration timeToLive) {
+        return of(loader, maximumSize, timeToLive, System::nanoTime);
+    }
+
+    /**
+     * Static factory method with a custom time source.
+     *
+     * @param loader      loads the response of a key not cached, it must not return null
+     * @param maximumSize maximum number of cached responses
+     * @param timeToLive  time a response is kept since it was loaded
+     * @param ticker      source of the current time in nanoseconds
+     * @param <K>         type of the input of the validation
+     * @param <T>         type of the response
+     * @return the created object
+     */
+    static <K, T extends AppResponse> ResponseCache<K, T> of(final Function<? super K, ? extends T> loader,
+                                                             final int maximumSize, final Duration timeToLive,
+                                                             final LongSupplier ticker) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+        if (timeToLive.isNegative() || timeToLive.isZero()) {
+            throw new IllegalArgumentException("timeToLive must be positive");
+        }
+        return new ResponseCache<>(loader, maximumSize, timeToLive.toNanos(), ticker);
+    }
+
+    /**
+     * Returns the cached response of the key, loading it if it is not cached or it has expired. If the loader
+     * fails, the exception is thrown to every caller waiting for the response and nothing is cached.
+     *
+     * @param key the input of the validation
+     * @return the frozen response
+     */
+    public T get(final K key) {
+        final Segment<K, T> segment = segmentFor(key);
+        final Entry<T> entry;
+        boolean load = false;
+        synchronized (segment) {
+            Entry<T> current = segment.entries.get(key);
+            if (current != null && current.isExpired(ticker.getAsLong())) {
+                segment.remove(key);
+                evictions.increment();
+                current = null;
+            }
+            if (current == null) {
+                current = new Entry<>();
+                segment.entries.put(key, current);
+                load = true;
+            }
+            entry = current;
+        }
+        if (load) {
+            misses.increment();
+            return load(key, segment, entry);
+        }
+        hits.increment();
+        return entry.join();
+    }
+
+    /**
+     * Loads the response of the key and completes the entry.
+     *
+     * @param key     the input of the validation
+     * @param segment the segment of the key
+     * @param entry   the entry of the key
+     * @return the frozen response
+     */
+    private T load(final K key, final Segment<K, T> segment, final Entry<T> entry) {
+        final T response;
+        try {
+            response = Objects.requireNonNull(loader.apply(key), "The loader returned null");
+            response.freeze();
+        } catch (RuntimeException | Error e) {
+            synchronized (segment) {
+                segment.entries.remove(key, entry);
+            }
+            entry.future.completeExceptionally(e);
+            throw e;
+        }
+        entry.expiresAt = ticker.getAsLong() + timeToLive;
+        synchronized (segment) {
+            entry.loaded = true;
+            if (segment.entries.get(key) == entry) {
+                segment.loaded++;
+                evictions.add(segment.evict());
+            }
+        }
+        entry.future.complete(response);
+        return response;
+    }
+
+    /**
+     * Returns the segment of a key.
+     *
+     * @param key the input of the validation
+     * @return the segment holding the response of the key
+     */
+    private Segment<K, T> segmentFor(final K key) {
+        final int hash = Objects.hashCode(key);
+        return segments[(hash ^ hash >>> Short.SIZE) & mask];
+    }
+
+    /**
+     * Removes the cached response of the key, if any.
+     *
+     * @param key the input of the validation
+     */
+    public void invalidate(final K key) {
+        final Segment<K, T> segment = segmentFor(key);
+        synchronized (segment) {
+            segment.remove(key);
+        }
+    }
+
+    /**
+     * Removes all cached responses.
+     */
+    public void invalidateAll() {
+        for (final Segment<K, T> segment : segments) {
+            synchronized (segment) {
+                segment.entries.clear();
+                segment.loaded = 0;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of cached responses, including expired responses not removed yet and responses being
+     * loaded.
+     *
+     * @return the number of cached responses
+     */
+    public int size() {
+        int size = 0;
+        for (final Segment<K, T> segment : segments) {
+            synchronized (segment) {
+                size += segment.entries.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the number of requests served from the cache, including requests waiting for other caller loading the
+     * response.
+     *
+     * @return the number of requests served from the cache
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of requests that loaded the response.
+     *
+     * @return the number of requests that loaded the response
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of responses removed because the maximum size was exceeded or they expired.
+     *
+     * @return the number of responses evicted
+     */
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * The responses of some keys, guarded by itself.
+     *
+     * @param <K> type of the input of the validation
+     * @param <T> type of the response
+     */
+    private static final class Segment<K, T> {
+        /**
+         * Cached responses by key in access order.
+         */
+        private final Map<K, Entry<T>> entries = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true);
+
+        /**
+         * Maximum number of loaded responses.
+         */
+        private final int capacity;
+
+        /**
+         * Number of loaded responses.
+         */
+        private int loaded;
+
+        /**
+         * Constructor using fields.
+         *
+         * @param capacity maximum number of loaded responses
+         */
+        Segment(final int capacity) {
+            this.capacity = capacity;
+        }
+
+        /**
+         * Removes the response of a key, if any.
+         *
+         * @param key the input of the validation
+         */
+        void remove(final K key) {
+            final Entry<T> removed = entries.remove(key);
+            if (removed != null && removed.loaded) {
+                loaded--;
+            }
+        }
+
+        /**
+         * Removes the least recently used loaded responses beyond the capacity, skipping the responses being loaded.
+         *
+         * @return the number of responses removed
+         */
+        int evict() {
+            int evicted = 0;
+            final Iterator<Entry<T>> iterator = entries.values().iterator();
+            while (loaded > capacity && iterator.hasNext()) {
+                if (iterator.next().loaded) {
+                    iterator.remove();
+                    loaded--;
+                    evicted++;
+                }
+            }
+            return evicted;
+        }
+    }
+
+    /**
+     * A cached response, possibly being loaded.
+     *
+     * @param <T> type of the response
+     */
+    private static final class Entry<T> {
+        /**
+         * The response, completed when it is loaded.
+         */
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        /**
+         * Time in nanoseconds when the response expires, set before the future is completed.
+         */
+        private volatile long expiresAt;
+
+        /**
+         * Determines if the response was loaded, guarded by the segment of the entry.
+         */
+        private boolean loaded;
+
+        /**
+         * Determines if the response was loaded and it has expired.
+         *
+         * @param now the current time in nanoseconds
+         * @return true if the response has expired
+         */
+        boolean isExpired(final long now) {
+            return future.isDone() && !future.isCompletedExceptionally() && now - expiresAt >= 0;
+        }
+
+        /**
+         * Waits for the response to be loaded.
+         *
+         * @return the response
+         */
+        T join() {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
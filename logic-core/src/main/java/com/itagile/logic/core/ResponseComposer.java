@@ -0,0 +1,514 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.itagile.logic.api.AppResponse;
+
+/**
+ * Merges the responses of concurrent calls into a single response as each call completes.
+ *
+ * <p>Calls are added as futures, or as callables run on virtual threads when the runtime supports them and on a cached
+ * pool of daemon threads otherwise. A call that fails adds its exception through
+ * {@link ResponseBuilder#addAll(Throwable, String)}, so other exceptions than AppResponseException add a generic
+ * error message, and a call that does not complete within its timeout adds the error {@link #TIMEOUT_MESSAGE} and is
+ * cancelled. The timeout of each call is measured from when it is added, so it is not extended by the time until
+ * {@link #compose()} is called. Optionally, the calls still running are cancelled after the first call that is not
+ * Ok, and their responses are ignored.
+ *
+ * <p>A composer is used once: calls are added, then {@link #compose()} returns the merged response.
+ *
+ * @param <T> the AppResponse implementation class
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+public final class ResponseComposer<T extends AppResponse> {
+    /**
+     * Pattern of the error added when a call times out, the arguments are the name of the call and the timeout in
+     * milliseconds.
+     */
+    public static final String TIMEOUT_MESSAGE = "{0} timed out after {1} ms";
+
+    /**
+     * The builder merging the responses, guarded by itself.
+     */
+    private final AppResponseDataBuilder<T> builder;
+
+    /**
+     * The calls added.
+     */
+    private final List<Call> calls = new ArrayList<>();
+
+    /**
+     * The merged response.
+     */
+    private final CompletableFuture<T> result = new CompletableFuture<>();
+
+    /**
+     * Executor running callables.
+     */
+    private ExecutorService executor;
+
+    /**
+     * Timeout of calls added without timeout, null if they never time out.
+     */
+    private Duration timeout;
+
+    /**
+     * Determines if the calls still running are cancelled after the first call that is not Ok.
+     */
+    private boolean cancelOnError;
+
+    /**
+     * Error message added for calls failing with other exceptions than AppResponseException.
+     */
+    private String errorMessage = ResponseBuilder.UNEXPECTED_ERROR_MESSAGE;
+
+    /**
+     * Number of calls not settled yet, -1 until composed.
+     */
+    private int remaining = -1;
+
+    /**
+     * Determines if a call timed out before the responses were composed.
+     */
+    private boolean timedOutEarly;
+
+    /**
+     * Constructor with builder.
+     *
+     * @param builder the builder merging the responses
+     */
+    private ResponseComposer(final AppResponseDataBuilder<T> builder) {
+        this.builder = builder;
+    }
+
+    /**
+     * Static factory method with the builder merging the responses. The builder must not be used until the merged
+     * response is completed.
+     *
+     * @param builder the builder merging the responses
+     * @param <T>     the AppResponse implementation class
+     * @return the created object
+     */
+    public static <T extends AppResponse> ResponseComposer<T> of(final AppResponseDataBuilder<T> builder) {
+        return new ResponseComposer<>(builder);
+    }
+
+    /**
+     * Static factory method with the constructor of the merged response.
+     *
+     * @param supplier the constructor of the merged response
+     * @param <T>      the AppResponse implementation class
+     * @return the created object
+     */
+    public static <T extends AppResponse> ResponseComposer<T> of(final Supplier<T> supplier) {
+        return new ResponseComposer<>(AppResponseDataBuilder.of(supplier));
+    }
+
+    /**
+     * Sets the executor running callables, instead of virtual threads or the shared pool of daemon threads.
+     *
+     * @param executor the executor running callables
+     * @return this object
+     */
+    public ResponseComposer<T> withExecutor(final ExecutorService executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * Sets the timeout of calls added without timeout.
+     *
+     * @param timeout the timeout of each call
+     * @return this object
+     */
+    public ResponseComposer<T> withTimeout(final Duration timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    /**
+     * Cancels the calls still running after the first call that is not Ok.
+     *
+     * @return this object
+     */
+    public ResponseComposer<T> withCancelOnError() {
+        this.cancelOnError = true;
+        return this;
+    }
+
+    /**
+     * Sets the error message added for calls failing with other exceptions than AppResponseException, instead of
+     * {@link ResponseBuilder#UNEXPECTED_ERROR_MESSAGE}.
+     *
+     * @param errorMessage the error message
+     * @return this object
+     */
+    public ResponseComposer<T> withErrorMessage(final String errorMessage) {
+        this.errorMessage = errorMessage;
+        return this;
+    }
+
+    /**
+     * Adds a call with the default timeout.
+     *
+     * @param name the name of the call used in messages
+     * @param call the response of the call
+     * @return this object
+     */
+    public ResponseComposer<T> add(final String name, final CompletableFuture<? extends AppResponse> call) {
+        return add(name, call, timeout);
+    }
+
+    /**
+     * Adds a call with a timeout.
+     *
+     * @param name        the name of the call used in messages
+     * @param call        the response of the call
+     * @param callTimeout the timeout of the call, null if it never times out
+     * @return this object
+     */
+    public ResponseComposer<T> add(final String name, final CompletableFuture<? extends AppResponse> call,
+                                   final Duration callTimeout) {
+        synchronized (builder) {
+            if (remaining >= 0) {
+                throw new IllegalStateException("The responses are already composed");
+            }
+            start(new Call(name, call, null, callTimeout));
+        }
+        return this;
+    }
+
+    /**
+     * Adds a call run immediately by the executor, with the default timeout.
+     *
+     * @param name the name of the call used in messages
+     * @param call the call returning a response
+     * @return this object
+     */
+    public ResponseComposer<T> add(final String name, final Callable<? extends AppResponse> call) {
+        return add(name, call, timeout);
+    }
+
+    /**
+     * Adds a call run immediately by the executor, with a timeout.
+     *
+     * @param name        the name of the call used in messages
+     * @param call        the call returning a response
+     * @param callTimeout the timeout of the call, null if it never times out
+     * @return this object
+     */
+    public ResponseComposer<T> add(final String name, final Callable<? extends AppResponse> call,
+                                   final Duration callTimeout) {
+        final CompletableFuture<AppResponse> future = new CompletableFuture<>();
+        final ExecutorService runner = executor == null ? Shared.EXECUTOR : executor;
+        final Future<?> task = runner.submit(() -> {
+            try {
+                future.complete(call.call());
+            } catch (final Exception e) {
+                future.completeExceptionally(e);
+            }
+        });
+        synchronized (builder) {
+            if (remaining >= 0) {
+                task.cancel(true);
+                throw new IllegalStateException("The responses are already composed");
+            }
+            start(new Call(name, future, task, callTimeout));
+        }
+        return this;
+    }
+
+    /**
+     * Adds a call and starts the timer of its timeout, guarded by the builder.
+     *
+     * @param call the call added
+     */
+    private void start(final Call call) {
+        calls.add(call);
+        if (call.timeout != null) {
+            call.timer = Shared.SCHEDULER.schedule(() -> timedOut(call), call.timeout.toMillis(),
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Merges the responses of the calls as each one completes. Cancelling the future returned cancels the calls still
+     * running.
+     *
+     * @return the merged response, completed when every call is settled
+     * @throws IllegalStateException if the responses are already composed
+     */
+    public CompletableFuture<T> compose() {
+        synchronized (builder) {
+            if (remaining >= 0) {
+                throw new IllegalStateException("The responses are already composed");
+            }
+            remaining = 0;
+            for (final Call call : calls) {
+                if (!call.settled) {
+                    remaining++;
+                }
+            }
+            if (timedOutEarly && cancelOnError) {
+                cancelRemaining();
+                return result;
+            }
+            if (remaining == 0) {
+                complete();
+                return result;
+            }
+        }
+        for (final Call call : calls) {
+            call.future.whenComplete((response, e) -> completed(call, response, e));
+        }
+        result.whenComplete((response, e) -> {
+            if (result.isCancelled()) {
+                synchronized (builder) {
+                    cancelRemaining();
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Merges the response or the exception of a call.
+     *
+     * @param call     the call completed
+     * @param response the response of the call
+     * @param e        the exception of the call
+     */
+    private void completed(final Call call, final AppResponse response, final Throwable e) {
+        synchronized (builder) {
+            if (!call.settle()) {
+                return;
+            }
+            boolean failed = false;
+            if (e != null) {
+                final Throwable cause = unwrap(e);
+                if (!(cause instanceof CancellationException)) {
+                    builder.addAll(cause, errorMessage);
+                    failed = true;
+                }
+            } else if (response != null) {
+                builder.addAll(response);
+                failed = !response.isOk();
+            }
+            settled(failed);
+        }
+    }
+
+    /**
+     * Adds the timeout error of a call and cancels it.
+     *
+     * @param call the call timed out
+     */
+    private void timedOut(final Call call) {
+        synchronized (builder) {
+            if (!call.settle()) {
+                return;
+            }
+            builder.addError(TIMEOUT_MESSAGE, call.name, String.valueOf(call.timeout.toMillis()));
+            call.cancel();
+            if (remaining >= 0) {
+                settled(true);
+            } else {
+                timedOutEarly = true;
+            }
+        }
+    }
+
+    /**
+     * Counts a settled call and completes the merged response after the last one.
+     *
+     * @param failed true if the call was not Ok
+     */
+    private void settled(final boolean failed) {
+        remaining--;
+        if (failed && cancelOnError) {
+            cancelRemaining();
+        } else if (remaining == 0) {
+            complete();
+        }
+    }
+
+    /**
+     * Cancels the calls not settled yet.
+     */
+    private void cancelRemaining() {
+        for (final Call call : calls) {
+            if (call.settle()) {
+                call.cancel();
+                remaining--;
+            }
+        }
+        if (remaining == 0) {
+            complete();
+        }
+    }
+
+    /**
+     * Completes the merged response.
+     */
+    private void complete() {
+        try {
+            result.complete(builder.build());
+        } catch (final RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Returns the cause of an exception thrown by a future.
+     *
+     * @param e the exception
+     * @return the cause
+     */
+    private static Throwable unwrap(final Throwable e) {
+        if ((e instanceof CompletionException || e instanceof ExecutionException) && e.getCause() != null) {
+            return e.getCause();
+        }
+        return e;
+    }
+
+    /**
+     * A call whose response is merged.
+     */
+    private static final class Call {
+        /**
+         * The name of the call used in messages.
+         */
+        private final String name;
+
+        /**
+         * The response of the call.
+         */
+        private final CompletableFuture<? extends AppResponse> future;
+
+        /**
+         * The task running the call, null if the call was added as a future.
+         */
+        private final Future<?> task;
+
+        /**
+         * The timeout of the call, null if it never times out.
+         */
+        private final Duration timeout;
+
+        /**
+         * The timer of the timeout.
+         */
+        private volatile ScheduledFuture<?> timer;
+
+        /**
+         * Determines if the call was merged, timed out or cancelled, guarded by the builder.
+         */
+        private boolean settled;
+
+        /**
+         * Constructor using fields.
+         *
+         * @param name    the name of the call used in messages
+         * @param future  the response of the call
+         * @param task    the task running the call
+         * @param timeout the timeout of the call
+         */
+        Call(final String name, final CompletableFuture<? extends AppResponse> future, final Future<?> task,
+             final Duration timeout) {
+            this.name = name;
+            this.future = future;
+            this.task = task;
+            this.timeout = timeout;
+        }
+
+        /**
+         * Settles this call and stops its timer.
+         *
+         * @return false if this call was already settled
+         */
+        boolean settle() {
+            if (settled) {
+                return false;
+            }
+            settled = true;
+            final ScheduledFuture<?> current = timer;
+            if (current != null) {
+                current.cancel(false);
+            }
+            return true;
+        }
+
+        /**
+         * Cancels this call, interrupting the task running it.
+         */
+        void cancel() {
+            future.cancel(true);
+            if (task != null) {
+                task.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Threads shared by all composers, created on first use.
+     */
+    private static final class Shared {
+        /**
+         * Executor running callables.
+         */
+        static final ExecutorService EXECUTOR = Threads.newTaskExecutor("response-composer");
+
+        /**
+         * Scheduler of timeouts.
+         */
+        static final ScheduledThreadPoolExecutor SCHEDULER = newScheduler();
+
+        /**
+         * Utility class.
+         */
+        private Shared() {
+        }
+
+        /**
+         * Creates the scheduler of timeouts with a single daemon thread.
+         *
+         * @return the scheduler
+         */
+        private static ScheduledThreadPoolExecutor newScheduler() {
+            final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1,
+                    Threads.daemon("response-composer-timer"));
+            scheduler.setRemoveOnCancelPolicy(true);
+            return scheduler;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+/**
+ * Interrelated interfaces for streaming with backpressure, with the same methods as
+ * {@code java.util.concurrent.Flow} so that this library keeps running on Java 8.
+ *
+ * <p>The interfaces have more than one method, so they are not adapted with method references. On Java 9 and later a
+ * {@code Flow.Subscriber} is adapted by a {@link Subscriber} forwarding each call to it, whose
+ * {@code onSubscribe} passes on a {@code Flow.Subscription} forwarding {@code request} and {@code cancel} to the
+ * {@link Subscription} received.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+public final class ResponseFlow {
+    /**
+     * Utility class.
+     */
+    private ResponseFlow() {
+    }
+
+    /**
+     * A producer of items received by subscribers.
+     *
+     * @param <T> the type of the items
+     */
+    @FunctionalInterface
+    public interface Publisher<T> {
+        /**
+         * Adds the subscriber. If it is rejected, {@link Subscriber#onError(Throwable)} is called.
+         *
+         * @param subscriber the subscriber
+         */
+        void subscribe(Subscriber<? super T> subscriber);
+    }
+
+    /**
+     * A receiver of items.
+     *
+     * @param <T> the type of the items
+     */
+    public interface Subscriber<T> {
+        /**
+         * Called before any other method with the subscription of this subscriber.
+         *
+         * @param subscription the subscription
+         */
+        void onSubscribe(Subscription subscription);
+
+        /**
+         * Called with the next item, only after it is requested.
+         *
+         * @param item the item
+         */
+        void onNext(T item);
+
+        /**
+         * Called when the publisher fails, no other method is called afterwards.
+         *
+         * @param throwable the error
+         */
+        void onError(Throwable throwable);
+
+        /**
+         * Called after the last item, no other method is called afterwards.
+         */
+        void onComplete();
+    }
+
+    /**
+     * The link between a publisher and a subscriber.
+     */
+    public interface Subscription {
+        /**
+         * Adds the number of items the subscriber is ready to receive.
+         *
+         * @param n the number of items, a non positive number signals an error
+         */
+        void request(long n);
+
+        /**
+         * Stops receiving items.
+         */
+        void cancel();
+    }
+}
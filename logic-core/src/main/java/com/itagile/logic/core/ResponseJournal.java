@@ -0,0 +1,479 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.itagile.logic.api.AppResponse;
+import com.itagile.logic.api.ServiceMessage;
+
+/**
+ * An append-only journal of responses in memory-mapped segment files, for example to audit the responses that are not
+ * Ok without serializing them to JSON.
+ *
+ * <p>Each response is appended as a record with its length, the time, the ok state, the number of messages and the
+ * messages in the {@link MessageCodec} encoding. Concurrent writers reserve the space of their records with an atomic
+ * increment, without locks, and copy them in parallel. Records are aligned to four bytes, and their length is written
+ * as negative when reserved and published behind a {@link MemoryFences#release() release fence} once the record is
+ * completed, so readers skip the records not completed yet. When a segment is full, a new segment file is mapped,
+ * and records never span segments.
+ *
+ * <p>The journal is read by iterating {@link JournalRecord} views over the mapped segments, which can be filtered by
+ * type or code without deserializing the messages. Opening an existing directory reads its records and continues
+ * appending after the last one; the records left incomplete by a crash are skipped, including those whose space was
+ * reserved but whose length was never written.
+ *
+ * <p>Closing the journal forces the segments to storage. Records and iterators obtained before throw
+ * IllegalStateException once the journal is closed. The segments are unmapped when garbage collected, not on close,
+ * so a reader racing the close never reads unmapped memory.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+public final class ResponseJournal implements Iterable<JournalRecord>, Closeable {
+    /**
+     * Default size of the segment files.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 67_108_864;
+
+    /**
+     * Position of the time in a record.
+     */
+    static final int TIMESTAMP_OFFSET = Integer.BYTES;
+
+    /**
+     * Position of the ok state in a record.
+     */
+    static final int OK_OFFSET = TIMESTAMP_OFFSET + Long.BYTES;
+
+    /**
+     * Position of the number of messages in a record.
+     */
+    static final int COUNT_OFFSET = OK_OFFSET + 1;
+
+    /**
+     * Size of the header of a record.
+     */
+    static final int HEADER_SIZE = COUNT_OFFSET + Integer.BYTES;
+
+    /**
+     * Length marking the end of the records of a segment.
+     */
+    private static final int END_OF_SEGMENT = -1;
+
+    /**
+     * Mask rounding the size of a record down to the alignment.
+     */
+    private static final int ALIGNMENT_MASK = -Integer.BYTES;
+
+    /**
+     * Maximum size of the segment files.
+     */
+    private static final int MAX_SEGMENT_SIZE = 1_073_741_824;
+
+    /**
+     * Prefix of the names of the segment files.
+     */
+    private static final String PREFIX = "journal-";
+
+    /**
+     * Suffix of the names of the segment files.
+     */
+    private static final String SUFFIX = ".seg";
+
+    /**
+     * Format of the number of a segment in its file name.
+     */
+    private static final String NUMBER_FORMAT = "%010d";
+
+    /**
+     * Directory of the segment files.
+     */
+    private final Path directory;
+
+    /**
+     * Size of the new segment files.
+     */
+    private final int segmentSize;
+
+    /**
+     * The segments, in order.
+     */
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+
+    /**
+     * The segment where records are appended.
+     */
+    private volatile Segment current;
+
+    /**
+     * Determines if the journal was closed.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Constructor with the directory and the size of the segment files.
+     *
+     * @param directory   directory of the segment files
+     * @param segmentSize size of the new segment files
+     */
+    private ResponseJournal(final Path directory, final int segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Opens a journal with segment files of 64 MiB, creating the directory if needed.
+     *
+     * @param directory directory of the segment files
+     * @return the journal
+     * @throws IOException if the segment files could not be mapped
+     */
+    public static ResponseJournal open(final Path directory) throws IOException {
+        return open(directory, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Opens a journal, creating the directory if needed. Existing segment files keep their size.
+     *
+     * @param directory   directory of the segment files
+     * @param segmentSize size of the new segment files, up to 1 GiB
+     * @return the journal
+     * @throws IOException if the segment files could not be mapped
+     */
+    public static ResponseJournal open(final Path directory, final int segmentSize) throws IOException {
+        if (segmentSize <= HEADER_SIZE || segmentSize > MAX_SEGMENT_SIZE) {
+            throw new IllegalArgumentException("segmentSize must be greater than " + HEADER_SIZE + " and up to "
+                    + MAX_SEGMENT_SIZE);
+        }
+        Files.createDirectories(directory);
+        final ResponseJournal journal = new ResponseJournal(directory, segmentSize);
+        final List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        files.sort(null);
+        try {
+            for (final Path file : files) {
+                final Segment segment = journal.map(file, (int) Files.size(file));
+                journal.segments.add(segment);
+            }
+            for (int i = 0; i < journal.segments.size(); i++) {
+                final Segment segment = journal.segments.get(i);
+                segment.reserved.set(segment.recover(i == journal.segments.size() - 1));
+            }
+            if (journal.segments.isEmpty()) {
+                journal.segments.add(journal.map(journal.file(0), segmentSize));
+            }
+        } catch (final IOException | RuntimeException e) {
+            journal.close();
+            throw e;
+        }
+        journal.current = journal.segments.get(journal.segments.size() - 1);
+        return journal;
+    }
+
+    /**
+     * Appends a response. Safe to call from many threads.
+     *
+     * @param response the response
+     * @throws IllegalArgumentException if the record does not fit in a segment
+     * @throws UncheckedIOException if a new segment file could not be mapped
+     */
+    public void append(final AppResponse response) {
+        final List<ServiceMessage> messages = response.getMessages();
+        final List<byte[]> encoded = new ArrayList<>(messages.size());
+        int size = HEADER_SIZE;
+        for (final ServiceMessage message : messages) {
+            final byte[] bytes = MessageCodec.encode(message);
+            encoded.add(bytes);
+            size += MessageCodec.varintSize(bytes.length) + bytes.length;
+        }
+        size = (size + Integer.BYTES - 1) & ALIGNMENT_MASK;
+        while (true) {
+            final Segment segment = current;
+            checkOpen();
+            if (size > segment.buffer.capacity() - Integer.BYTES && size > segmentSize - Integer.BYTES) {
+                throw new IllegalArgumentException("The record of " + size + " bytes does not fit in a segment");
+            }
+            final int offset = segment.reserved.getAndAdd(size);
+            if (offset <= segment.buffer.capacity() - Integer.BYTES - size) {
+                write(segment.buffer, offset, size, response.isOk(), encoded);
+                return;
+            }
+            if (offset <= segment.buffer.capacity() - Integer.BYTES) {
+                segment.buffer.putInt(offset, END_OF_SEGMENT);
+            }
+            roll(segment);
+        }
+    }
+
+    /**
+     * Writes a record in the space reserved. The length is written first as negative, so the space can be skipped if
+     * the record is never completed, and published last.
+     *
+     * @param buffer  the mapped segment
+     * @param offset  the position of the record
+     * @param size    the size of the record
+     * @param ok      the ok state of the response
+     * @param encoded the encoded messages
+     */
+    private static void write(final MappedByteBuffer buffer, final int offset, final int size, final boolean ok,
+                              final List<byte[]> encoded) {
+        buffer.putInt(offset, -size);
+        MemoryFences.release();
+        final ByteBuffer target = buffer.duplicate();
+        // Cast to Buffer so the Java 8 signature is linked
+        ((Buffer) target).position(offset + TIMESTAMP_OFFSET);
+        target.putLong(System.currentTimeMillis());
+        target.put((byte) (ok ? 1 : 0));
+        target.putInt(encoded.size());
+        for (final byte[] bytes : encoded) {
+            MessageCodec.putVarint(target, bytes.length);
+            target.put(bytes);
+        }
+        MemoryFences.release();
+        buffer.putInt(offset, size);
+    }
+
+    /**
+     * Maps a new segment file after a full segment, unless other writer did it.
+     *
+     * @param full the full segment
+     * @throws UncheckedIOException if the segment file could not be mapped
+     */
+    private synchronized void roll(final Segment full) {
+        if (current != full) {
+            return;
+        }
+        checkOpen();
+        try {
+            final Segment next = map(file(full.number + 1), segmentSize);
+            segments.add(next);
+            current = next;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the path of a segment file.
+     *
+     * @param number the number of the segment
+     * @return the path
+     */
+    private Path file(final long number) {
+        return directory.resolve(PREFIX + String.format(NUMBER_FORMAT, number) + SUFFIX);
+    }
+
+    /**
+     * Maps a segment file, creating it if needed.
+     *
+     * @param file the segment file
+     * @param size the size of the segment file
+     * @return the segment
+     * @throws IOException if the segment file could not be mapped
+     */
+    private Segment map(final Path file, final int size) throws IOException {
+        final String name = file.getFileName().toString();
+        final long number = Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            return new Segment(number, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+        }
+    }
+
+    /**
+     * Iterates the records completed, in the order they were reserved. Records still being written are skipped.
+     *
+     * @return the iterator
+     */
+    @Override
+    public Iterator<JournalRecord> iterator() {
+        checkOpen();
+        final Iterator<Segment> remaining = segments.iterator();
+        return new Iterator<JournalRecord>() {
+            private Segment segment = remaining.next();
+
+            private int offset;
+
+            private JournalRecord next = advance();
+
+            /**
+             * Finds the next record completed.
+             *
+             * @return the next record, null if there are no more records
+             */
+            private JournalRecord advance() {
+                while (true) {
+                    checkOpen();
+                    final int length = offset > segment.buffer.capacity() - HEADER_SIZE ? END_OF_SEGMENT
+                            : segment.buffer.getInt(offset);
+                    MemoryFences.acquire();
+                    if (length > 0) {
+                        final JournalRecord record = new JournalRecord(ResponseJournal.this, segment.buffer, offset);
+                        offset += length;
+                        return record;
+                    }
+                    if (length < END_OF_SEGMENT) {
+                        offset -= length;
+                    } else if (length == 0 && segment == current) {
+                        return null;
+                    } else if (length == 0) {
+                        // The space of a full segment is reserved, the writer is about to mark it
+                        Thread.yield();
+                    } else if (remaining.hasNext()) {
+                        segment = remaining.next();
+                        offset = 0;
+                    } else {
+                        return null;
+                    }
+                }
+            }
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public JournalRecord next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                final JournalRecord record = next;
+                next = advance();
+                return record;
+            }
+        };
+    }
+
+    /**
+     * Forces the records appended to storage.
+     */
+    public void force() {
+        checkOpen();
+        segments.forEach(segment -> segment.buffer.force());
+    }
+
+    /**
+     * Forces the records appended to storage and closes the journal. The segments are unmapped when garbage collected.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        segments.forEach(segment -> segment.buffer.force());
+        segments.clear();
+    }
+
+    /**
+     * Throws an exception if the journal is closed.
+     */
+    void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("The journal is closed");
+        }
+    }
+
+    /**
+     * A mapped segment file.
+     */
+    private static final class Segment {
+        /**
+         * The number of the segment.
+         */
+        private final long number;
+
+        /**
+         * The mapped file.
+         */
+        private final MappedByteBuffer buffer;
+
+        /**
+         * Number of bytes reserved by writers, beyond the capacity when full.
+         */
+        private final AtomicInteger reserved = new AtomicInteger();
+
+        /**
+         * Constructor using fields.
+         *
+         * @param number the number of the segment
+         * @param buffer the mapped file
+         */
+        Segment(final long number, final MappedByteBuffer buffer) {
+            this.number = number;
+            this.buffer = buffer;
+        }
+
+        /**
+         * Finds the position after the last record of a segment opened again. The space reserved by writers that did
+         * not write its length before a crash is marked as incomplete, and a full segment is marked as ended.
+         *
+         * @param last true if records are appended to the segment
+         * @return the position, the capacity if the segment is full
+         */
+        int recover(final boolean last) {
+            final int limit = buffer.capacity() - HEADER_SIZE;
+            int offset = 0;
+            while (offset <= limit) {
+                final int length = buffer.getInt(offset);
+                if (length == END_OF_SEGMENT) {
+                    return buffer.capacity();
+                }
+                if (length != 0) {
+                    offset += Math.abs(length);
+                    continue;
+                }
+                int next = offset + Integer.BYTES;
+                while (next <= limit && buffer.getInt(next) == 0) {
+                    next += Integer.BYTES;
+                }
+                if (next > limit) {
+                    break;
+                }
+                buffer.putInt(offset, offset - next);
+                offset = next;
+            }
+            if (last) {
+                return Math.min(offset, buffer.capacity());
+            }
+            if (offset <= buffer.capacity() - Integer.BYTES) {
+                buffer.putInt(offset, END_OF_SEGMENT);
+            }
+            return buffer.capacity();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.itagile.logic.core;
+
+/**
+ * A checkpoint returned by {@link AbstractAppResponseBuilder#mark()}, so the messages appended since then can be
+ * discarded through {@link AbstractAppResponseBuilder#rollbackTo(ResponseMark)} or kept through
+ * {@link AbstractAppResponseBuilder#commit(ResponseMark)}.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+public interface ResponseMark {
+    /**
+     * Determines if this checkpoint can still be rolled back or committed. Rolling back or committing a checkpoint
+     * releases it together with the checkpoints marked after it, and resetting the builder releases all of them.
+     *
+     * @return true if this checkpoint is not released
+     */
+    boolean isActive();
+}
@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Runs validation rules in order until the first one adding an error, reordering independent rules so the rules that
+ * are cheap and fail often run first.
+ *
+ * <p>The time and the result of each rule are recorded in striped counters. Periodically, the rules of each group are
+ * sorted by their average time divided by their failure rate, the order minimizing the expected time until the first
+ * failure of independent rules. Rules added after {@link #barrier()} always run after the rules added before it.
+ * Recent results weigh more than old ones, and rules that did not run yet are tried first.
+ *
+ * <p>A chain is configured and then shared by many threads validating items. Rules run only while the builder is Ok,
+ * so nothing runs if the builder already has errors. Setting the reorder period to null disables automatic reordering,
+ * so tests can reorder deterministically through {@link #reorder()} with a fixed ticker.
+ *
+ * @param <T> type of the items
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+public final class RuleChain<T> implements BiConsumer<T, ResponseBuilder> {
+    /**
+     * Default time between reorders.
+     */
+    public static final Duration DEFAULT_REORDER_PERIOD = Duration.ofSeconds(1);
+
+    /**
+     * Weight of the results recorded before each reorder.
+     */
+    private static final double DECAY = 0.5;
+
+    /**
+     * The rules in the order they were added.
+     */
+    private final List<Rule<T>> rules = new ArrayList<>();
+
+    /**
+     * The rules in the order they run.
+     */
+    private volatile List<Rule<T>> order = Collections.emptyList();
+
+    /**
+     * Guards reordering.
+     */
+    private final ReentrantLock reordering = new ReentrantLock();
+
+    /**
+     * Group of the rules added next.
+     */
+    private int group;
+
+    /**
+     * Time between reorders in ticks, 0 to disable automatic reordering.
+     */
+    private long period = DEFAULT_REORDER_PERIOD.toNanos();
+
+    /**
+     * Source of time in nanoseconds.
+     */
+    private LongSupplier ticker = System::nanoTime;
+
+    /**
+     * Time of the next reorder in ticks.
+     */
+    private volatile long nextReorder;
+
+    /**
+     * Constructor used by the factory method.
+     */
+    private RuleChain() {
+        nextReorder = ticker.getAsLong() + period;
+    }
+
+    /**
+     * Static factory method of an empty chain.
+     *
+     * @param <T> type of the items
+     * @return the created object
+     */
+    public static <T> RuleChain<T> of() {
+        return new RuleChain<>();
+    }
+
+    /**
+     * Adds a rule independent from the other rules of its group, so it can run before them.
+     *
+     * @param name the name of the rule
+     * @param rule validates an item adding messages to the builder
+     * @return this object
+     */
+    public RuleChain<T> add(final String name, final BiConsumer<? super T, ? super ResponseBuilder> rule) {
+        rules.add(new Rule<>(name, rule, group, rules.size()));
+        order = Collections.unmodifiableList(new ArrayList<>(rules));
+        return this;
+    }
+
+    /**
+     * Starts a new group, the rules added next always run after the rules added before.
+     *
+     * @return this object
+     */
+    public RuleChain<T> barrier() {
+        group++;
+        return this;
+    }
+
+    /**
+     * Sets the time between reorders.
+     *
+     * @param reorderPeriod the time between reorders, null to reorder only through {@link #reorder()}
+     * @return this object
+     */
+    public RuleChain<T> withReorderPeriod(final Duration reorderPeriod) {
+        this.period = reorderPeriod == null ? 0 : reorderPeriod.toNanos();
+        this.nextReorder = ticker.getAsLong() + period;
+        return this;
+    }
+
+    /**
+     * Sets the source of time measuring the rules, {@link System#nanoTime()} by default.
+     *
+     * @param nanoTicker the source of time in nanoseconds
+     * @return this object
+     */
+    public RuleChain<T> withTicker(final LongSupplier nanoTicker) {
+        this.ticker = nanoTicker;
+        this.nextReorder = nanoTicker.getAsLong() + period;
+        return this;
+    }
+
+    /**
+     * Validates an item, running the rules until the first one adding an error.
+     *
+     * @param item    the item
+     * @param builder the builder receiving the messages
+     * @return true if the builder is Ok
+     */
+    public boolean validate(final T item, final ResponseBuilder builder) {
+        if (!builder.isOk()) {
+            return false;
+        }
+        final List<Rule<T>> current = order;
+        boolean ok = true;
+        long start = ticker.getAsLong();
+        for (int i = 0; i < current.size() && ok; i++) {
+            final Rule<T> rule = current.get(i);
+            rule.rule.accept(item, builder);
+            final long end = ticker.getAsLong();
+            rule.runs.increment();
+            rule.nanos.add(end - start);
+            ok = builder.isOk();
+            if (!ok) {
+                rule.failures.increment();
+            }
+            start = end;
+        }
+        if (period != 0 && start - nextReorder >= 0 && reordering.tryLock()) {
+            try {
+                nextReorder = start + period;
+                sort();
+            } finally {
+                reordering.unlock();
+            }
+        }
+        return ok;
+    }
+
+    /**
+     * Validates an item, running the rules until the first one adding an error.
+     *
+     * @param item    the item
+     * @param builder the builder receiving the messages
+     */
+    @Override
+    public void accept(final T item, final ResponseBuilder builder) {
+        validate(item, builder);
+    }
+
+    /**
+     * Reorders the rules with the results recorded since the last reorder.
+     */
+    public void reorder() {
+        reordering.lock();
+        try {
+            sort();
+        } finally {
+            reordering.unlock();
+        }
+    }
+
+    /**
+     * Sorts the rules of each group by their expected time until a failure.
+     */
+    private void sort() {
+        final List<Rule<T>> sorted = new ArrayList<>(rules);
+        sorted.forEach(Rule::update);
+        sorted.sort(Comparator.<Rule<T>>comparingInt(x -> x.group)
+                .thenComparingDouble(x -> x.rank)
+                .thenComparingInt(x -> x.index));
+        order = Collections.unmodifiableList(sorted);
+    }
+
+    /**
+     * Returns the names of the rules in the order they run.
+     *
+     * @return the names of the rules
+     */
+    public List<String> getOrder() {
+        return order.stream().map(x -> x.name).collect(Collectors.toList());
+    }
+
+    /**
+     * A rule with its results.
+     *
+     * @param <T> type of the items
+     */
+    private static final class Rule<T> {
+        /**
+         * The name of the rule.
+         */
+        private final String name;
+
+        /**
+         * Validates an item adding messages to the builder.
+         */
+        private final BiConsumer<? super T, ? super ResponseBuilder> rule;
+
+        /**
+         * The group of the rule.
+         */
+        private final int group;
+
+        /**
+         * Position of the rule in the order they were added.
+         */
+        private final int index;
+
+        /**
+         * Number of runs since the last reorder.
+         */
+        private final LongAdder runs = new LongAdder();
+
+        /**
+         * Number of failures since the last reorder.
+         */
+        private final LongAdder failures = new LongAdder();
+
+        /**
+         * Time of the runs since the last reorder.
+         */
+        private final LongAdder nanos = new LongAdder();
+
+        /**
+         * Weighted number of runs, guarded by the reorder lock.
+         */
+        private double weightedRuns;
+
+        /**
+         * Weighted number of failures, guarded by the reorder lock.
+         */
+        private double weightedFailures;
+
+        /**
+         * Weighted time of the runs, guarded by the reorder lock.
+         */
+        private double weightedNanos;
+
+        /**
+         * Expected time until a failure, guarded by the reorder lock.
+         */
+        private double rank;
+
+        /**
+         * Constructor using fields.
+         *
+         * @param name  the name of the rule
+         * @param rule  validates an item adding messages to the builder
+         * @param group the group of the rule
+         * @param index position of the rule in the order they were added
+         */
+        Rule(final String name, final BiConsumer<? super T, ? super ResponseBuilder> rule, final int group,
+             final int index) {
+            this.name = name;
+            this.rule = rule;
+            this.group = group;
+            this.index = index;
+        }
+
+        /**
+         * Adds the results recorded since the last reorder to the weighted results, and computes the average time
+         * divided by the failure rate, estimated as if there was a success and a failure more.
+         */
+        void update() {
+            weightedRuns = weightedRuns * DECAY + runs.sumThenReset();
+            weightedFailures = weightedFailures * DECAY + failures.sumThenReset();
+            weightedNanos = weightedNanos * DECAY + nanos.sumThenReset();
+            final double cost = weightedRuns == 0 ? 0 : weightedNanos / weightedRuns;
+            rank = cost * (weightedRuns + 2) / (weightedFailures + 1);
+        }
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import java.util.function.ToIntFunction;
+
+import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageType;
+
+/**
+ * The size budget of a builder: the estimated size of the messages appended, and the messages omitted once the budget
+ * is reached, summarized by a single notice.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+final class SizeBudget {
+    /**
+     * Size in bytes reserved for the empty response and the notice of the messages omitted.
+     */
+    static final int RESERVED = JsonSize.EMPTY_RESPONSE
+            + JsonSize.of(notice(ServiceMessageType.ERROR, Integer.MAX_VALUE)) + 1;
+
+    /**
+     * Text of the notice summarizing the messages omitted, after their number.
+     */
+    private static final String TRUNCATED_MESSAGE = " messages omitted to fit the response size";
+
+    /**
+     * Maximum size in bytes of the response serialized.
+     */
+    private final int limit;
+
+    /**
+     * Returns the size of a message counted in the budget.
+     */
+    private final ToIntFunction<ServiceMessage> sizer;
+
+    /**
+     * Upper bound of the size in bytes of the messages appended.
+     */
+    private long estimatedSize;
+
+    /**
+     * Determines if the budget is reached, so further messages are omitted without formatting them.
+     */
+    private boolean exhausted;
+
+    /**
+     * Number of messages omitted to fit the budget.
+     */
+    private int omitted;
+
+    /**
+     * Determines if an error was omitted, so the notice is an error.
+     */
+    private boolean omittedError;
+
+    /**
+     * Determines if the last message was omitted, so its code is ignored.
+     */
+    private boolean lastOmitted;
+
+    /**
+     * Position of the notice of the messages omitted, negative if not appended yet.
+     */
+    private int noticeIndex = -1;
+
+    /**
+     * Number of messages omitted summarized by the notice appended.
+     */
+    private int noticeCount;
+
+    /**
+     * Constructor using fields.
+     *
+     * @param limit the maximum size in bytes
+     * @param sizer returns the size of a message counted in the budget
+     * @throws IllegalArgumentException if the limit leaves no room for the notice
+     */
+    SizeBudget(final int limit, final ToIntFunction<ServiceMessage> sizer) {
+        if (limit < RESERVED) {
+            throw new IllegalArgumentException("sizeBudget must be zero or at least " + RESERVED);
+        }
+        this.limit = limit;
+        this.sizer = sizer;
+    }
+
+    /**
+     * Copy constructor, for checkpoints.
+     *
+     * @param other the budget to copy
+     */
+    private SizeBudget(final SizeBudget other) {
+        this.limit = other.limit;
+        this.sizer = other.sizer;
+        restore(other);
+    }
+
+    /**
+     * Creates the notice of the messages omitted to fit the budget.
+     *
+     * @param type  the type of the notice
+     * @param count the number of messages omitted
+     * @return the notice
+     */
+    private static ServiceMessage notice(final ServiceMessageType type, final int count) {
+        return ServiceMessage.of(type, count + TRUNCATED_MESSAGE, AbstractAppResponseBuilder.TRUNCATED_CODE);
+    }
+
+    /**
+     * Copies the state of this budget.
+     *
+     * @return the copy
+     */
+    SizeBudget copy() {
+        return new SizeBudget(this);
+    }
+
+    /**
+     * Restores the state of a copy of this budget.
+     *
+     * @param saved the copy
+     */
+    void restore(final SizeBudget saved) {
+        estimatedSize = saved.estimatedSize;
+        exhausted = saved.exhausted;
+        omitted = saved.omitted;
+        omittedError = saved.omittedError;
+        lastOmitted = saved.lastOmitted;
+        noticeIndex = saved.noticeIndex;
+        noticeCount = saved.noticeCount;
+    }
+
+    /**
+     * Clears the messages appended and omitted.
+     */
+    void reset() {
+        estimatedSize = 0;
+        exhausted = false;
+        omitted = 0;
+        omittedError = false;
+        lastOmitted = false;
+        noticeIndex = -1;
+        noticeCount = 0;
+    }
+
+    /**
+     * Determines if the budget is reached, so further messages are omitted.
+     *
+     * @return true if the budget is reached
+     */
+    boolean isExhausted() {
+        return exhausted;
+    }
+
+    /**
+     * Determines if the last message was omitted, so its code is ignored.
+     *
+     * @return true if the last message was omitted
+     */
+    boolean isLastOmitted() {
+        return lastOmitted;
+    }
+
+    /**
+     * Determines if a message fits the budget, truncating its text if it is not shared. A message that does not fit
+     * is counted as omitted and the budget is exhausted.
+     *
+     * @param dto    the message to append
+     * @param shared true if the message is appended from other response, so it can't be modified
+     * @return true if the message is appended
+     */
+    boolean fits(final ServiceMessage dto, final boolean shared) {
+        if (exhausted) {
+            omit(dto.getType());
+            return false;
+        }
+        final long room = limit - RESERVED - estimatedSize - 1;
+        final int size = sizer.applyAsInt(dto);
+        if (size <= room) {
+            estimatedSize += size + 1;
+            lastOmitted = false;
+            return true;
+        }
+        exhausted = true;
+        if (!shared && dto.getMessage() != null) {
+            final String text = JsonSize.truncate(dto.getMessage(),
+                    room - size + JsonSize.of(dto.getMessage()));
+            if (text != null) {
+                dto.setMessage(text);
+                estimatedSize += sizer.applyAsInt(dto) + 1;
+                lastOmitted = false;
+                return true;
+            }
+        }
+        omit(dto.getType());
+        return false;
+    }
+
+    /**
+     * Counts a message omitted to fit the budget.
+     *
+     * @param type the type of the message omitted
+     */
+    void omit(final ServiceMessageType type) {
+        omitted++;
+        omittedError |= type == ServiceMessageType.ERROR;
+        lastOmitted = true;
+    }
+
+    /**
+     * Determines if the code of a message appended fits the budget, otherwise the message is counted as omitted and
+     * its position is taken by the notice.
+     *
+     * @param index   the position of the message
+     * @param message the message
+     * @param code    the new code
+     * @return true if the code can be set
+     */
+    boolean codeFits(final int index, final ServiceMessage message, final String code) {
+        final int delta = JsonSize.of(code) - JsonSize.of(message.getCode());
+        if (estimatedSize + delta <= limit - RESERVED) {
+            estimatedSize += delta;
+            return true;
+        }
+        estimatedSize -= sizer.applyAsInt(message) + 1;
+        exhausted = true;
+        omit(message.getType());
+        noticeIndex = index;
+        return false;
+    }
+
+    /**
+     * Returns the notice of the messages omitted if more messages were omitted since it was last returned. The notice
+     * is an error if any error was omitted, otherwise a warning.
+     *
+     * @return the notice, null if it is up to date
+     */
+    ServiceMessage notice() {
+        if (omitted == noticeCount) {
+            return null;
+        }
+        noticeCount = omitted;
+        return notice(omittedError ? ServiceMessageType.ERROR : ServiceMessageType.WARN, omitted);
+    }
+
+    /**
+     * Returns the position of the notice, appending it at a position if it was not appended yet.
+     *
+     * @param size the number of messages appended, where the notice is appended
+     * @return the position of the notice, equal to the size if it is appended
+     */
+    int noticeIndex(final int size) {
+        if (noticeIndex < 0) {
+            noticeIndex = size;
+        }
+        return noticeIndex;
+    }
+}
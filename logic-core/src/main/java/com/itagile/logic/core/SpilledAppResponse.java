@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.itagile.logic.api.AppResponse;
+import com.itagile.logic.api.ServiceMessage;
+
+/**
+ * A response built by {@link SpillingResponseBuilder} whose messages beyond a limit are kept out of the Java heap, in a
+ * temporary file or in an off-heap arena.
+ *
+ * <p>The messages are iterated lazily: the first ones from memory and the rest sequentially from the file or arena, so
+ * the response is serialized, for example by Jackson, straight from them. Messages read are new frozen instances each
+ * time. The response must be closed to delete the file or free the arena, its messages cannot be read afterwards.
+ *
+ * <p>Methods starting with {@code with} return a spilled response sharing the file or arena, with the messages
+ * appended kept in memory. Messages removed by {@link #without(String)} are skipped by position, finding them reads the
+ * file or arena once. Copies can be read until any of them, or this response, is closed.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+public final class SpilledAppResponse extends AppResponse implements Closeable {
+    /**
+     * The messages, in memory and out of the heap.
+     */
+    private final StoredMessageList messages;
+
+    /**
+     * The store of the messages beyond the limit.
+     */
+    private final MessageStore store;
+
+    /**
+     * Determines if this response was successful.
+     */
+    private final boolean ok;
+
+    /**
+     * Constructor using fields.
+     *
+     * @param messages the messages, in memory and out of the heap
+     * @param store    the store of the messages beyond the limit
+     * @param ok       true if no errors where found
+     */
+    SpilledAppResponse(final StoredMessageList messages, final MessageStore store, final boolean ok) {
+        this.messages = messages;
+        this.store = store;
+        this.ok = ok;
+    }
+
+    @Override
+    public boolean isOk() {
+        return ok;
+    }
+
+    /**
+     * Returns the list of messages for this response, reading the messages beyond the limit from the file or arena.
+     *
+     * @return the list of messages
+     */
+    @Override
+    public List<ServiceMessage> getMessages() {
+        return messages;
+    }
+
+    @Override
+    public String getMessages(final CharSequence delimiter) {
+        return messages.stream().map(ServiceMessage::getMessage).collect(Collectors.joining(delimiter));
+    }
+
+    /**
+     * The messages of a spilled response cannot be replaced.
+     *
+     * @param newMessages ignored
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void setMessages(final Collection<ServiceMessage> newMessages) {
+        throw new UnsupportedOperationException("The response is spilled to a file");
+    }
+
+    /**
+     * Prevents further modifications of the messages kept in memory. Messages read from the file or arena are always
+     * frozen.
+     *
+     * @return this object
+     */
+    @Override
+    public SpilledAppResponse freeze() {
+        messages.getHeap().forEach(ServiceMessage::freeze);
+        messages.getTail().forEach(ServiceMessage::freeze);
+        super.freeze();
+        return this;
+    }
+
+    @Override
+    public SpilledAppResponse withMessage(final ServiceMessage message) {
+        return withAll(Collections.singletonList(message));
+    }
+
+    @Override
+    public SpilledAppResponse withAll(final Collection<ServiceMessage> newMessages) {
+        final StoredMessageList copy = messages.plusAll(newMessages);
+        return new SpilledAppResponse(copy, store, ok && copy.getTail().isOk());
+    }
+
+    @Override
+    public SpilledAppResponse without(final String code) {
+        final StoredMessageList copy = messages.without(code);
+        return new SpilledAppResponse(copy, store, ok || copy.isOk());
+    }
+
+    /**
+     * Deletes the file or frees the arena of the messages beyond the limit.
+     *
+     * @throws IOException if the file could not be deleted
+     */
+    @Override
+    public void close() throws IOException {
+        store.close();
+    }
+}
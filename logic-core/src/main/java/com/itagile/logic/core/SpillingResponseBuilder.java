@@ -0,0 +1,373 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import com.itagile.logic.api.AppResponse;
+import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageList;
+import com.itagile.logic.api.ServiceMessageType;
+
+/**
+ * A builder keeping the first messages in memory and writing the rest to a temporary file, for responses with
+ * millions of messages. {@link ArenaResponseBuilder} writes them to an off-heap arena instead.
+ *
+ * <p>Messages beyond the limit are written in a compact binary encoding once the next message is added, so
+ * {@link #withCode(String)} can still set their code. The file is created only when needed: when no message went
+ * beyond the limit, {@link #build()} returns a plain {@link AppResponse}. Otherwise it returns a
+ * {@link SpilledAppResponse} reading the file. Closing either the response or the builder deletes the file, so the
+ * builder can be used in a try-with-resources statement around the use of the response. No messages can be added once
+ * the response is built.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+public class SpillingResponseBuilder implements ResponseBuilder, Closeable {
+    /**
+     * Maximum number of messages kept in memory.
+     */
+    private final int heapLimit;
+
+    /**
+     * Creates the store of the messages beyond the limit.
+     */
+    private final MessageStore.Factory storeFactory;
+
+    /**
+     * Codes of the messages written to the store.
+     */
+    private final Set<String> codes = new HashSet<>();
+
+    /**
+     * The service for custom ServiceMessage instantiation.
+     */
+    private MessageProvider messageProvider;
+
+    /**
+     * The first messages, kept in memory.
+     */
+    private ServiceMessageList heap = ServiceMessageList.empty();
+
+    /**
+     * The store of the messages beyond the limit, null until needed.
+     */
+    private MessageStore store;
+
+    /**
+     * The last message beyond the limit, written when the next message is added.
+     */
+    private ServiceMessage last;
+
+    /**
+     * Determines if the last message was appended from other response, so it may be shared and frozen.
+     */
+    private boolean lastShared;
+
+    /**
+     * Number of errors added.
+     */
+    private int errors;
+
+    /**
+     * The response built, null until built.
+     */
+    private AppResponse response;
+
+    /**
+     * Constructor with the limit of messages kept in memory.
+     *
+     * @param heapLimit maximum number of messages kept in memory
+     * @param directory directory of the temporary file, null for the default temporary directory
+     */
+    public SpillingResponseBuilder(final int heapLimit, final Path directory) {
+        this(heapLimit, () -> MessageSpill.create(directory));
+    }
+
+    /**
+     * Constructor with the limit of messages kept in memory and the store of the rest.
+     *
+     * @param heapLimit    maximum number of messages kept in memory
+     * @param storeFactory creates the store of the messages beyond the limit
+     */
+    SpillingResponseBuilder(final int heapLimit, final MessageStore.Factory storeFactory) {
+        if (heapLimit < 0) {
+            throw new IllegalArgumentException("heapLimit must not be negative");
+        }
+        this.heapLimit = heapLimit;
+        this.storeFactory = storeFactory;
+    }
+
+    /**
+     * Static factory method writing the messages beyond the limit to the default temporary directory.
+     *
+     * @param heapLimit maximum number of messages kept in memory
+     * @return the created object
+     */
+    public static SpillingResponseBuilder of(final int heapLimit) {
+        return new SpillingResponseBuilder(heapLimit, (Path) null);
+    }
+
+    /**
+     * Sets the service for custom ServiceMessage instantiation.
+     *
+     * @param messageProvider the service for custom ServiceMessage instantiation
+     * @return this object
+     */
+    public SpillingResponseBuilder withMessageProvider(final MessageProvider messageProvider) {
+        this.messageProvider = messageProvider;
+        return this;
+    }
+
+    @Override
+    public final boolean isOk() {
+        return errors == 0;
+    }
+
+    /**
+     * Returns the messages added. The list returned is immutable and it is not affected by messages added later.
+     *
+     * @return the list of messages, reading the messages beyond the limit from the store
+     * @throws UncheckedIOException if the store could not be written
+     */
+    @Override
+    public final List<ServiceMessage> getMessages() {
+        if (store == null) {
+            return last == null ? heap : heap.plus(last);
+        }
+        try {
+            store.flush();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new StoredMessageList(heap, store, store.size(), last);
+    }
+
+    @Override
+    public final ResponseBuilder addError(final String message) {
+        return addMessage(ServiceMessageType.ERROR, message);
+    }
+
+    @Override
+    public final ResponseBuilder addError(final String message, final Object... args) {
+        return addMessage(ServiceMessageType.ERROR, message, args);
+    }
+
+    @Override
+    public final ResponseBuilder addWarning(final String message) {
+        return addMessage(ServiceMessageType.WARN, message);
+    }
+
+    @Override
+    public final ResponseBuilder addWarning(final String message, final Object... args) {
+        return addMessage(ServiceMessageType.WARN, message, args);
+    }
+
+    @Override
+    public final ResponseBuilder addInfo(final String message) {
+        return addMessage(ServiceMessageType.INFO, message);
+    }
+
+    @Override
+    public final ResponseBuilder addInfo(final String message, final Object... args) {
+        return addMessage(ServiceMessageType.INFO, message, args);
+    }
+
+    @Override
+    public final ResponseBuilder add(final MessageTemplate template, final Object... args) {
+        final ServiceMessage dto;
+        if (messageProvider == null) {
+            dto = template.toMessage(args);
+        } else {
+            dto = messageProvider.getMessage(template.getType(), template.getPattern(), args);
+            dto.setCode(template.getCode());
+        }
+        append(dto, false);
+        return this;
+    }
+
+    @Override
+    public final ResponseBuilder addAll(final AppResponse other) {
+        return addAll(other.getMessages());
+    }
+
+    @Override
+    public final ResponseBuilder addAll(final Collection<ServiceMessage> messages) {
+        messages.forEach(message -> append(message, true));
+        return this;
+    }
+
+    /**
+     * Sets the code of the last message added. A message appended from other response is replaced with a copy, so
+     * the other response is not modified.
+     *
+     * @param code the code of the last message
+     * @return this object
+     */
+    @Override
+    public final ResponseBuilder withCode(final String code) {
+        if (last != null) {
+            last = lastShared ? copy(last, code) : last;
+            last.setCode(code);
+            lastShared = false;
+        } else if (!heap.isEmpty()) {
+            final int index = heap.size() - 1;
+            if (lastShared) {
+                heap = heap.with(index, copy(heap.get(index), code));
+                lastShared = false;
+            } else {
+                heap.get(index).setCode(code);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public final boolean hasCode(final String code) {
+        if (last != null && Objects.equals(last.getCode(), code)) {
+            return true;
+        }
+        return codes.contains(code) || heap.stream().anyMatch(x -> Objects.equals(x.getCode(), code));
+    }
+
+    /**
+     * Builds the response, subsequent calls return the same instance. When messages went beyond the limit, the
+     * response returned is a {@link SpilledAppResponse} reading the store, which must be closed.
+     *
+     * @return the new instance, or the shared response with no messages
+     * @throws UncheckedIOException if the store could not be written
+     */
+    @Override
+    public final AppResponse build() {
+        if (response == null) {
+            if (store == null) {
+                final List<ServiceMessage> messages = getMessages();
+                response = messages.isEmpty() ? AppResponse.empty() : new AppResponse(messages);
+            } else {
+                storeLast();
+                final StoredMessageList messages = (StoredMessageList) getMessages();
+                response = new SpilledAppResponse(messages, store, isOk());
+            }
+        }
+        return response;
+    }
+
+    /**
+     * Deletes the file or frees the arena of the messages beyond the limit, the messages of the response built can no
+     * longer be read. No messages can be added afterwards.
+     *
+     * @throws IOException if the file could not be deleted
+     */
+    @Override
+    public final void close() throws IOException {
+        if (response == null) {
+            response = AppResponse.empty();
+        }
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    /**
+     * Creates the message using the message provider if any, and adds it.
+     *
+     * @param type the type of this message
+     * @param message the message or pattern
+     * @param args arguments referenced by the format specifiers in the pattern
+     * @return this object
+     */
+    private ResponseBuilder addMessage(final ServiceMessageType type, final String message, final Object... args) {
+        final ServiceMessage dto;
+        if (messageProvider != null) {
+            dto = messageProvider.getMessage(type, message, args);
+        } else if (args.length == 0) {
+            dto = ServiceMessage.of(type, message);
+        } else {
+            dto = ServiceMessage.of(type, TextUtils.format(message, args));
+        }
+        append(dto, false);
+        return this;
+    }
+
+    /**
+     * Adds a message in memory, or writes the last message to the store and keeps this one until the next is added.
+     *
+     * @param dto the message added
+     * @param shared true if the message was appended from other response
+     * @throws UncheckedIOException if the store could not be written
+     */
+    private void append(final ServiceMessage dto, final boolean shared) {
+        if (response != null) {
+            throw new IllegalStateException("The response is already built");
+        }
+        if (heap.size() < heapLimit) {
+            heap = heap.plus(dto);
+        } else {
+            storeLast();
+            last = dto;
+        }
+        lastShared = shared;
+        if (dto.getType() == ServiceMessageType.ERROR) {
+            errors++;
+        }
+    }
+
+    /**
+     * Writes the last message to the store, creating the store if needed.
+     *
+     * @throws UncheckedIOException if the store could not be written
+     */
+    private void storeLast() {
+        if (last == null) {
+            return;
+        }
+        try {
+            if (store == null) {
+                store = storeFactory.create();
+            }
+            store.write(last);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        codes.add(last.getCode());
+        last = null;
+    }
+
+    /**
+     * Copies a message appended from other response with a new code.
+     *
+     * @param message the message to copy
+     * @param code the code of the copy
+     * @return the copy
+     */
+    private static ServiceMessage copy(final ServiceMessage message, final String code) {
+        final ServiceMessage copy = ServiceMessage.of(message.getType(), message.getMessage(), code);
+        copy.setCount(message.getCount());
+        copy.setSampleIndices(message.getSampleIndices());
+        copy.setSequence(message.getSequence());
+        copy.setOrigin(message.getOrigin());
+        return copy;
+    }
+}
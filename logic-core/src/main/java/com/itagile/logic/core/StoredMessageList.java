@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageList;
+import com.itagile.logic.api.ServiceMessageType;
+
+/**
+ * An immutable list of messages kept in memory followed by messages read from a {@link MessageStore} and by other
+ * messages kept in memory.
+ *
+ * <p>Messages read from the store are new frozen instances each time. Iteration reads the store sequentially, so it is
+ * the preferred way to go through the messages, for example to serialize them. Getting the messages in order by index
+ * reuses the reader of the previous message, so it does not read the store again from the closest position indexed.
+ *
+ * <p>Copies returned by {@link #plusAll(Collection)} and {@link #without(String)} share the store, the messages removed
+ * from it are skipped by position.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+final class StoredMessageList extends AbstractList<ServiceMessage> {
+    /**
+     * No positions removed from the store.
+     */
+    private static final int[] NONE = new int[0];
+
+    /**
+     * The first messages, kept in memory.
+     */
+    private final ServiceMessageList heap;
+
+    /**
+     * The store of the following messages.
+     */
+    private final MessageStore store;
+
+    /**
+     * Number of messages written to the store, including the messages removed.
+     */
+    private final int stored;
+
+    /**
+     * Positions in the store of the messages removed, in ascending order.
+     */
+    private final int[] removed;
+
+    /**
+     * The last messages, kept in memory.
+     */
+    private final ServiceMessageList tail;
+
+    /**
+     * Reader of the store positioned after the message read last by {@link #get(int)}, guarded by this list.
+     */
+    private MessageStore.Reader reader;
+
+    /**
+     * Position in the store of the next message of {@link #reader}.
+     */
+    private int readerPosition;
+
+    /**
+     * Constructor with the last message.
+     *
+     * @param heap   the first messages, kept in memory
+     * @param store  the store of the following messages, flushed
+     * @param stored number of messages read from the store
+     * @param last   the last message, kept in memory, null if there is none
+     */
+    StoredMessageList(final ServiceMessageList heap, final MessageStore store, final int stored,
+                      final ServiceMessage last) {
+        this(heap, store, stored, NONE, last == null ? ServiceMessageList.empty()
+                : ServiceMessageList.empty().plus(last));
+    }
+
+    /**
+     * Constructor using fields.
+     *
+     * @param heap    the first messages, kept in memory
+     * @param store   the store of the following messages, flushed
+     * @param stored  number of messages written to the store, including the messages removed
+     * @param removed positions in the store of the messages removed, in ascending order
+     * @param tail    the last messages, kept in memory
+     */
+    private StoredMessageList(final ServiceMessageList heap, final MessageStore store, final int stored,
+                              final int[] removed, final ServiceMessageList tail) {
+        this.heap = heap;
+        this.store = store;
+        this.stored = stored;
+        this.removed = removed;
+        this.tail = tail;
+    }
+
+    /**
+     * The first messages, kept in memory.
+     *
+     * @return the messages kept in memory
+     */
+    ServiceMessageList getHeap() {
+        return heap;
+    }
+
+    /**
+     * The last messages, kept in memory.
+     *
+     * @return the last messages
+     */
+    ServiceMessageList getTail() {
+        return tail;
+    }
+
+    /**
+     * Returns a copy of this list with the messages appended after the last messages, sharing the store.
+     *
+     * @param messages the messages to append
+     * @return the copy of this list
+     */
+    StoredMessageList plusAll(final Collection<? extends ServiceMessage> messages) {
+        return new StoredMessageList(heap, store, stored, removed, tail.plusAll(messages));
+    }
+
+    /**
+     * Returns a copy of this list without the messages with the code specified, sharing the store. The store is read
+     * sequentially once to find the messages to remove.
+     *
+     * @param code the code of the messages to remove
+     * @return the copy of this list
+     */
+    StoredMessageList without(final String code) {
+        int[] positions = removed;
+        int count = removed.length;
+        final MessageStore.Reader all = stored == 0 ? null : reader(0);
+        for (int position = 0; position < stored; position++) {
+            final ServiceMessage message = read(all);
+            if (Objects.equals(code, message.getCode()) && Arrays.binarySearch(removed, position) < 0) {
+                if (count == positions.length) {
+                    positions = Arrays.copyOf(positions, Math.max(1, count * 2));
+                }
+                positions[count++] = position;
+            }
+        }
+        if (count > removed.length) {
+            positions = Arrays.copyOf(positions, count);
+            Arrays.sort(positions);
+        }
+        return new StoredMessageList(heap.without(code), store, stored, positions, tail.without(code));
+    }
+
+    /**
+     * Determines if none of the messages is an error, reading the store sequentially.
+     *
+     * @return true if no errors where found
+     */
+    boolean isOk() {
+        if (!heap.isOk() || !tail.isOk()) {
+            return false;
+        }
+        for (final ServiceMessage message : this) {
+            if (message.getType() == ServiceMessageType.ERROR) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return heap.size() + stored - removed.length + tail.size();
+    }
+
+    @Override
+    public ServiceMessage get(final int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        if (index < heap.size()) {
+            return heap.get(index);
+        }
+        final int storedIndex = index - heap.size();
+        if (storedIndex >= stored - removed.length) {
+            return tail.get(storedIndex - stored + removed.length);
+        }
+        final int position = position(storedIndex);
+        synchronized (this) {
+            if (reader == null || readerPosition > position) {
+                reader = reader(position);
+            } else {
+                skip(reader, readerPosition, position);
+            }
+            readerPosition = position + 1;
+            return read(reader);
+        }
+    }
+
+    /**
+     * Returns the position in the store of a message, skipping the messages removed.
+     *
+     * @param storedIndex the index of the message among the messages of the store not removed
+     * @return the position in the store
+     */
+    private int position(final int storedIndex) {
+        int position = storedIndex;
+        for (final int skipped : removed) {
+            if (skipped > position) {
+                break;
+            }
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * Creates a reader of the store.
+     *
+     * @param position the position of the first message to read
+     * @return the reader
+     */
+    private MessageStore.Reader reader(final int position) {
+        try {
+            return store.reader(position);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads the next message of a reader.
+     *
+     * @param source the reader
+     * @return the message, frozen
+     */
+    private static ServiceMessage read(final MessageStore.Reader source) {
+        try {
+            return source.read();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads the messages of a reader until a position.
+     *
+     * @param source the reader
+     * @param from   the position of the next message of the reader
+     * @param to     the position of the next message to read
+     */
+    private static void skip(final MessageStore.Reader source, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            read(source);
+        }
+    }
+
+    @Override
+    public Iterator<ServiceMessage> iterator() {
+        return new Iterator<ServiceMessage>() {
+            private final Iterator<ServiceMessage> first = heap.iterator();
+
+            private final Iterator<ServiceMessage> last = tail.iterator();
+
+            private MessageStore.Reader storeReader;
+
+            private int position;
+
+            private int removedIndex;
+
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size();
+            }
+
+            @Override
+            public ServiceMessage next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                index++;
+                if (first.hasNext()) {
+                    return first.next();
+                }
+                if (index - heap.size() > stored - removed.length) {
+                    return last.next();
+                }
+                if (storeReader == null) {
+                    storeReader = reader(0);
+                }
+                while (removedIndex < removed.length && removed[removedIndex] == position) {
+                    read(storeReader);
+                    position++;
+                    removedIndex++;
+                }
+                position++;
+                return read(storeReader);
+            }
+        };
+    }
+}
@@ -0,0 +1,578 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.itagile.logic.api.AppResponse;
+import com.itagile.logic.api.ResponseEvent;
+import com.itagile.logic.api.ResponseSummary;
+import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageType;
+
+/**
+ * A builder publishing each message to a subscriber as it is added, for long-running operations.
+ *
+ * <p>Messages are not retained: each one is published as a {@link ResponseEvent} once the next message is added, so
+ * {@link #withCode(String)} can still set its code. {@link #complete()} or {@link #build()} publish the last message and
+ * a summary event with the ok state and the counts by type, and then complete the subscriber. Publishing follows the
+ * subscriber demand: up to a fixed number of events are buffered, and adding a message blocks the producer while the
+ * buffer is full. A single subscriber is accepted.
+ *
+ * <p>{@link #hasCode(String)} remembers up to 1,024 distinct codes of the messages published, so long streams do not
+ * retain memory for each code; the codes are forgotten when the stream is completed.
+ *
+ * <p>The methods of {@link ResponseBuilder} must be called from a single thread, the subscriber may request items from
+ * any thread.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+public class StreamingResponseBuilder implements ResponseBuilder, ResponseFlow.Publisher<ResponseEvent> {
+    /**
+     * Pattern of the error of the response built when the stream had errors, the arguments are the number of
+     * errors, warnings and informative messages.
+     */
+    public static final String SUMMARY_MESSAGE = "{0} errors, {1} warnings and {2} informative messages were streamed";
+
+    /**
+     * Default number of events buffered while there is no demand.
+     */
+    private static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * Maximum number of distinct codes remembered by {@link #hasCode(String)}.
+     */
+    private static final int MAX_CODES = 1_024;
+
+    /**
+     * Maximum number of events buffered while there is no demand.
+     */
+    private final int capacity;
+
+    /**
+     * Guards the buffer and the state of the subscription.
+     */
+    private final Lock lock = new ReentrantLock();
+
+    /**
+     * Signaled when the buffer has room or the subscription is cancelled.
+     */
+    private final Condition notFull = lock.newCondition();
+
+    /**
+     * Events waiting for demand.
+     */
+    private final Queue<ResponseEvent> buffer = new ArrayDeque<>();
+
+    /**
+     * Codes of the messages published, up to {@link #MAX_CODES}.
+     */
+    private final Set<String> codes = new HashSet<>();
+
+    /**
+     * The service for custom ServiceMessage instantiation.
+     */
+    private MessageProvider messageProvider;
+
+    /**
+     * The subscriber, null until subscribed.
+     */
+    private ResponseFlow.Subscriber<? super ResponseEvent> subscriber;
+
+    /**
+     * Number of events requested and not published yet.
+     */
+    private long demand;
+
+    /**
+     * Determines if the subscriber cancelled the subscription.
+     */
+    private boolean cancelled;
+
+    /**
+     * Determines if a thread is publishing events.
+     */
+    private boolean draining;
+
+    /**
+     * Determines if no more events are added to the buffer.
+     */
+    private boolean completed;
+
+    /**
+     * Determines if the subscriber was completed.
+     */
+    private boolean terminated;
+
+    /**
+     * The error completing the subscriber, null if it completes normally.
+     */
+    private Throwable error;
+
+    /**
+     * The last message added, published when the next message is added.
+     */
+    private ServiceMessage last;
+
+    /**
+     * Determines if the last message was appended from other response, so it may be shared and frozen.
+     */
+    private boolean lastShared;
+
+    /**
+     * Number of errors added.
+     */
+    private int errors;
+
+    /**
+     * Number of warnings added.
+     */
+    private int warnings;
+
+    /**
+     * Number of informative messages added.
+     */
+    private int infos;
+
+    /**
+     * The summary, null until completed.
+     */
+    private ResponseSummary summary;
+
+    /**
+     * Constructor with the maximum number of events buffered.
+     *
+     * @param capacity maximum number of events buffered while there is no demand
+     */
+    public StreamingResponseBuilder(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Static factory method buffering up to 256 events.
+     *
+     * @return the created object
+     */
+    public static StreamingResponseBuilder of() {
+        return new StreamingResponseBuilder(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Sets the service for custom ServiceMessage instantiation.
+     *
+     * @param messageProvider the service for custom ServiceMessage instantiation
+     * @return this object
+     */
+    public StreamingResponseBuilder withMessageProvider(final MessageProvider messageProvider) {
+        this.messageProvider = messageProvider;
+        return this;
+    }
+
+    @Override
+    public final void subscribe(final ResponseFlow.Subscriber<? super ResponseEvent> newSubscriber) {
+        Objects.requireNonNull(newSubscriber, "subscriber");
+        lock.lock();
+        try {
+            if (subscriber != null) {
+                newSubscriber.onSubscribe(new Rejected());
+                newSubscriber.onError(new IllegalStateException("A single subscriber is accepted"));
+                return;
+            }
+            subscriber = newSubscriber;
+        } finally {
+            lock.unlock();
+        }
+        newSubscriber.onSubscribe(new Subscription());
+        drain();
+    }
+
+    /**
+     * Determines if the messages added have no errors.
+     *
+     * @return true if no errors where added
+     */
+    @Override
+    public final boolean isOk() {
+        return errors == 0;
+    }
+
+    /**
+     * Messages are not retained, they are published to the subscriber.
+     *
+     * @return an empty list
+     */
+    @Override
+    public final List<ServiceMessage> getMessages() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public final ResponseBuilder addError(final String message) {
+        return addMessage(ServiceMessageType.ERROR, message);
+    }
+
+    @Override
+    public final ResponseBuilder addError(final String message, final Object... args) {
+        return addMessage(ServiceMessageType.ERROR, message, args);
+    }
+
+    @Override
+    public final ResponseBuilder addWarning(final String message) {
+        return addMessage(ServiceMessageType.WARN, message);
+    }
+
+    @Override
+    public final ResponseBuilder addWarning(final String message, final Object... args) {
+        return addMessage(ServiceMessageType.WARN, message, args);
+    }
+
+    @Override
+    public final ResponseBuilder addInfo(final String message) {
+        return addMessage(ServiceMessageType.INFO, message);
+    }
+
+    @Override
+    public final ResponseBuilder addInfo(final String message, final Object... args) {
+        return addMessage(ServiceMessageType.INFO, message, args);
+    }
+
+    @Override
+    public final ResponseBuilder add(final MessageTemplate template, final Object... args) {
+        final ServiceMessage dto;
+        if (messageProvider == null) {
+            dto = template.toMessage(args);
+        } else {
+            dto = messageProvider.getMessage(template.getType(), template.getPattern(), args);
+            dto.setCode(template.getCode());
+        }
+        offer(dto, false);
+        return this;
+    }
+
+    @Override
+    public final ResponseBuilder addAll(final AppResponse response) {
+        return addAll(response.getMessages());
+    }
+
+    @Override
+    public final ResponseBuilder addAll(final Collection<ServiceMessage> messages) {
+        messages.forEach(message -> offer(message, true));
+        return this;
+    }
+
+    /**
+     * Sets the code of the last message added, which is not published yet. A message appended from other response
+     * is replaced with a copy, so the other response is not modified.
+     *
+     * @param code the code of the last message
+     * @return this object
+     */
+    @Override
+    public final ResponseBuilder withCode(final String code) {
+        if (last != null) {
+            if (lastShared) {
+                final ServiceMessage copy = ServiceMessage.of(last.getType(), last.getMessage(), code);
+                copy.setCount(last.getCount());
+                copy.setSampleIndices(last.getSampleIndices());
+                copy.setSequence(last.getSequence());
+                copy.setOrigin(last.getOrigin());
+                last = copy;
+                lastShared = false;
+            } else {
+                last.setCode(code);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Determines if a message with a code was added. Only the first 1,024 distinct codes published are remembered, and
+     * they are forgotten when the stream is completed.
+     *
+     * @param code the code of the message
+     * @return true if the last message or a message remembered has the code
+     */
+    @Override
+    public final boolean hasCode(final String code) {
+        if (last != null && Objects.equals(last.getCode(), code)) {
+            return true;
+        }
+        return code != null && codes.contains(code);
+    }
+
+    /**
+     * Publishes the last message and the summary, and then completes the subscriber. Subsequent calls return the
+     * same summary.
+     *
+     * @return the summary of the messages added
+     * @throws IllegalStateException if the thread is interrupted while waiting for demand, the stream is not
+     *         completed
+     */
+    public final ResponseSummary complete() {
+        if (summary == null) {
+            publishLast();
+            summary = ResponseSummary.of(errors, warnings, infos);
+            codes.clear();
+            enqueue(ResponseEvent.of(summary), true);
+        }
+        return summary;
+    }
+
+    /**
+     * Publishes the last message and completes the subscriber with an error, no summary is published.
+     *
+     * @param throwable the error of the operation
+     * @throws IllegalStateException if the thread is interrupted while waiting for demand, the stream is not
+     *         completed
+     */
+    public final void completeExceptionally(final Throwable throwable) {
+        if (summary == null) {
+            publishLast();
+            summary = ResponseSummary.of(errors, warnings, infos);
+            codes.clear();
+            lock.lock();
+            try {
+                if (!completed) {
+                    error = throwable;
+                    completed = true;
+                }
+            } finally {
+                lock.unlock();
+            }
+            drain();
+        }
+    }
+
+    /**
+     * Completes the stream through {@link #complete()}. As messages are not retained, the response returned has no
+     * messages when there were no errors, or the error {@link #SUMMARY_MESSAGE} otherwise.
+     *
+     * @return a response with the ok state of the stream
+     */
+    @Override
+    public final AppResponse build() {
+        final ResponseSummary result = complete();
+        if (result.isOk()) {
+            return AppResponse.empty();
+        }
+        return new AppResponse(Collections.singletonList(ServiceMessage.of(ServiceMessageType.ERROR,
+                TextUtils.format(SUMMARY_MESSAGE, result.getErrorCount(), result.getWarningCount(),
+                        result.getInfoCount()))));
+    }
+
+    /**
+     * Creates the message using the message provider if any, and adds it.
+     *
+     * @param type the type of this message
+     * @param message the message or pattern
+     * @param args arguments referenced by the format specifiers in the pattern
+     * @return this object
+     */
+    private ResponseBuilder addMessage(final ServiceMessageType type, final String message, final Object... args) {
+        final ServiceMessage dto;
+        if (messageProvider != null) {
+            dto = messageProvider.getMessage(type, message, args);
+        } else if (args.length == 0) {
+            dto = ServiceMessage.of(type, message);
+        } else {
+            dto = ServiceMessage.of(type, TextUtils.format(message, args));
+        }
+        offer(dto, false);
+        return this;
+    }
+
+    /**
+     * Publishes the last message and keeps the message until the next one is added.
+     *
+     * @param dto the message added
+     * @param shared true if the message was appended from other response
+     */
+    private void offer(final ServiceMessage dto, final boolean shared) {
+        if (summary != null) {
+            throw new IllegalStateException("The stream is already completed");
+        }
+        publishLast();
+        last = dto;
+        lastShared = shared;
+        if (dto.getType() == ServiceMessageType.ERROR) {
+            errors++;
+        } else if (dto.getType() == ServiceMessageType.WARN) {
+            warnings++;
+        } else if (dto.getType() == ServiceMessageType.INFO) {
+            infos++;
+        }
+    }
+
+    /**
+     * Publishes the last message, if any. The message is kept if the thread is interrupted while waiting.
+     */
+    private void publishLast() {
+        if (last != null) {
+            enqueue(ResponseEvent.of(last), false);
+            if (last.getCode() != null && codes.size() < MAX_CODES) {
+                codes.add(last.getCode());
+            }
+            last = null;
+        }
+    }
+
+    /**
+     * Adds an event to the buffer, waiting while the buffer is full unless it is the summary.
+     *
+     * @param event the event
+     * @param summaryEvent true if it is the summary, completing the stream
+     * @throws IllegalStateException if the thread is interrupted while waiting, the event is not added
+     */
+    private void enqueue(final ResponseEvent event, final boolean summaryEvent) {
+        lock.lock();
+        try {
+            while (!summaryEvent && !cancelled && !completed && buffer.size() >= capacity) {
+                try {
+                    notFull.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for demand", e);
+                }
+            }
+            if (!cancelled && !completed) {
+                buffer.add(event);
+            }
+            if (summaryEvent) {
+                completed = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+        drain();
+    }
+
+    /**
+     * Publishes the events requested. A single thread publishes at a time, so subscriber methods are never called
+     * concurrently nor recursively.
+     */
+    private void drain() {
+        lock.lock();
+        try {
+            if (draining || subscriber == null) {
+                return;
+            }
+            draining = true;
+        } finally {
+            lock.unlock();
+        }
+        while (true) {
+            ResponseEvent next = null;
+            boolean terminate = false;
+            Throwable failure = null;
+            lock.lock();
+            try {
+                if (cancelled || terminated) {
+                    draining = false;
+                    return;
+                }
+                if (demand > 0 && !buffer.isEmpty()) {
+                    next = buffer.poll();
+                    demand--;
+                    notFull.signal();
+                } else if (completed && buffer.isEmpty()) {
+                    terminated = true;
+                    terminate = true;
+                    failure = error;
+                } else {
+                    draining = false;
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (terminate) {
+                if (failure == null) {
+                    subscriber.onComplete();
+                } else {
+                    subscriber.onError(failure);
+                }
+            } else {
+                subscriber.onNext(next);
+            }
+        }
+    }
+
+    /**
+     * The subscription of the subscriber.
+     */
+    private final class Subscription implements ResponseFlow.Subscription {
+        @Override
+        public void request(final long n) {
+            lock.lock();
+            try {
+                if (n > 0) {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                } else if (!cancelled && !terminated) {
+                    // The error is signaled through drain, so it is never concurrent with other signals
+                    buffer.clear();
+                    error = new IllegalArgumentException("The number of items requested must be positive");
+                    completed = true;
+                    notFull.signalAll();
+                }
+            } finally {
+                lock.unlock();
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            lock.lock();
+            try {
+                cancelled = true;
+                buffer.clear();
+                notFull.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * The subscription of a rejected subscriber.
+     */
+    private static final class Rejected implements ResponseFlow.Subscription {
+        @Override
+        public void request(final long n) {
+            // the subscriber receives no items
+        }
+
+        @Override
+        public void cancel() {
+            // the subscriber receives no items
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Changes to messages appended before the checkpoints of a builder, undone in reverse order on rollback. A checkpoint
+ * keeps the size of the log when it was marked.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+final class UndoLog {
+    /**
+     * The actions undoing each change, in the order the changes were made.
+     */
+    private final List<Runnable> changes = new ArrayList<>();
+
+    /**
+     * Returns the number of changes recorded.
+     *
+     * @return the number of changes
+     */
+    int size() {
+        return changes.size();
+    }
+
+    /**
+     * Records a change.
+     *
+     * @param change the action undoing the change
+     */
+    void add(final Runnable change) {
+        changes.add(change);
+    }
+
+    /**
+     * Undoes the changes recorded after a size, the last change first.
+     *
+     * @param size the number of changes kept
+     */
+    void undo(final int size) {
+        for (int i = changes.size() - 1; i >= size; i--) {
+            changes.remove(i).run();
+        }
+    }
+}
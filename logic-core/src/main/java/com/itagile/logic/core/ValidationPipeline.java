@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import com.itagile.logic.api.ServiceMessageList;
+import com.itagile.logic.api.ServiceMessageType;
+
+/**
+ * Validates a stream of items with bounded memory, sending the messages of the items that fail to a sink.
+ *
+ * <p>Each item is validated against a builder that is reset and reused for the next item. Only the messages of items
+ * with errors are sent to the {@link ValidationSink}, together with the position of the item, and only aggregate
+ * counters are kept, so memory does not depend on the number of items. Optionally, items are read in chunks validated
+ * in parallel, with a bounded number of chunks in flight. Failed items are sent to the sink in input order from the
+ * calling thread in both modes.
+ *
+ * <p>A validation throwing {@link AppResponseException} fails the item with the messages of the exception, any other
+ * exception stops the run.
+ *
+ * @param <T> type of the items
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+public final class ValidationPipeline<T> {
+    /**
+     * Number of chunks in flight for each processor.
+     */
+    private static final int CHUNKS_PER_PROCESSOR = 2;
+
+    /**
+     * Validates an item adding messages to the builder.
+     */
+    private final BiConsumer<? super T, ? super ResponseBuilder> validation;
+
+    /**
+     * Creates the builders reused for each item.
+     */
+    private Supplier<? extends AbstractAppResponseBuilder> builderFactory = AppResponseBuilder::new;
+
+    /**
+     * Number of items of each chunk validated in parallel, 0 to validate in the calling thread.
+     */
+    private int chunkSize;
+
+    /**
+     * Executor validating chunks.
+     */
+    private Executor executor = ForkJoinPool.commonPool();
+
+    /**
+     * Constructor with validation.
+     *
+     * @param validation validates an item adding messages to the builder
+     */
+    private ValidationPipeline(final BiConsumer<? super T, ? super ResponseBuilder> validation) {
+        this.validation = validation;
+    }
+
+    /**
+     * Static factory method with the validation of each item.
+     *
+     * @param validation validates an item adding messages to the builder
+     * @param <T>        type of the items
+     * @return the created object
+     */
+    public static <T> ValidationPipeline<T> of(final BiConsumer<? super T, ? super ResponseBuilder> validation) {
+        return new ValidationPipeline<>(validation);
+    }
+
+    /**
+     * Sets how the builders reused for each item are created, for example with a message provider.
+     *
+     * @param factory creates the builders reused for each item
+     * @return this object
+     */
+    public ValidationPipeline<T> withBuilder(final Supplier<? extends AbstractAppResponseBuilder> factory) {
+        this.builderFactory = factory;
+        return this;
+    }
+
+    /**
+     * Validates the items in chunks in parallel.
+     *
+     * @param size number of items of each chunk
+     * @return this object
+     */
+    public ValidationPipeline<T> withParallelChunks(final int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive");
+        }
+        this.chunkSize = size;
+        return this;
+    }
+
+    /**
+     * Sets the executor validating chunks, the common fork join pool by default.
+     *
+     * @param chunkExecutor the executor validating chunks
+     * @return this object
+     */
+    public ValidationPipeline<T> withExecutor(final Executor chunkExecutor) {
+        this.executor = chunkExecutor;
+        return this;
+    }
+
+    /**
+     * Validates the items.
+     *
+     * @param items the items
+     * @param sink  receives the messages of the items that fail
+     * @return the aggregate counters
+     * @throws UncheckedIOException if the sink failed
+     */
+    public PipelineResult run(final Spliterator<? extends T> items, final ValidationSink sink) {
+        return run(Spliterators.iterator(items), sink);
+    }
+
+    /**
+     * Validates the items.
+     *
+     * @param items the items
+     * @param sink  receives the messages of the items that fail
+     * @return the aggregate counters
+     * @throws UncheckedIOException if the sink failed
+     */
+    public PipelineResult run(final Iterator<? extends T> items, final ValidationSink sink) {
+        final Counters counters = new Counters();
+        try {
+            if (chunkSize == 0) {
+                final AbstractAppResponseBuilder builder = builderFactory.get();
+                long index = 0;
+                while (items.hasNext()) {
+                    final ServiceMessageList messages = validate(builder, items.next(), counters);
+                    if (!messages.isOk()) {
+                        sink.accept(index, messages);
+                    }
+                    index++;
+                }
+            } else {
+                runChunks(items, sink, counters);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new PipelineResult(counters.items, counters.failedItems, counters.errors, counters.warnings,
+                counters.infos);
+    }
+
+    /**
+     * Validates the items in chunks in parallel.
+     *
+     * @param items    the items
+     * @param sink     receives the messages of the items that fail
+     * @param counters the aggregate counters
+     * @throws IOException if the sink failed
+     */
+    private void runChunks(final Iterator<? extends T> items, final ValidationSink sink, final Counters counters)
+            throws IOException {
+        final int maxInFlight = Runtime.getRuntime().availableProcessors() * CHUNKS_PER_PROCESSOR;
+        final Deque<CompletableFuture<Chunk>> inFlight = new ArrayDeque<>();
+        long index = 0;
+        while (items.hasNext()) {
+            final List<T> chunk = new ArrayList<>(chunkSize);
+            while (chunk.size() < chunkSize && items.hasNext()) {
+                chunk.add(items.next());
+            }
+            final long first = index;
+            index += chunk.size();
+            inFlight.add(CompletableFuture.supplyAsync(() -> validate(chunk, first), executor));
+            if (inFlight.size() >= maxInFlight) {
+                send(inFlight.poll(), sink, counters);
+            }
+        }
+        while (!inFlight.isEmpty()) {
+            send(inFlight.poll(), sink, counters);
+        }
+    }
+
+    /**
+     * Waits for a chunk and sends its failed items to the sink.
+     *
+     * @param future   the chunk
+     * @param sink     receives the messages of the items that fail
+     * @param counters the aggregate counters
+     * @throws IOException if the sink failed
+     */
+    private static void send(final CompletableFuture<Chunk> future, final ValidationSink sink,
+                             final Counters counters) throws IOException {
+        final Chunk chunk;
+        try {
+            chunk = future.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        for (int i = 0; i < chunk.failedIndices.size(); i++) {
+            sink.accept(chunk.failedIndices.get(i), chunk.failedMessages.get(i));
+        }
+        counters.add(chunk.counters);
+    }
+
+    /**
+     * Validates a chunk of items with a new builder.
+     *
+     * @param items the items of the chunk
+     * @param first the position of the first item in the input
+     * @return the failed items and counters of the chunk
+     */
+    private Chunk validate(final List<T> items, final long first) {
+        final Chunk chunk = new Chunk();
+        final AbstractAppResponseBuilder builder = builderFactory.get();
+        for (int i = 0; i < items.size(); i++) {
+            final ServiceMessageList messages = validate(builder, items.get(i), chunk.counters);
+            if (!messages.isOk()) {
+                chunk.failedIndices.add(first + i);
+                chunk.failedMessages.add(messages);
+            }
+        }
+        return chunk;
+    }
+
+    /**
+     * Validates an item with the builder reset.
+     *
+     * @param builder  the builder reused for each item
+     * @param item     the item
+     * @param counters the counters updated
+     * @return the messages of the item
+     */
+    private ServiceMessageList validate(final AbstractAppResponseBuilder builder, final T item,
+                                        final Counters counters) {
+        builder.reset();
+        try {
+            validation.accept(item, builder);
+        } catch (final AppResponseException e) {
+            builder.addAll(e);
+        }
+        final ServiceMessageList messages = builder.getMessages();
+        counters.items++;
+        if (!messages.isOk()) {
+            counters.failedItems++;
+        }
+        counters.errors += messages.count(ServiceMessageType.ERROR);
+        counters.warnings += messages.count(ServiceMessageType.WARN);
+        counters.infos += messages.count(ServiceMessageType.INFO);
+        return messages;
+    }
+
+    /**
+     * Aggregate counters, confined to a thread.
+     */
+    private static final class Counters {
+        /**
+         * Number of items validated.
+         */
+        private long items;
+
+        /**
+         * Number of items with errors.
+         */
+        private long failedItems;
+
+        /**
+         * Number of errors.
+         */
+        private long errors;
+
+        /**
+         * Number of warnings.
+         */
+        private long warnings;
+
+        /**
+         * Number of informative messages.
+         */
+        private long infos;
+
+        /**
+         * Adds the counters of a chunk.
+         *
+         * @param other the counters of a chunk
+         */
+        void add(final Counters other) {
+            items += other.items;
+            failedItems += other.failedItems;
+            errors += other.errors;
+            warnings += other.warnings;
+            infos += other.infos;
+        }
+    }
+
+    /**
+     * The failed items and counters of a chunk.
+     */
+    private static final class Chunk {
+        /**
+         * The counters of the chunk.
+         */
+        private final Counters counters = new Counters();
+
+        /**
+         * Positions of the failed items in the input.
+         */
+        private final List<Long> failedIndices = new ArrayList<>();
+
+        /**
+         * Messages of the failed items.
+         */
+        private final List<ServiceMessageList> failedMessages = new ArrayList<>();
+    }
+}
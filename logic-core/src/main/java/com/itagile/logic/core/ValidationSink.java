@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+import com.itagile.logic.api.ServiceMessage;
+
+/**
+ * Receives the messages of the items that failed validation in a {@link ValidationPipeline}.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+@FunctionalInterface
+public interface ValidationSink {
+    /**
+     * Receives the messages of an item that failed validation.
+     *
+     * @param index    the position of the item in the input, starting at zero
+     * @param messages the messages of the item, valid after this call returns
+     * @throws IOException if the messages could not be written
+     */
+    void accept(long index, List<ServiceMessage> messages) throws IOException;
+
+    /**
+     * Returns a sink writing a line per message with the index of the item, the type, the code and the text of the
+     * message separated by tabs. Line breaks and tabs in the text are replaced by spaces. The writer is not closed.
+     *
+     * @param writer the writer, for example a buffered writer of a file
+     * @return the sink
+     */
+    static ValidationSink of(final Writer writer) {
+        return (index, messages) -> {
+            for (final ServiceMessage message : messages) {
+                writer.write(Long.toString(index));
+                writer.write('\t');
+                writer.write(String.valueOf(message.getType()));
+                writer.write('\t');
+                if (message.getCode() != null) {
+                    writer.write(message.getCode());
+                }
+                writer.write('\t');
+                if (message.getMessage() != null) {
+                    writer.write(message.getMessage().replace('\t', ' ').replace('\r', ' ').replace('\n', ' '));
+                }
+                writer.write('\n');
+            }
+        };
+    }
+}
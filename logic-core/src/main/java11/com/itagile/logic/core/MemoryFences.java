@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import java.lang.invoke.VarHandle;
+
+/**
+ * Memory fences ordering plain accesses to shared buffers, such as the records of a {@link ResponseJournal}.
+ *
+ * <p>Java 11 version calling the {@link VarHandle} fences, without unsafe access.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+final class MemoryFences {
+    /**
+     * Utility class.
+     */
+    private MemoryFences() {
+    }
+
+    /**
+     * Keeps the accesses before the fence from being reordered with the writes after it.
+     */
+    static void release() {
+        VarHandle.releaseFence();
+    }
+
+    /**
+     * Keeps the reads before the fence from being reordered with the accesses after it.
+     */
+    static void acquire() {
+        VarHandle.acquireFence();
+    }
+}
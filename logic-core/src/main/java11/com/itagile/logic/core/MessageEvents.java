@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import com.itagile.logic.api.AppResponse;
+import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageType;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder events of message creation, formatting, resolution and build.
+ *
+ * <p>Events are enabled and configured through standard JFR settings using their names, for example
+ * {@code com.itagile.logic.MessageFormat}. When the event is disabled, no event object survives escape analysis. When
+ * the runtime has no Flight Recorder, no event class is loaded and every method returns immediately.
+ *
+ * <p>Java 11 version of the multi-release JAR, the Java 8 base classes record no events.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+final class MessageEvents {
+    /**
+     * Determines if the runtime has Flight Recorder.
+     */
+    private static final boolean AVAILABLE = probe();
+
+    /**
+     * Utility class.
+     */
+    private MessageEvents() {
+    }
+
+    /**
+     * Determines if events are recorded.
+     *
+     * @return true if the runtime has Flight Recorder
+     */
+    static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    /**
+     * Determines if the runtime has Flight Recorder.
+     *
+     * @return true if the Flight Recorder API is available
+     */
+    private static boolean probe() {
+        try {
+            Class.forName("jdk.jfr.Event");
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Records that a message was added.
+     *
+     * @param message   the message added
+     * @param formatted true if the message was formatted with arguments
+     */
+    static void added(final ServiceMessage message, final boolean formatted) {
+        if (AVAILABLE) {
+            final AddEvent event = new AddEvent();
+            if (event.shouldCommit()) {
+                event.type = String.valueOf(message.getType());
+                event.code = message.getCode();
+                event.formatted = formatted;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Starts timing the format of a message.
+     *
+     * @return the event to pass to {@link #formatted(Object, String, Object[])}, or null if it is disabled
+     */
+    static Object beginFormat() {
+        if (AVAILABLE) {
+            final FormatEvent event = new FormatEvent();
+            if (event.isEnabled()) {
+                event.begin();
+                return event;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Records the format of a message.
+     *
+     * @param token   the event returned by {@link #beginFormat()}
+     * @param pattern the pattern formatted
+     * @param args    the arguments formatted
+     */
+    static void formatted(final Object token, final String pattern, final Object[] args) {
+        if (token != null) {
+            final FormatEvent event = (FormatEvent) token;
+            event.end();
+            if (event.shouldCommit()) {
+                event.pattern = pattern;
+                event.argumentCount = args.length;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Starts timing the resolution of a message by the message provider.
+     *
+     * @return the event to pass to {@link #resolved(Object, ServiceMessageType, String)}, or null if it is disabled
+     */
+    static Object beginResolve() {
+        if (AVAILABLE) {
+            final ResolveEvent event = new ResolveEvent();
+            if (event.isEnabled()) {
+                event.begin();
+                return event;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Records the resolution of a message by the message provider.
+     *
+     * @param token   the event returned by {@link #beginResolve()}
+     * @param type    the type of the message
+     * @param pattern the message or pattern resolved
+     */
+    static void resolved(final Object token, final ServiceMessageType type, final String pattern) {
+        if (token != null) {
+            final ResolveEvent event = (ResolveEvent) token;
+            event.end();
+            if (event.shouldCommit()) {
+                event.type = String.valueOf(type);
+                event.pattern = pattern;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Starts timing the build of a response.
+     *
+     * @return the event to pass to {@link #built(Object, AppResponse)}, or null if it is disabled
+     */
+    static Object beginBuild() {
+        if (AVAILABLE) {
+            final BuildEvent event = new BuildEvent();
+            if (event.isEnabled()) {
+                event.begin();
+                return event;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Records the build of a response.
+     *
+     * @param token    the event returned by {@link #beginBuild()}
+     * @param response the response built
+     */
+    static void built(final Object token, final AppResponse response) {
+        if (token != null) {
+            final BuildEvent event = (BuildEvent) token;
+            event.end();
+            if (event.shouldCommit()) {
+                event.responseClass = response.getClass();
+                event.messageCount = response.getMessages().size();
+                event.ok = response.isOk();
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * A message added to a builder.
+     */
+    @Name("com.itagile.logic.MessageAdd")
+    @Label("Message Add")
+    @Category({"IT Agile", "Logic"})
+    @Description("A message added to a response builder")
+    @StackTrace(false)
+    static final class AddEvent extends Event {
+        /**
+         * The type of the message.
+         */
+        @Label("Type")
+        private String type;
+
+        /**
+         * The code of the message, if it was set before the message was added.
+         */
+        @Label("Code")
+        private String code;
+
+        /**
+         * True if the message was formatted with arguments.
+         */
+        @Label("Formatted")
+        private boolean formatted;
+    }
+
+    /**
+     * The format of a message pattern with arguments.
+     */
+    @Name("com.itagile.logic.MessageFormat")
+    @Label("Message Format")
+    @Category({"IT Agile", "Logic"})
+    @Description("The format of a message pattern with arguments")
+    @StackTrace(false)
+    static final class FormatEvent extends Event {
+        /**
+         * The pattern formatted.
+         */
+        @Label("Pattern")
+        private String pattern;
+
+        /**
+         * The number of arguments formatted.
+         */
+        @Label("Argument Count")
+        private int argumentCount;
+    }
+
+    /**
+     * The resolution of a message by the message provider.
+     */
+    @Name("com.itagile.logic.MessageResolve")
+    @Label("Message Provider Resolution")
+    @Category({"IT Agile", "Logic"})
+    @Description("The resolution of a message by the message provider")
+    @StackTrace(false)
+    static final class ResolveEvent extends Event {
+        /**
+         * The type of the message.
+         */
+        @Label("Type")
+        private String type;
+
+        /**
+         * The message or pattern resolved.
+         */
+        @Label("Pattern")
+        private String pattern;
+    }
+
+    /**
+     * The build of a response.
+     */
+    @Name("com.itagile.logic.ResponseBuild")
+    @Label("Response Build")
+    @Category({"IT Agile", "Logic"})
+    @Description("The build of a response")
+    @StackTrace(false)
+    static final class BuildEvent extends Event {
+        /**
+         * The class of the response.
+         */
+        @Label("Response Class")
+        private Class<?> responseClass;
+
+        /**
+         * The number of messages of the response.
+         */
+        @Label("Message Count")
+        private int messageCount;
+
+        /**
+         * True if the response has no errors.
+         */
+        @Label("Ok")
+        private boolean ok;
+    }
+}
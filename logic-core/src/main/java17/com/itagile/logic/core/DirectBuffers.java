@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.itagile.logic.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+
+/**
+ * Frees the memory of direct and memory-mapped buffers without waiting for the garbage collector.
+ *
+ * <p>Java 17 version calling {@code sun.misc.Unsafe.invokeCleaner} through a method handle bound once, without the
+ * Java 8 fallback nor reflection on each free. When the unsafe instance is not accessible, buffers are freed when
+ * garbage collected. A freed buffer must not be accessed again.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+final class DirectBuffers {
+    /**
+     * Frees a direct buffer, null if buffers are freed by the garbage collector.
+     */
+    private static final MethodHandle INVOKE_CLEANER = invokeCleaner();
+
+    /**
+     * Utility class.
+     */
+    private DirectBuffers() {
+    }
+
+    /**
+     * Finds {@code invokeCleaner} bound to the unsafe instance.
+     *
+     * @return the method handle, null if not accessible
+     */
+    private static MethodHandle invokeCleaner() {
+        try {
+            final Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            final Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(field.get(null));
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Frees a direct buffer, or does nothing if buffers are freed by the garbage collector in this runtime.
+     *
+     * @param buffer the buffer, direct or memory-mapped
+     */
+    static void free(final ByteBuffer buffer) {
+        if (INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invokeExact(buffer);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new IllegalStateException("Failed to free a direct buffer", e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.itagile.logic.core;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates the threads running the work of the library concurrently.
+ *
+ * <p>Java 21 version starting a virtual thread per task without reflection.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+final class Threads {
+    /**
+     * Utility class.
+     */
+    private Threads() {
+    }
+
+    /**
+     * Creates an executor starting a virtual thread per task.
+     *
+     * @param name the name of the threads
+     * @return the executor
+     */
+    static ExecutorService newTaskExecutor(final String name) {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name).factory());
+    }
+
+    /**
+     * Returns a factory of daemon threads.
+     *
+     * @param name the name of the threads
+     * @return the factory
+     */
+    static ThreadFactory daemon(final String name) {
+        return Thread.ofPlatform().name(name).daemon().factory();
+    }
+}
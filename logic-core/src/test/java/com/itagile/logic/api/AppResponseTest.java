@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Javier Alcala
+ * @since 1.0.0
+ */
+class AppResponseTest {
+
+    @Test
+    void getMessages() {
+        final List<ServiceMessage> messages = Arrays.asList(
+                ServiceMessage.of(ServiceMessageType.ERROR, "Error 1"),
+                ServiceMessage.of(ServiceMessageType.WARN, "Warning 1"),
+                ServiceMessage.of(ServiceMessageType.INFO, "Info 1")
+        );
+        final String expected = "Error 1,Warning 1,Info 1";
+        final AppResponse dto = new AppResponse(messages);
+        final String actual = dto.getMessages(",");
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void setMessagesOk() {
+        final List<ServiceMessage> messages = Arrays.asList(
+                ServiceMessage.of(ServiceMessageType.WARN, "Warning 1"),
+                ServiceMessage.of(ServiceMessageType.INFO, "Info 1")
+        );
+        final AppResponse dto = new AppResponse();
+        dto.setMessages(messages);
+        assertTrue(dto.isOk());
+    }
+
+    @Test
+    void setMessagesError() {
+        final List<ServiceMessage> messages = Arrays.asList(
+                ServiceMessage.of(ServiceMessageType.ERROR, "Error 1")
+        );
+        final AppResponse dto = new AppResponse();
+        dto.setMessages(messages);
+        assertFalse(dto.isOk());
+    }
+
+    private static class AppResponseMock extends AppResponse {
+        private Long id;
+    }
+
+    @Test
+    void withMessage() {
+        final AppResponseMock dto = new AppResponseMock();
+        dto.id = 1L;
+        final AppResponse actual1 = dto.withMessage(ServiceMessage.of(ServiceMessageType.WARN, "Warning 1", "W1"));
+        final AppResponse actual2 = actual1.withMessage(ServiceMessage.of(ServiceMessageType.ERROR, "Error 1", "E1"));
+        assertTrue(dto.getMessages().isEmpty());
+        assertTrue(actual1.isOk());
+        assertEquals("Warning 1", actual1.getMessages(","));
+        assertFalse(actual2.isOk());
+        assertEquals("Warning 1,Error 1", actual2.getMessages(","));
+        assertEquals(1L, ((AppResponseMock) actual2).id);
+        final AppResponse actual3 = actual2.without("E1");
+        assertTrue(actual3.isOk());
+        assertEquals("Warning 1", actual3.getMessages(","));
+        assertFalse(actual2.isOk());
+        final AppResponse actual4 = actual3.without("E1");
+        assertNotSame(actual3, actual4);
+        assertEquals("Warning 1", actual4.getMessages(","));
+        final AppResponse copy = AppResponse.empty().without("E1");
+        assertNotSame(AppResponse.empty(), copy);
+        copy.setMessages(Collections.emptyList());
+    }
+
+    @Test
+    void withAll() {
+        final List<ServiceMessage> messages = Arrays.asList(
+                ServiceMessage.of(ServiceMessageType.ERROR, "Error 1"),
+                ServiceMessage.of(ServiceMessageType.WARN, "Warning 1")
+        );
+        final AppResponse dto = new AppResponse(messages.subList(1, 2));
+        final AppResponse actual = dto.withAll(messages);
+        assertTrue(dto.isOk());
+        assertFalse(actual.isOk());
+        assertEquals("Warning 1,Error 1,Warning 1", actual.getMessages(","));
+    }
+
+    @Test
+    void empty() {
+        final AppResponse actual = AppResponse.empty();
+        assertTrue(actual.isOk());
+        assertTrue(actual.getMessages().isEmpty());
+        final List<ServiceMessage> messages = Collections.singletonList(
+                ServiceMessage.of(ServiceMessageType.ERROR, "Error 1"));
+        assertThrows(UnsupportedOperationException.class, () -> actual.setMessages(messages));
+        final AppResponse copy = actual.withAll(messages);
+        assertFalse(copy.isOk());
+        copy.setMessages(Collections.emptyList());
+        assertTrue(actual.getMessages().isEmpty());
+    }
+}
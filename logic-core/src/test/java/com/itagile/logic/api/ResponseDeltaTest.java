@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ResponseDelta tests.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+class ResponseDeltaTest {
+
+    private static ResponseDelta delta(final long since, final long version, final ServiceMessage... messages) {
+        final ResponseDelta delta = new ResponseDelta(Arrays.asList(messages));
+        delta.setSince(since);
+        delta.setVersion(version);
+        delta.setOk(since == 0);
+        return delta;
+    }
+
+    @Test
+    void merge() {
+        final ResponseDelta first = delta(0, 1, ServiceMessage.of(ServiceMessageType.INFO, "Started"));
+        final ResponseDelta second = delta(1, 3, ServiceMessage.of(ServiceMessageType.ERROR, "Failed"),
+                ServiceMessage.of(ServiceMessageType.INFO, "Retrying"));
+        final ResponseDelta merged = first.merge(second);
+        assertEquals("Started,Failed,Retrying", merged.getMessages(","));
+        assertEquals(0, merged.getSince());
+        assertEquals(3, merged.getVersion());
+        assertFalse(merged.isOk());
+        assertEquals("Started", first.getMessages(","));
+        assertEquals(1, first.getVersion());
+        assertThrows(IllegalArgumentException.class, () -> merged.merge(second));
+        final ResponseDelta full = delta(0, 7);
+        assertSame(full, merged.merge(full));
+    }
+
+    @Test
+    void json() throws IOException {
+        final ObjectMapper mapper = new ObjectMapper();
+        final ResponseDelta expected = delta(4, 6, ServiceMessage.of(ServiceMessageType.WARN, "Slow"));
+        final ResponseDelta actual = mapper.readValue(mapper.writeValueAsString(expected), ResponseDelta.class);
+        assertEquals(4, actual.getSince());
+        assertEquals(6, actual.getVersion());
+        assertFalse(actual.isOk());
+        assertEquals("Slow", actual.getMessages(","));
+        assertTrue(new ResponseDelta(Collections.emptyList()).isOk());
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ServiceMessageList tests.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+class ServiceMessageListTest {
+
+    @Test
+    void plus() {
+        final ServiceMessageList empty = ServiceMessageList.empty();
+        final ServiceMessageList list1 = empty.plus(ServiceMessage.of(ServiceMessageType.WARN, "Warning 1"));
+        final ServiceMessageList list2 = list1.plus(ServiceMessage.of(ServiceMessageType.ERROR, "Error 1"));
+        assertTrue(empty.isEmpty());
+        assertEquals(1, list1.size());
+        assertTrue(list1.isOk());
+        assertEquals(2, list2.size());
+        assertFalse(list2.isOk());
+        assertEquals(1, list2.count(ServiceMessageType.ERROR));
+        assertEquals(1, list2.count(ServiceMessageType.WARN));
+        assertEquals(0, list2.count(ServiceMessageType.INFO));
+        assertEquals("Error 1", list2.get(1).getMessage());
+    }
+
+    @Test
+    void plusFromOldList() {
+        final ServiceMessageList list1 = ServiceMessageList.empty()
+                .plus(ServiceMessage.of(ServiceMessageType.INFO, "Info 1"));
+        final ServiceMessageList list2 = list1.plus(ServiceMessage.of(ServiceMessageType.INFO, "Info 2"));
+        final ServiceMessageList list3 = list1.plus(ServiceMessage.of(ServiceMessageType.INFO, "Info 3"));
+        assertEquals("Info 1,Info 2", new AppResponse(list2).getMessages(","));
+        assertEquals("Info 1,Info 3", new AppResponse(list3).getMessages(","));
+        assertEquals(1, list1.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> list1.get(1));
+    }
+
+    @Test
+    void plusAll() {
+        final List<ServiceMessage> messages = Arrays.asList(
+                ServiceMessage.of(ServiceMessageType.ERROR, "Error 1"),
+                ServiceMessage.of(ServiceMessageType.WARN, "Warning 1"),
+                ServiceMessage.of(ServiceMessageType.INFO, "Info 1"));
+        final ServiceMessageList list = ServiceMessageList.copyOf(messages);
+        assertEquals(messages, list);
+        assertSame(list, ServiceMessageList.copyOf(list));
+        assertSame(list, ServiceMessageList.empty().plusAll(list));
+        assertEquals(6, list.plusAll(list).size());
+        assertEquals(2, list.plusAll(list).count(ServiceMessageType.ERROR));
+    }
+
+    @Test
+    void immutable() {
+        final ServiceMessageList list = ServiceMessageList.empty()
+                .plus(ServiceMessage.of(ServiceMessageType.INFO, "Info 1"));
+        assertThrows(UnsupportedOperationException.class, () -> list.add(list.get(0)));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+    }
+
+    private static ServiceMessage message(final int index) {
+        return ServiceMessage.of(index % 3 == 0 ? ServiceMessageType.ERROR : ServiceMessageType.INFO,
+                "Message " + index, "code" + index % 2);
+    }
+
+    @Test
+    void plusLarge() {
+        final List<ServiceMessageList> versions = new ArrayList<>();
+        ServiceMessageList list = ServiceMessageList.empty();
+        for (int i = 0; i < 40_000; i++) {
+            versions.add(list);
+            list = list.plus(message(i));
+        }
+        assertEquals(40_000, list.size());
+        assertEquals(13_334, list.count(ServiceMessageType.ERROR));
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals("Message " + i, list.get(i).getMessage());
+        }
+        final ServiceMessageList branch = versions.get(1056).plus(message(-1));
+        assertEquals(1057, branch.size());
+        assertEquals("Message 1055", branch.get(1055).getMessage());
+        assertEquals("Message -1", branch.get(1056).getMessage());
+        assertEquals("Message 1056", list.get(1056).getMessage());
+        assertEquals(1056, versions.get(1056).size());
+    }
+
+    @Test
+    void plusAllLarge() {
+        final List<ServiceMessage> messages = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            messages.add(message(i));
+        }
+        final ServiceMessageList prefix = ServiceMessageList.copyOf(messages.subList(0, 45));
+        final ServiceMessageList list = prefix.plusAll(messages.subList(45, messages.size()));
+        final ServiceMessageList branch = prefix.plusAll(messages.subList(0, 10));
+        assertEquals(messages, list);
+        assertEquals(55, branch.size());
+        assertEquals("Message 9", branch.get(54).getMessage());
+        assertEquals("Message 45", list.get(45).getMessage());
+    }
+
+    @Test
+    void without() {
+        final List<ServiceMessage> messages = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            messages.add(message(i));
+        }
+        final ServiceMessageList list = ServiceMessageList.copyOf(messages);
+        final ServiceMessageList actual = list.without("code1");
+        assertEquals(50, actual.size());
+        assertEquals(17, actual.count(ServiceMessageType.ERROR));
+        assertTrue(actual.stream().allMatch(x -> "code0".equals(x.getCode())));
+        assertSame(list, list.without("other"));
+        assertTrue(actual.without("code0").isEmpty());
+        assertEquals(100, list.size());
+    }
+
+    @Test
+    void plusConcurrent() throws InterruptedException {
+        final ServiceMessageList base = ServiceMessageList.empty().plus(message(0));
+        final int threads = 8;
+        final ServiceMessageList[] results = new ServiceMessageList[threads];
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            final int id = t;
+            final Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                ServiceMessageList list = base;
+                for (int i = 0; i < 100; i++) {
+                    list = list.plus(ServiceMessage.of(ServiceMessageType.INFO, id + ":" + i));
+                }
+                results[id] = list;
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        start.countDown();
+        for (final Thread worker : workers) {
+            worker.join();
+        }
+        for (int t = 0; t < threads; t++) {
+            assertEquals(101, results[t].size());
+            for (int i = 0; i < 100; i++) {
+                assertEquals(t + ":" + i, results[t].get(i + 1).getMessage());
+            }
+        }
+    }
+}
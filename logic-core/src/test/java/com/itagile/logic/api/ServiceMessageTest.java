@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.itagile.logic.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ServiceMessage tests.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+class ServiceMessageTest {
+
+    @Test
+    void serializeUnset() throws Exception {
+        final ServiceMessage message = ServiceMessage.of(ServiceMessageType.ERROR, "Error 1");
+        assertEquals("{\"type\":\"ERROR\",\"message\":\"Error 1\",\"code\":null}",
+                new ObjectMapper().writeValueAsString(message));
+    }
+
+    @Test
+    void serializeSet() throws Exception {
+        final ServiceMessage message = ServiceMessage.of(ServiceMessageType.WARN, "Warning 1", "W1");
+        message.setCount(2);
+        message.setSampleIndices(new ArrayList<>(Arrays.asList(0, 3)));
+        message.setSequence(7L);
+        message.setOrigin("node-1");
+        final ObjectMapper mapper = new ObjectMapper();
+        final String json = mapper.writeValueAsString(message);
+        assertEquals("{\"type\":\"WARN\",\"message\":\"Warning 1\",\"code\":\"W1\",\"count\":2,"
+                + "\"sampleIndices\":[0,3],\"sequence\":7,\"origin\":\"node-1\"}", json);
+        final ServiceMessage read = mapper.readValue(json, ServiceMessage.class);
+        assertEquals(Integer.valueOf(2), read.getCount());
+        assertEquals(Arrays.asList(0, 3), read.getSampleIndices());
+        assertEquals(Long.valueOf(7L), read.getSequence());
+        assertEquals("node-1", read.getOrigin());
+    }
+
+    @Test
+    void freeze() {
+        final ServiceMessage message = ServiceMessage.of(ServiceMessageType.INFO, "Info 1");
+        message.setSampleIndices(new ArrayList<>(Arrays.asList(1)));
+        assertSame(message, message.freeze());
+        assertThrows(UnsupportedOperationException.class, () -> message.setOrigin("node-1"));
+        assertThrows(UnsupportedOperationException.class, () -> message.getSampleIndices().add(2));
+    }
+
+}
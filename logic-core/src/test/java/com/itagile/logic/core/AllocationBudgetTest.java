@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import com.itagile.logic.api.AppResponse;
+import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.function.IntSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+/**
+ * Allocation budgets of the core paths, in bytes per operation measured through
+ * {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}. A budget exceeded means a change added
+ * allocations to every request, and fails the build. Budgets are about one and a half times the values measured on a
+ * 64-bit JVM with compressed references. The tests are skipped on JVMs that do not measure allocations.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+class AllocationBudgetTest {
+
+    private static final int WARMUP = 20_000;
+
+    private static final int OPERATIONS = 20_000;
+
+    private static com.sun.management.ThreadMXBean threads;
+
+    private static final AppResponse CACHED = new AppResponse(TestUtils.sampleMessages(10)).freeze();
+
+    @BeforeAll
+    static void setUp() {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    private static long bytesPerOperation(final IntSupplier operation) {
+        final long id = Thread.currentThread().getId();
+        int sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += operation.getAsInt();
+        }
+        final long start = threads.getThreadAllocatedBytes(id);
+        for (int i = 0; i < OPERATIONS; i++) {
+            sink += operation.getAsInt();
+        }
+        final long bytes = (threads.getThreadAllocatedBytes(id) - start) / OPERATIONS;
+        assertNotEquals(Integer.MIN_VALUE, sink);
+        return bytes;
+    }
+
+    private static void assertBudget(final long budget, final IntSupplier operation) {
+        final long bytes = bytesPerOperation(operation);
+        assertTrue(bytes <= budget, () -> bytes + " bytes per operation exceed the budget of " + budget);
+    }
+
+    @Test
+    void buildEmpty() {
+        assertBudget(160, () -> ResponseBuilder.of().build().getMessages().size());
+    }
+
+    @Test
+    void buildSingleMessage() {
+        assertBudget(640, () -> ResponseBuilder.of().addError("Invalid order").build().getMessages().size());
+    }
+
+    @Test
+    void format() {
+        assertBudget(1_600, () -> TextUtils.format("Invalid currency {0} for {1}", "XXX", "A-1").length());
+    }
+
+    @Test
+    void addAll() {
+        assertBudget(600, () -> {
+            final AppResponseBuilder builder = ResponseBuilder.of();
+            builder.addAllShared(CACHED);
+            builder.addAllShared(CACHED.getMessages());
+            return builder.build().getMessages().size();
+        });
+    }
+
+    @Test
+    void buildData() {
+        assertBudget(640, () -> {
+            final AppResponseDataBuilder<AppResponse> builder = ResponseBuilder.of(AppResponse::new);
+            builder.addWarning("Stale price");
+            return builder.build().getMessages().size();
+        });
+    }
+
+    @Test
+    void budgetExceeded() {
+        assertThrows(AssertionError.class, () -> assertBudget(0, () -> new ServiceMessage[1].length
+                + ServiceMessage.of(ServiceMessageType.INFO, "x").hashCode()));
+    }
+}
@@ -0,0 +1,448 @@
+/*
+ * Copyright (c) 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itagile.logic.api.AppResponse;
+import com.itagile.logic.api.ResponseDelta;
+import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageType;
+
+/**
+ * AppResponseBuilder tests.
+ *
+ * @author Javier Alcala
+ * @since 1.0.0
+ */
+class AppResponseBuilderTest {
+
+    @Test
+    void buildOk() {
+        final AppResponseBuilder bean = new AppResponseBuilder();
+        final AppResponse actual = bean.build();
+        assertTrue(actual.isOk());
+        assertThat(actual.getMessages(), is(empty()));
+        assertSame(AppResponse.empty(), actual);
+        assertSame(actual, ResponseBuilder.of().withDuplicateCollapsing(DuplicateKey.PATTERN).build());
+    }
+
+    @Test
+    void buildWithErrors() {
+        final List<ServiceMessage> expected = Arrays.asList(
+                ServiceMessage.of(ServiceMessageType.ERROR, "Error 1"),
+                ServiceMessage.of(ServiceMessageType.WARN, "Warning 1"),
+                ServiceMessage.of(ServiceMessageType.INFO, "Info 1"));
+        final AppResponseBuilder bean = new AppResponseBuilder();
+        final ResponseBuilder chainError = bean.addError(expected.get(0).getMessage());
+        assertEquals(bean, chainError);
+        final ResponseBuilder chainWarn = bean.addWarning(expected.get(1).getMessage());
+        assertEquals(bean, chainWarn);
+        final ResponseBuilder chainInfo = bean.addInfo(expected.get(2).getMessage());
+        assertEquals(bean, chainInfo);
+        final AppResponse actual = bean.build();
+        assertFalse(actual.isOk());
+        TestUtils.assertListEquals(expected, actual.getMessages());
+    }
+
+    @Test
+    void buildWithCode() {
+        final String code = "code";
+        final String message = "Error 1";
+        final List<ServiceMessage> expected = Arrays
+                .asList(ServiceMessage.of(ServiceMessageType.ERROR, message, code));
+        final AppResponseBuilder bean = new AppResponseBuilder();
+        bean.addError(message).withCode(code);
+        final AppResponse actual = bean.build();
+        assertFalse(actual.isOk());
+        TestUtils.assertListEquals(expected, actual.getMessages());
+        assertTrue(bean.hasCode(code));
+        assertFalse(bean.hasCode("other"));
+    }
+
+    @Test
+    void getMessages() {
+        final List<ServiceMessage> messages = Arrays.asList(
+                ServiceMessage.of(ServiceMessageType.ERROR, "Error 1"),
+                ServiceMessage.of(ServiceMessageType.WARN, "Warning 1"),
+                ServiceMessage.of(ServiceMessageType.INFO, "Info 1"));
+        final AppResponseBuilder bean = new AppResponseBuilder();
+        bean.addAll(messages);
+        final String expected = "Error 1,Warning 1,Info 1";
+        final String actual = bean.getMessages(",");
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void addAllShared() {
+        final ServiceMessage frozen = ServiceMessage.of(ServiceMessageType.ERROR, "error.frozen", "E1").freeze();
+        final ServiceMessage mutable = ServiceMessage.of(ServiceMessageType.WARN, "warn.mutable", "W1");
+        final List<ServiceMessage> messages = Arrays.asList(frozen, mutable);
+        final AppResponseBuilder copied = ResponseBuilder.of()
+                .withMessageProvider((type, message, args) -> ServiceMessage.of(type, "Resolved " + message));
+        copied.addAll(messages);
+        assertEquals("Resolved error.frozen,Resolved warn.mutable", copied.getMessages(","));
+        assertNull(copied.getMessages().get(0).getCode());
+        final AppResponseBuilder shared = ResponseBuilder.of().withSizeBudget(1_000);
+        shared.addAllShared(messages);
+        assertSame(frozen, shared.getMessages().get(0));
+        assertNotSame(mutable, shared.getMessages().get(1));
+        assertEquals("W1", shared.getMessages().get(1).getCode());
+        shared.withCode("W2");
+        assertEquals("W1", mutable.getCode());
+    }
+
+    @Test
+    void withMessageProvider() {
+        final String expected = "message";
+        final AppResponseBuilder bean = new AppResponseBuilder()
+                .withMessageProvider((type, message, args) -> ServiceMessage.of(type, expected));
+        bean.addError("other");
+        final List<ServiceMessage> messages = bean.getMessages();
+        final ServiceMessage message = messages.get(0);
+        assertEquals(expected, message.getMessage());
+        assertEquals(ServiceMessageType.ERROR, message.getType());
+    }
+
+    @Test
+    void withDuplicateCollapsingPattern() {
+        final AtomicInteger formatted = new AtomicInteger();
+        final AppResponseBuilder bean = new AppResponseBuilder()
+                .withMessageProvider((type, message, args) -> {
+                    formatted.incrementAndGet();
+                    return ServiceMessage.of(type, TextUtils.format(message, args));
+                })
+                .withDuplicateCollapsing(DuplicateKey.PATTERN, 2);
+        bean.addError("Invalid currency {0}", "XXX").withCode("CUR");
+        bean.addError("Invalid currency {0}", "YYY").withCode("CUR");
+        bean.addWarning("Check currency {0}", "XXX");
+        bean.addError("Invalid currency {0}", "ZZZ").withCode("CUR");
+        bean.addError("Invalid currency {0}", "XXX");
+        final AppResponse actual = bean.build();
+        assertFalse(actual.isOk());
+        final List<ServiceMessage> messages = actual.getMessages();
+        assertEquals(3, messages.size());
+        assertEquals("Invalid currency XXX", messages.get(0).getMessage());
+        assertEquals("CUR", messages.get(0).getCode());
+        assertEquals(3, messages.get(0).getCount());
+        assertEquals(Arrays.asList(0, 1), messages.get(0).getSampleIndices());
+        assertEquals(1, messages.get(1).getCount());
+        assertEquals(Arrays.asList(2), messages.get(1).getSampleIndices());
+        assertNull(messages.get(2).getCode());
+        assertEquals(1, messages.get(2).getCount());
+        assertEquals(3, formatted.get());
+    }
+
+    @Test
+    void withDuplicateCollapsingFormatted() {
+        final AppResponseBuilder bean = new AppResponseBuilder()
+                .withDuplicateCollapsing(DuplicateKey.FORMATTED);
+        bean.addInfo("Item {0}", 1);
+        bean.addInfo("Item {0}", 2);
+        bean.addInfo("Item {0}", 1);
+        assertTrue(bean.isOk());
+        final List<ServiceMessage> messages = bean.getMessages();
+        assertEquals(2, messages.size());
+        assertEquals(2, messages.get(0).getCount());
+        assertNull(messages.get(0).getSampleIndices());
+        assertEquals(1, messages.get(1).getCount());
+        assertTrue(bean.hasCode(null));
+    }
+
+    @Test
+    void withDuplicateCollapsingProviderCode() {
+        final AppResponseBuilder bean = new AppResponseBuilder()
+                .withMessageProvider((type, message, args) -> ServiceMessage.of(type, "Invalid", message))
+                .withDuplicateCollapsing(DuplicateKey.FORMATTED);
+        bean.addError("E1");
+        bean.addError("E1");
+        bean.addError("E2");
+        bean.addError("E2").withCode("E3");
+        final List<ServiceMessage> messages = bean.getMessages();
+        assertEquals(3, messages.size());
+        assertEquals("E1", messages.get(0).getCode());
+        assertEquals(2, messages.get(0).getCount());
+        assertEquals("E2", messages.get(1).getCode());
+        assertEquals(1, messages.get(1).getCount());
+        assertEquals("E3", messages.get(2).getCode());
+    }
+
+    @Test
+    void withDuplicateCollapsingAddAll() {
+        final AppResponseBuilder other = ResponseBuilder.of().withDuplicateCollapsing(DuplicateKey.PATTERN);
+        other.addError("Error {0}", 1).withCode("E1");
+        other.addError("Error {0}", 2).withCode("E1");
+        final AppResponse cached = other.build().freeze();
+        final AppResponseBuilder bean = ResponseBuilder.of().withDuplicateCollapsing(DuplicateKey.FORMATTED, 5);
+        bean.addError("Error 1").withCode("E1");
+        bean.addAllShared(cached);
+        bean.addAllShared(cached).withCode("E2");
+        final List<ServiceMessage> messages = bean.getMessages();
+        assertEquals(2, messages.size());
+        assertEquals(3, messages.get(0).getCount());
+        assertEquals(Arrays.asList(0, 1), messages.get(0).getSampleIndices());
+        assertEquals("E2", messages.get(1).getCode());
+        assertEquals(2, messages.get(1).getCount());
+        assertEquals(2, cached.getMessages().get(0).getCount());
+    }
+
+    @Test
+    void reset() {
+        final AppResponseBuilder bean = ResponseBuilder.of().withDuplicateCollapsing(DuplicateKey.PATTERN);
+        bean.addError("Error {0}", 1);
+        bean.addError("Error {0}", 2);
+        final List<ServiceMessage> previous = bean.getMessages();
+        bean.reset();
+        assertTrue(bean.isOk());
+        assertTrue(bean.getMessages().isEmpty());
+        bean.addError("Error {0}", 3);
+        final List<ServiceMessage> messages = bean.getMessages();
+        assertEquals(1, messages.size());
+        assertEquals(1, messages.get(0).getCount());
+        assertEquals("Error 3", messages.get(0).getMessage());
+        assertEquals(2, previous.get(0).getCount());
+    }
+
+    @Test
+    void withSequencing() {
+        final AppResponse shared = new AppResponse(Arrays.asList(ServiceMessage.of(ServiceMessageType.INFO, "Shared")));
+        final AppResponseBuilder bean = ResponseBuilder.of().withSequencing("node-1");
+        bean.addError("Error 1");
+        bean.addAllShared(shared);
+        bean.addWarning("Warning 1");
+        final List<ServiceMessage> messages = bean.getMessages();
+        assertEquals(Long.valueOf(0), messages.get(0).getSequence());
+        assertEquals("node-1", messages.get(0).getOrigin());
+        assertNull(messages.get(1).getSequence());
+        assertNull(messages.get(1).getOrigin());
+        assertEquals(Long.valueOf(1), messages.get(2).getSequence());
+        bean.reset();
+        bean.addInfo("Info 1");
+        assertEquals(Long.valueOf(0), bean.getMessages().get(0).getSequence());
+    }
+
+    @Test
+    void deltaSince() {
+        final AppResponseBuilder bean = ResponseBuilder.of();
+        bean.addInfo("Info 1");
+        final ResponseDelta first = bean.deltaSince(0);
+        assertEquals(1, first.getVersion());
+        assertSame(bean.getMessages(), first.getMessages());
+        bean.addError("Error 1");
+        bean.addInfo("Info 2");
+        final ResponseDelta second = bean.deltaSince(first.getVersion());
+        assertEquals(1, second.getSince());
+        assertEquals(3, second.getVersion());
+        assertEquals("Error 1,Info 2", second.getMessages(","));
+        assertFalse(second.isOk());
+        assertSame(bean.getMessages().get(1), second.getMessages().get(0));
+        final ResponseDelta merged = first.merge(second);
+        assertEquals("Info 1,Error 1,Info 2", merged.getMessages(","));
+        assertTrue(bean.deltaSince(3).getMessages().isEmpty());
+        assertEquals(0, bean.deltaSince(9).getSince());
+        bean.reset();
+        bean.addWarning("Warning 1");
+        assertEquals(5, bean.getVersion());
+        final ResponseDelta afterReset = bean.deltaSince(3);
+        assertEquals(0, afterReset.getSince());
+        assertTrue(afterReset.isOk());
+        final ResponseDelta replaced = merged.merge(afterReset);
+        assertEquals("Warning 1", replaced.getMessages(","));
+        assertEquals(4, bean.deltaSince(4).getSince());
+        assertEquals("Warning 1", bean.deltaSince(4).getMessages(","));
+    }
+
+    @Test
+    void withSizeBudget() throws Exception {
+        final AtomicInteger formatted = new AtomicInteger();
+        final AppResponseBuilder bean = new AppResponseBuilder()
+                .withMessageProvider((type, message, args) -> {
+                    formatted.incrementAndGet();
+                    return ServiceMessage.of(type, TextUtils.format(message, args));
+                })
+                .withSizeBudget(1_000);
+        for (int i = 0; i < 100; i++) {
+            bean.addError("Invalid amount in line {0}, it must be positive", i).withCode("AMOUNT");
+            bean.addInfo("Line {0} checked", i);
+        }
+        final AppResponse actual = bean.build();
+        assertThat(new ObjectMapper().writeValueAsBytes(actual).length, lessThanOrEqualTo(1_000));
+        assertFalse(actual.isOk());
+        final List<ServiceMessage> messages = actual.getMessages();
+        final ServiceMessage notice = messages.get(messages.size() - 1);
+        assertEquals(ServiceMessageType.ERROR, notice.getType());
+        assertEquals(AbstractAppResponseBuilder.TRUNCATED_CODE, notice.getCode());
+        assertEquals(200 - (messages.size() - 1) + " messages omitted to fit the response size", notice.getMessage());
+        assertEquals(messages.size(), formatted.get());
+        bean.reset();
+        bean.addInfo("Info 1");
+        assertEquals("Info 1", bean.getMessages(","));
+    }
+
+    @Test
+    void withSizeBudgetCode() throws Exception {
+        final AppResponseBuilder bean = ResponseBuilder.of().withSizeBudget(300);
+        bean.addInfo("Info 1");
+        final char[] code = new char[100];
+        Arrays.fill(code, 'C');
+        bean.addWarning("Warning 1").withCode(new String(code));
+        bean.addInfo("Info 2").withCode("I2");
+        final AppResponse actual = bean.build();
+        assertThat(new ObjectMapper().writeValueAsBytes(actual).length, lessThanOrEqualTo(300));
+        assertTrue(actual.isOk());
+        assertEquals("Info 1,2 messages omitted to fit the response size", actual.getMessages(","));
+        assertEquals(ServiceMessageType.WARN, actual.getMessages().get(1).getType());
+        assertThrows(IllegalArgumentException.class, () -> bean.withSizeBudget(100));
+    }
+
+    @Test
+    void withSizeBudgetTruncated() throws Exception {
+        final char[] text = new char[500];
+        Arrays.fill(text, 'x');
+        final AppResponse actual = ResponseBuilder.of().withSizeBudget(400).addError(new String(text)).build();
+        assertThat(new ObjectMapper().writeValueAsBytes(actual).length, lessThanOrEqualTo(400));
+        assertEquals(1, actual.getMessages().size());
+        assertTrue(actual.getMessages().get(0).getMessage().endsWith("xx..."));
+    }
+
+    @Test
+    void withSizeBudgetCollapsing() throws Exception {
+        final AppResponse shared = new AppResponse(Arrays.asList(ServiceMessage.of(ServiceMessageType.INFO, "Shared"),
+                ServiceMessage.of(ServiceMessageType.INFO, "Other"))).freeze();
+        final AppResponseBuilder bean = ResponseBuilder.of().withDuplicateCollapsing(DuplicateKey.PATTERN, 2)
+                .withSizeBudget(360);
+        for (int i = 0; i < 1_000; i++) {
+            bean.addError("Error {0}", i % 10);
+        }
+        bean.addAllShared(shared);
+        final AppResponse actual = bean.build();
+        assertThat(new ObjectMapper().writeValueAsBytes(actual).length, lessThanOrEqualTo(360));
+        final List<ServiceMessage> messages = actual.getMessages();
+        assertEquals("Error 0", messages.get(0).getMessage());
+        assertEquals(1_000, messages.get(0).getCount());
+        assertEquals("Shared,1 messages omitted to fit the response size",
+                actual.getMessages(",").substring(messages.get(0).getMessage().length() + 1));
+        final AppResponseBuilder plain = ResponseBuilder.of().withSizeBudget(250);
+        plain.addAllShared(shared);
+        plain.addAllShared(shared);
+        assertEquals("Shared,Other,2 messages omitted to fit the response size", plain.getMessages(","));
+        assertSame(shared.getMessages().get(0), plain.getMessages().get(0));
+    }
+
+    @Test
+    void rollbackTo() {
+        final AppResponseBuilder bean = ResponseBuilder.of().withSequencing("node-1");
+        bean.addInfo("Info 1").withCode("I1");
+        final List<ServiceMessage> before = bean.getMessages();
+        final long version = bean.getVersion();
+        final ResponseMark mark = bean.mark();
+        assertTrue(mark.isActive());
+        bean.withCode("I2");
+        bean.addError("Interpretation A failed").withCode("A");
+        assertFalse(bean.isOk());
+        assertTrue(bean.hasCode("A"));
+        assertSame(bean, bean.rollbackTo(mark));
+        assertFalse(mark.isActive());
+        assertTrue(bean.isOk());
+        assertFalse(bean.hasCode("A"));
+        assertTrue(bean.hasCode("I1"));
+        assertSame(before, bean.getMessages());
+        assertThat(bean.getVersion(), greaterThan(version));
+        bean.addWarning("Interpretation B");
+        assertEquals("Info 1,Interpretation B", bean.getMessages(","));
+        assertEquals(Long.valueOf(1), bean.getMessages().get(1).getSequence());
+        assertThrows(IllegalArgumentException.class, () -> bean.rollbackTo(mark));
+    }
+
+    @Test
+    void commitNested() {
+        final AppResponseBuilder bean = ResponseBuilder.of();
+        final ResponseMark outer = bean.mark();
+        bean.addError("Error 1");
+        final ResponseMark inner = bean.mark();
+        bean.addError("Error 2");
+        bean.commit(inner);
+        assertFalse(inner.isActive());
+        assertTrue(outer.isActive());
+        assertEquals("Error 1,Error 2", bean.getMessages(","));
+        final ResponseMark other = bean.mark();
+        bean.rollbackTo(outer);
+        assertFalse(other.isActive());
+        assertTrue(bean.isOk());
+        assertTrue(bean.getMessages().isEmpty());
+        final ResponseMark afterReset = bean.mark();
+        bean.reset();
+        assertFalse(afterReset.isActive());
+        assertThrows(IllegalArgumentException.class, () -> bean.commit(afterReset));
+        assertThrows(IllegalArgumentException.class, () -> ResponseBuilder.of().commit(outer));
+    }
+
+    @Test
+    void rollbackToCollapsing() {
+        final AppResponseBuilder bean = ResponseBuilder.of().withDuplicateCollapsing(DuplicateKey.PATTERN, 2);
+        bean.addError("Error {0}", 1);
+        final ResponseMark mark = bean.mark();
+        bean.addError("Error {0}", 2);
+        bean.addError("Error {0}", 3);
+        bean.addWarning("Warning {0}", 1);
+        assertEquals(3, bean.getMessages().get(0).getCount());
+        bean.rollbackTo(mark);
+        final List<ServiceMessage> messages = bean.getMessages();
+        assertEquals(1, messages.size());
+        assertEquals(1, messages.get(0).getCount());
+        assertEquals(Arrays.asList(0), messages.get(0).getSampleIndices());
+        bean.addWarning("Warning {0}", 2);
+        bean.addError("Error {0}", 4);
+        assertEquals(2, bean.getMessages().size());
+        assertEquals(2, bean.getMessages().get(0).getCount());
+        assertEquals(Arrays.asList(0, 2), bean.getMessages().get(0).getSampleIndices());
+    }
+
+    @Test
+    void testJsonSerializationOk() {
+        final AppResponseBuilder bean = new AppResponseBuilder();
+        final AppResponse expected = bean.build();
+        final String json = TestUtils.toJson(expected);
+        final AppResponse actual = TestUtils.fromJson(json, AppResponse.class);
+        assertEquals(expected.isOk(), actual.isOk());
+        TestUtils.assertListEquals(expected.getMessages(), actual.getMessages());
+    }
+
+    @Test
+    void testJsonSerializationWithMessages() {
+        final AppResponseBuilder bean = new AppResponseBuilder();
+        bean.addError("Error 1");
+        bean.addWarning("Warning 1");
+        bean.addInfo("Info 1");
+        final AppResponse expected = bean.build();
+        final String json = TestUtils.toJson(expected);
+        final AppResponse actual = TestUtils.fromJson(json, AppResponse.class);
+        assertEquals(expected.isOk(), actual.isOk());
+        TestUtils.assertListEquals(expected.getMessages(), actual.getMessages());
+    }
+
+}
\ No newline at end of file
@@ -166,6 +166,21 @@ class AppResponseDataBuilderTest {
         assertSame(bean1, bean2);
     }
 
+    @Test
+    void buildIncremental() {
+        final AppResponseDataBuilder<AppResponse> bean = getBean();
+        bean.addWarning("Warning 1");
+        final AppResponse data = bean.build();
+        final List<ServiceMessage> messages1 = data.getMessages();
+        bean.addError("Error 1");
+        assertTrue(data.isOk());
+        assertSame(data, bean.build());
+        assertFalse(data.isOk());
+        assertEquals(1, messages1.size());
+        assertEquals(2, data.getMessages().size());
+        assertSame(bean.getMessages(), data.getMessages());
+    }
+
     @Test
     void withMessageProvider() {
         final String expected = "message";
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import com.itagile.logic.api.AppResponse;
+import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AppResponseException tests.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+class AppResponseExceptionTest {
+
+    private void validate(final ResponseBuilder resp) {
+        resp.addWarning("Warning 1");
+        resp.throwIfNotOk();
+        resp.addError("Error 1").withCode("E1");
+        resp.throwIfNotOk();
+        fail("Exception expected");
+    }
+
+    @Test
+    void throwIfNotOk() {
+        final AppResponseBuilder bean = ResponseBuilder.of();
+        final AppResponseException actual = assertThrows(AppResponseException.class, () -> validate(bean));
+        assertEquals(0, actual.getStackTrace().length);
+        assertFalse(actual.getResponse().isOk());
+        assertEquals("Warning 1; Error 1", actual.getMessage());
+    }
+
+    @Test
+    void throwIfNotOkWithData() {
+        final AppResponseDataBuilder<AppResponse> bean = ResponseBuilder.of(AppResponse::new);
+        final AppResponseException actual = assertThrows(AppResponseException.class, () -> validate(bean));
+        assertSame(bean.build(), actual.getResponse());
+    }
+
+    @Test
+    void writableStackTrace() {
+        final AppResponseException actual = new AppResponseException(new AppResponse(), true);
+        assertTrue(actual.getStackTrace().length > 0);
+        assertEquals("", actual.getMessage());
+    }
+
+    @Test
+    void addAll() {
+        final AppResponseBuilder bean = ResponseBuilder.of();
+        try {
+            validate(ResponseBuilder.of());
+        } catch (final AppResponseException e) {
+            bean.addAll(e);
+        }
+        bean.addAll(new IllegalArgumentException("Internal detail"));
+        bean.addAll(new IllegalStateException(), "Service unavailable");
+        bean.addAll(new AppResponseException(null));
+        final List<ServiceMessage> messages = bean.getMessages();
+        assertEquals(5, messages.size());
+        assertEquals(ServiceMessageType.WARN, messages.get(0).getType());
+        assertEquals("Error 1", messages.get(1).getMessage());
+        assertEquals(ResponseBuilder.UNEXPECTED_ERROR_MESSAGE, messages.get(2).getMessage());
+        assertEquals(ServiceMessageType.ERROR, messages.get(2).getType());
+        assertEquals("Service unavailable", messages.get(3).getMessage());
+        assertEquals(ResponseBuilder.UNEXPECTED_ERROR_MESSAGE, messages.get(4).getMessage());
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import com.itagile.logic.api.AppResponse;
+import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageType;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ArenaResponseBuilder tests.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+class ArenaResponseBuilderTest {
+
+    @Test
+    void build() throws IOException {
+        final List<ServiceMessage> expected = TestUtils.sampleMessages(5_000);
+        final List<ServiceMessage> actual;
+        try (ArenaResponseBuilder builder = new ArenaResponseBuilder(10, 4_096)) {
+            builder.addAll(expected);
+            final AppResponse response = builder.build();
+            assertTrue(response instanceof SpilledAppResponse);
+            assertFalse(response.isOk());
+            actual = response.getMessages();
+            TestUtils.assertListEquals(expected, actual);
+            assertEquals(TestUtils.toJson(new AppResponse(expected)), TestUtils.toJson(response));
+            final ServiceMessage view = actual.get(11);
+            assertTrue(view instanceof ArenaMessage);
+            assertThrows(UnsupportedOperationException.class, () -> view.setCode("X"));
+            assertThrows(UnsupportedOperationException.class, () -> view.getSampleIndices().add(1));
+        }
+        assertThrows(IllegalStateException.class, () -> actual.get(11).getMessage());
+        assertEquals(expected.get(9).getMessage(), actual.get(9).getMessage());
+    }
+
+    @Test
+    void withCode() throws IOException {
+        try (ArenaResponseBuilder builder = ArenaResponseBuilder.of()) {
+            builder.addError("Error {0}", 1).withCode("E1");
+            builder.addInfo("Info").withCode("I2");
+            assertTrue(builder.hasCode("E1"));
+            assertTrue(builder.hasCode("I2"));
+            try (SpilledAppResponse response = (SpilledAppResponse) builder.build()) {
+                assertEquals("Error 1, Info", response.getMessages(", "));
+                assertEquals("E1", response.getMessages().get(0).getCode());
+                assertEquals("I2", response.getMessages().get(1).getCode());
+                assertEquals(ServiceMessageType.INFO, response.getMessages().get(1).getType());
+                assertNull(response.getMessages().get(1).getCount());
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> new ArenaResponseBuilder(0, 7));
+    }
+
+    @Test
+    void arena() throws IOException {
+        final MessageArena arena = new MessageArena(64);
+        final List<ServiceMessage> expected = TestUtils.sampleMessages(200);
+        expected.forEach(arena::write);
+        assertEquals(200, arena.size());
+        assertTrue(arena.getAllocated() > 100_000);
+        final MessageStore.Reader reader = arena.reader(150);
+        assertEquals(expected.get(150).getMessage(), reader.read().getMessage());
+        assertEquals(expected.get(151).getCode(), reader.read().getCode());
+        assertEquals(expected.get(100).getMessage(), arena.read(100).getMessage());
+        arena.close();
+        arena.close();
+        assertEquals(0, arena.getAllocated());
+        assertThrows(IllegalStateException.class, () -> arena.read(0));
+    }
+}
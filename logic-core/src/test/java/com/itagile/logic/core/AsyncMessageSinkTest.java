@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import com.itagile.logic.api.AppResponse;
+import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AsyncMessageSink tests.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+class AsyncMessageSinkTest {
+
+    @Test
+    void builder() {
+        final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        final List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+        final MessageListener listener = new MessageListener() {
+            @Override
+            public void messageAdded(final ServiceMessage message) {
+                threads.add(Thread.currentThread());
+                events.add(message.getType() + " " + message.getMessage() + " " + message.getCode());
+            }
+
+            @Override
+            public void codeChanged(final ServiceMessage message) {
+                events.add("code " + message.getCode());
+            }
+
+            @Override
+            public void responseBuilt(final AppResponse response) {
+                events.add("built " + response.isOk() + " " + response.getMessages().size());
+            }
+        };
+        try (AsyncMessageSink sink = AsyncMessageSink.of(listener)) {
+            final AppResponseBuilder builder = ResponseBuilder.of().withListener(sink);
+            builder.addError("Error {0}", 1).withCode("E1");
+            builder.addAllShared(AppResponse.empty().withMessage(ServiceMessage.of(null, "Shared")));
+            builder.addInfo("Info");
+            builder.build();
+        }
+        assertEquals(4, events.size());
+        assertEquals("ERROR Error 1 null", events.get(0));
+        assertEquals("code E1", events.get(1));
+        assertEquals("INFO Info null", events.get(2));
+        assertEquals("built false 3", events.get(3));
+        assertNotSame(Thread.currentThread(), threads.get(0));
+    }
+
+    @Test
+    void copies() {
+        final List<ServiceMessage> kept = Collections.synchronizedList(new ArrayList<>());
+        final ServiceMessage message = ServiceMessage.of(ServiceMessageType.WARN, "Warning", "W1");
+        message.setCount(3);
+        message.setSampleIndices(new ArrayList<>(Arrays.asList(1, 2)));
+        message.setSequence(7L);
+        message.setOrigin("node");
+        try (AsyncMessageSink sink = AsyncMessageSink.of(kept::add)) {
+            sink.messageAdded(message);
+            message.getSampleIndices().add(3);
+            message.setOrigin("other");
+            sink.messageAdded(ServiceMessage.of(ServiceMessageType.INFO, "Info"));
+        }
+        assertEquals(2, kept.size());
+        final ServiceMessage copy = kept.get(0);
+        assertNotSame(message, copy);
+        assertTrue(copy.isFrozen());
+        assertEquals(ServiceMessageType.WARN, copy.getType());
+        assertEquals("Warning", copy.getMessage());
+        assertEquals("W1", copy.getCode());
+        assertEquals(3, copy.getCount());
+        assertEquals(Arrays.asList(1, 2), copy.getSampleIndices());
+        assertEquals(7L, copy.getSequence());
+        assertEquals("node", copy.getOrigin());
+        assertEquals("Info", kept.get(1).getMessage());
+        assertNull(kept.get(1).getOrigin());
+    }
+
+    @Test
+    void concurrentBlock() throws Exception {
+        final AtomicInteger delivered = new AtomicInteger();
+        final int producers = 4;
+        final int count = 10_000;
+        final AsyncMessageSink sink = AsyncMessageSink.of(x -> delivered.incrementAndGet(), 100,
+                OverflowPolicy.BLOCK);
+        assertEquals(128, sink.getCapacity());
+        final ExecutorService executor = Executors.newFixedThreadPool(producers);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < producers; t++) {
+                futures.add(executor.submit(() -> {
+                    final AppResponseDataBuilder<AppResponse> builder = ResponseBuilder.of(AppResponse::new)
+                            .withListener(sink);
+                    for (int i = 0; i < count; i++) {
+                        builder.addWarning("Warning {0}", i);
+                    }
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            sink.close();
+        }
+        assertEquals(producers * count, delivered.get());
+        assertEquals(0, sink.getDropped());
+        assertEquals(0, sink.getPending());
+    }
+
+    @Test
+    void drop() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger delivered = new AtomicInteger();
+        final AsyncMessageSink sink = AsyncMessageSink.of(x -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            delivered.incrementAndGet();
+        }, 2, OverflowPolicy.DROP);
+        final AppResponseBuilder builder = ResponseBuilder.of().withListener(sink);
+        builder.addInfo("First");
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 10; i++) {
+            builder.addInfo("Info {0}", i);
+        }
+        assertEquals(8, sink.getDropped());
+        assertEquals(2, sink.getPending());
+        release.countDown();
+        sink.close();
+        assertEquals(3, delivered.get());
+        sink.messageAdded(ServiceMessage.of(null, "Closed"));
+        assertEquals(9, sink.getDropped());
+        assertThrows(IllegalArgumentException.class, () -> AsyncMessageSink.of(x -> { }, 0, OverflowPolicy.DROP));
+    }
+
+    @Test
+    void failed() {
+        final AsyncMessageSink sink = AsyncMessageSink.of(x -> {
+            throw new IllegalStateException(x.getMessage());
+        });
+        final AppResponseBuilder builder = ResponseBuilder.of().withListener(sink);
+        builder.addError("Error");
+        builder.addError("Other");
+        sink.close();
+        assertEquals(2, sink.getFailed());
+        assertEquals(0, sink.getDropped());
+    }
+}
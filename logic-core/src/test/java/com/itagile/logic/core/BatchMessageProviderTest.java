@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import com.itagile.logic.api.AppResponse;
+import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BatchMessageProvider tests.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+class BatchMessageProviderTest {
+
+    /**
+     * Stub of a translation service counting the lookups.
+     */
+    private static final class TranslationService implements BatchMessageProvider {
+        private final List<Set<String>> lookups = new ArrayList<>();
+
+        private CompletableFuture<Map<String, String>> pending;
+
+        @Override
+        public Map<String, String> getPatterns(final Set<String> keys) {
+            lookups.add(keys);
+            final Map<String, String> patterns = new HashMap<>();
+            keys.stream().filter(x -> x.startsWith("msg.")).forEach(x -> patterns.put(x, "Translated {0} " + x));
+            return patterns;
+        }
+
+        @Override
+        public CompletableFuture<Map<String, String>> getPatternsAsync(final Set<String> keys) {
+            pending = new CompletableFuture<>();
+            return pending.thenApply(x -> getPatterns(keys));
+        }
+    }
+
+    @Test
+    void resolveOnBuild() {
+        final TranslationService service = new TranslationService();
+        final AppResponseBuilder resp = ResponseBuilder.of().withBatchMessageProvider(service);
+        resp.addError("msg.invalid", "a").withCode("E1");
+        resp.addError("msg.invalid", "b");
+        resp.add(MessageTemplate.of(ServiceMessageType.WARN, "msg.stale", "W1"), "c");
+        resp.addInfo("Untranslated");
+        assertFalse(resp.isOk());
+        assertTrue(resp.hasCode("W1"));
+        assertTrue(service.lookups.isEmpty());
+        final AppResponse actual = resp.build();
+        assertEquals(Collections.singletonList(
+                new LinkedHashSet<>(Arrays.asList("msg.invalid", "msg.stale", "Untranslated"))),
+                service.lookups);
+        final List<ServiceMessage> messages = actual.getMessages();
+        assertEquals("Translated a msg.invalid", messages.get(0).getMessage());
+        assertEquals("E1", messages.get(0).getCode());
+        assertEquals("Translated b msg.invalid", messages.get(1).getMessage());
+        assertEquals("Translated c msg.stale", messages.get(2).getMessage());
+        assertEquals("W1", messages.get(2).getCode());
+        assertEquals("Untranslated", messages.get(3).getMessage());
+        resp.addInfo("msg.saved", "d");
+        resp.build();
+        assertEquals(2, service.lookups.size());
+        assertEquals(Collections.singleton("msg.saved"), service.lookups.get(1));
+    }
+
+    @Test
+    void notifyResolved() {
+        final TranslationService service = new TranslationService();
+        final List<String> events = new ArrayList<>();
+        final AppResponseBuilder resp = ResponseBuilder.of().withBatchMessageProvider(service)
+                .withListener(new MessageListener() {
+                    @Override
+                    public void messageAdded(final ServiceMessage message) {
+                        events.add(message.getMessage());
+                    }
+
+                    @Override
+                    public void codeChanged(final ServiceMessage message) {
+                        events.add(message.getCode());
+                    }
+                });
+        resp.addError("msg.invalid", "a").withCode("E1");
+        resp.addInfo("Untranslated");
+        assertTrue(events.isEmpty());
+        assertEquals(0, resp.getVersion());
+        assertTrue(resp.deltaSince(0).getMessages().isEmpty());
+        final ResponseMark mark = resp.mark();
+        resp.addWarning("msg.discarded", "b");
+        resp.rollbackTo(mark);
+        resp.build();
+        assertEquals(Arrays.asList("Translated a msg.invalid", "E1", "Untranslated"), events);
+        assertEquals(2, resp.deltaSince(0).getMessages().size());
+        assertEquals("Translated a msg.invalid", resp.deltaSince(0).getMessages().get(0).getMessage());
+    }
+
+    @Test
+    void buildAsync() throws Exception {
+        final TranslationService service = new TranslationService();
+        final AppResponseDataBuilder<AppResponse> resp = ResponseBuilder.of(AppResponse::new)
+                .withBatchMessageProvider(service);
+        resp.addError("msg.invalid", "a");
+        final CompletableFuture<AppResponse> future = resp.buildAsync();
+        assertFalse(future.isDone());
+        service.pending.complete(null);
+        final AppResponse actual = future.get(10, TimeUnit.SECONDS);
+        assertEquals("Translated a msg.invalid", actual.getMessages().get(0).getMessage());
+        assertEquals(1, service.lookups.size());
+        assertTrue(ResponseBuilder.of().withBatchMessageProvider(service).buildAsync().isDone());
+    }
+
+    @Test
+    void collapsing() {
+        final TranslationService service = new TranslationService();
+        final AppResponseBuilder pattern = ResponseBuilder.of().withBatchMessageProvider(service)
+                .withDuplicateCollapsing(DuplicateKey.PATTERN);
+        pattern.addError("msg.invalid", "a");
+        pattern.addError("msg.invalid", "b");
+        assertEquals(2, pattern.getMessages().get(0).getCount());
+        assertEquals("Translated a msg.invalid", pattern.getMessages().get(0).getMessage());
+        assertEquals(1, service.lookups.size());
+        final AppResponseBuilder formatted = ResponseBuilder.of().withBatchMessageProvider(service)
+                .withDuplicateCollapsing(DuplicateKey.FORMATTED);
+        formatted.addError("msg.invalid", "a");
+        formatted.addError("msg.invalid", "a");
+        formatted.addError("msg.invalid", "b");
+        assertEquals(2, formatted.getMessages().size());
+        assertEquals(2, formatted.getMessages().get(0).getCount());
+    }
+
+    @Test
+    void defaultAsync() throws Exception {
+        final BatchMessageProvider provider = keys -> Collections.singletonMap("a", "b");
+        assertEquals("b", provider.getPatternsAsync(Collections.singleton("a")).get().get("a"));
+    }
+}
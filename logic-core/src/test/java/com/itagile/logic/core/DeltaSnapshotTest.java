@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.itagile.logic.api.ResponseDelta;
+import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageList;
+import com.itagile.logic.api.ServiceMessageType;
+
+/**
+ * DeltaSnapshot tests.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+class DeltaSnapshotTest {
+
+    private static final ServiceMessageList MESSAGES = ServiceMessageList.empty()
+            .plus(ServiceMessage.of(ServiceMessageType.INFO, "First"))
+            .plus(ServiceMessage.of(ServiceMessageType.ERROR, "Second"));
+
+    @Test
+    void deltaSince() {
+        final DeltaSnapshot snapshot = DeltaSnapshot.EMPTY.with(MESSAGES);
+        assertEquals(2, snapshot.getVersion());
+        final ResponseDelta delta = snapshot.deltaSince(1);
+        assertEquals(1, delta.getSince());
+        assertEquals(2, delta.getVersion());
+        assertEquals("Second", delta.getMessages().get(0).getMessage());
+        assertFalse(delta.isOk());
+        assertEquals(2, snapshot.deltaSince(0).getMessages().size());
+        assertEquals(0, snapshot.deltaSince(2).getMessages().size());
+        assertEquals(0, snapshot.deltaSince(3).getSince());
+    }
+
+    @Test
+    void restart() {
+        final DeltaSnapshot snapshot = DeltaSnapshot.EMPTY.with(MESSAGES).restart(ServiceMessageList.empty().plus(MESSAGES.get(0)), 2);
+        assertEquals(4, snapshot.getVersion());
+        assertEquals(1, snapshot.deltaSince(3).getMessages().size());
+        final ResponseDelta stale = snapshot.deltaSince(2);
+        assertEquals(0, stale.getSince());
+        assertEquals(1, stale.getMessages().size());
+        assertTrue(stale.isOk());
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.itagile.logic.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itagile.logic.api.AppResponse;
+import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageType;
+
+/**
+ * JsonSize tests.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+class JsonSizeTest {
+
+    private static int serialized(final Object value) throws Exception {
+        return new ObjectMapper().writeValueAsBytes(value).length;
+    }
+
+    @Test
+    void emptyResponse() throws Exception {
+        final AppResponse response = new AppResponse(
+                Arrays.asList(ServiceMessage.of(ServiceMessageType.ERROR, "Error")));
+        assertEquals(serialized(response),
+                JsonSize.EMPTY_RESPONSE + JsonSize.of(response.getMessages().get(0)));
+    }
+
+    @Test
+    void message() throws Exception {
+        final ServiceMessage message = ServiceMessage.of(ServiceMessageType.WARN, "Precio \"ñ\" \\ € 😀", "W-1");
+        message.setCount(12);
+        message.setSampleIndices(new ArrayList<>(Arrays.asList(3, 45)));
+        message.setSequence(-7L);
+        message.setOrigin("node-1");
+        assertEquals(serialized(message), JsonSize.of(message));
+        final ServiceMessage empty = new ServiceMessage();
+        assertEquals(serialized(empty), JsonSize.of(empty));
+    }
+
+    @Test
+    void controlCharacters() throws Exception {
+        final ServiceMessage message = ServiceMessage.of(ServiceMessageType.INFO, "a\nb\u0001");
+        assertTrue(serialized(message) <= JsonSize.of(message));
+    }
+
+    @Test
+    void ofCollapsed() throws Exception {
+        final ServiceMessage message = ServiceMessage.of(ServiceMessageType.ERROR, "Error");
+        message.setCount(1);
+        message.setSampleIndices(new ArrayList<>(Arrays.asList(0)));
+        final int size = JsonSize.ofCollapsed(message, 3);
+        message.setCount(Integer.MAX_VALUE);
+        message.getSampleIndices().addAll(Arrays.asList(Integer.MAX_VALUE, Integer.MAX_VALUE));
+        assertTrue(serialized(message) <= size);
+    }
+
+    @Test
+    void truncate() {
+        assertEquals("abc...", JsonSize.truncate("abcdef", 8));
+        assertEquals("ab...", JsonSize.truncate("ab\"def", 8));
+        assertEquals("a...", JsonSize.truncate("a😀", 9));
+        assertEquals("a😀...", JsonSize.truncate("a😀b", 18));
+        assertNull(JsonSize.truncate("abc", 5));
+    }
+
+}
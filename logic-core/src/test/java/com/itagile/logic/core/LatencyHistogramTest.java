@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LatencyHistogram tests.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+class LatencyHistogramTest {
+
+    @Test
+    void buckets() {
+        long previous = -1;
+        for (long value = 0; value < 100_000; value++) {
+            final int bucket = LatencyHistogram.bucket(value);
+            final long highest = LatencyHistogram.highestValue(bucket);
+            assertTrue(value <= highest, () -> "value " + highest);
+            assertTrue(highest - value <= value / 8, () -> "error " + highest);
+            if (bucket > 0) {
+                assertTrue(LatencyHistogram.highestValue(bucket - 1) < value);
+            }
+            assertTrue(highest >= previous);
+            previous = highest;
+        }
+        assertTrue(LatencyHistogram.highestValue(LatencyHistogram.bucket(Long.MAX_VALUE)) > 0);
+    }
+
+    @Test
+    void percentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentile(50));
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        histogram.record(-1);
+        assertEquals(1001, histogram.getCount());
+        assertEquals(500_000, histogram.getPercentile(50), 500_000 / 8.0);
+        assertEquals(990_000, histogram.getPercentile(99), 990_000 / 8.0);
+        assertEquals(0, histogram.getPercentile(0));
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+    }
+
+    @Test
+    void concurrent() throws InterruptedException {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 4; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    histogram.record(j);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(40_000, histogram.getCount());
+    }
+}
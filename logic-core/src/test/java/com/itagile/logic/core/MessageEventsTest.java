@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import com.itagile.logic.api.AppResponse;
+import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageType;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.*;
+
+/**
+ * MessageEvents tests.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+class MessageEventsTest {
+
+    @TempDir
+    Path dir;
+
+    private static final String[] NAMES = {"com.itagile.logic.MessageAdd", "com.itagile.logic.MessageFormat",
+            "com.itagile.logic.MessageResolve", "com.itagile.logic.ResponseBuild"};
+
+    private List<RecordedEvent> record(final Runnable action) throws IOException {
+        assumeTrue(MessageEvents.isAvailable(), "Events are recorded by the Java 11 classes");
+        final Path file = dir.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            for (final String name : NAMES) {
+                recording.enable(name).withoutThreshold();
+            }
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(x -> x.getEventType().getName().startsWith("com.itagile.logic."))
+                .collect(Collectors.toList());
+    }
+
+    private static List<RecordedEvent> named(final List<RecordedEvent> events, final String name) {
+        return events.stream().filter(x -> x.getEventType().getName().equals(name)).collect(Collectors.toList());
+    }
+
+    @Test
+    void events() throws IOException {
+        final List<RecordedEvent> events = record(() -> {
+            final AppResponseBuilder resp = ResponseBuilder.of();
+            resp.addError("{0} is not valid", "value");
+            resp.add(MessageTemplate.of(ServiceMessageType.WARN, "Warning", "W1"));
+            resp.build();
+        });
+        final List<RecordedEvent> added = named(events, NAMES[0]);
+        assertEquals(2, added.size());
+        assertEquals("ERROR", added.get(0).getString("type"));
+        assertTrue(added.get(0).getBoolean("formatted"));
+        assertEquals("W1", added.get(1).getString("code"));
+        assertFalse(added.get(1).getBoolean("formatted"));
+        final List<RecordedEvent> formatted = named(events, NAMES[1]);
+        assertEquals(2, formatted.size());
+        assertEquals("{0} is not valid", formatted.get(0).getString("pattern"));
+        assertEquals(1, formatted.get(0).getInt("argumentCount"));
+        final List<RecordedEvent> built = named(events, NAMES[3]);
+        assertEquals(1, built.size());
+        assertEquals(2, built.get(0).getInt("messageCount"));
+        assertFalse(built.get(0).getBoolean("ok"));
+    }
+
+    @Test
+    void resolveEvents() throws IOException {
+        final List<RecordedEvent> events = record(() -> ResponseBuilder.of(AppResponse::new)
+                .withMessageProvider((type, message, args) -> ServiceMessage.of(type, message.toUpperCase()))
+                .addInfo("Saved {0}", 1)
+                .build());
+        final List<RecordedEvent> resolved = named(events, NAMES[2]);
+        assertEquals(1, resolved.size());
+        assertEquals("INFO", resolved.get(0).getString("type"));
+        assertEquals("Saved {0}", resolved.get(0).getString("pattern"));
+        assertTrue(named(events, NAMES[1]).isEmpty());
+        assertEquals(1, named(events, NAMES[3]).size());
+    }
+
+    @Test
+    void disabled() {
+        assertNull(MessageEvents.beginFormat());
+        MessageEvents.formatted(null, "Pattern", new Object[0]);
+        assertNotNull(ResponseBuilder.of().addInfo("Info").build());
+    }
+}
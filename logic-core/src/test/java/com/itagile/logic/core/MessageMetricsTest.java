@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import com.itagile.logic.api.AppResponse;
+import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageType;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MessageMetrics tests.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+class MessageMetricsTest {
+
+    private static void validate(final ResponseBuilder resp) {
+        resp.addError("{0} is not valid", "value").withCode("E1");
+        resp.add(MessageTemplate.of(ServiceMessageType.WARN, "Warning {0}", "W1"), 1);
+        resp.addInfo("Info");
+    }
+
+    @Test
+    void counts() {
+        final MessageMetrics metrics = MessageMetrics.of(10);
+        validate(ResponseBuilder.of().withMetrics(metrics));
+        validate(ResponseBuilder.of(AppResponse::new).withMetrics(metrics));
+        assertEquals(2, metrics.getErrorCount());
+        assertEquals(2, metrics.getWarningCount());
+        assertEquals(2, metrics.getInfoCount());
+        final Map<String, Long> codes = metrics.getCodeCounts();
+        assertEquals(2L, codes.get("E1"));
+        assertEquals(2L, codes.get("W1"));
+        assertEquals(2, codes.size());
+        assertEquals(4, metrics.getFormatCount());
+        assertEquals(0, metrics.getResolveCount());
+        assertTrue(metrics.getFormatLatencyP99() >= metrics.getFormatLatencyP50());
+        metrics.reset();
+        assertEquals(0, metrics.getErrorCount());
+        assertTrue(metrics.getCodeCounts().isEmpty());
+        assertEquals(0, metrics.getFormatLatencyP50());
+    }
+
+    @Test
+    void collapsedAndAppended() {
+        final MessageMetrics metrics = MessageMetrics.of(10);
+        final AppResponseBuilder resp = ResponseBuilder.of().withMetrics(metrics)
+                .withDuplicateCollapsing(DuplicateKey.PATTERN)
+                .withMessageProvider((type, message, args) -> ServiceMessage.of(type, message));
+        resp.addError("Error").withCode("E1");
+        resp.addError("Error").withCode("E1");
+        resp.addAllShared(ResponseBuilder.of().addError("Other").build());
+        resp.build();
+        assertEquals(2, metrics.getErrorCount());
+        assertEquals(2L, metrics.getCodeCounts().get("E1"));
+        assertEquals(1, metrics.getResolveCount());
+    }
+
+    @Test
+    void boundedCodes() {
+        final MessageMetrics metrics = MessageMetrics.of(2);
+        IntStream.range(0, 5).forEach(i -> metrics.recordCode("C" + i));
+        metrics.recordCode("C0");
+        metrics.recordCode(null);
+        final Map<String, Long> codes = metrics.getCodeCounts();
+        assertEquals(3, codes.size());
+        assertEquals(2L, codes.get("C0"));
+        assertEquals(3L, codes.get(MessageMetrics.OTHER_CODE));
+    }
+
+    @Test
+    void register() throws Exception {
+        final MessageMetrics metrics = MessageMetrics.of(10);
+        validate(ResponseBuilder.of().withMetrics(metrics));
+        final ObjectName name = metrics.register("test");
+        try {
+            assertThrows(IllegalStateException.class, () -> metrics.register("test"));
+            final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            assertEquals(1L, server.getAttribute(name, "ErrorCount"));
+            final TabularData codes = (TabularData) server.getAttribute(name, "CodeCounts");
+            final CompositeData row = codes.get(new Object[]{"E1"});
+            assertEquals(1L, row.get("value"));
+            server.invoke(name, "reset", null, null);
+            assertEquals(0L, server.getAttribute(name, "ErrorCount"));
+        } finally {
+            metrics.unregister();
+        }
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(name));
+        metrics.unregister();
+    }
+
+    @Test
+    void invalidMaximumCodes() {
+        assertThrows(IllegalArgumentException.class, () -> MessageMetrics.of(-1));
+    }
+}
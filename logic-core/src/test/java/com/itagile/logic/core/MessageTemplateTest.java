@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageType;
+import org.junit.jupiter.api.Test;
+
+import java.text.MessageFormat;
+import java.time.LocalDate;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MessageTemplate tests.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+class MessageTemplateTest {
+
+    @Test
+    void format() {
+        final String[] patterns = {"message", "Invalid currency {0}", "{1} and {0} and {1}", "Don''t '{0}' {0}",
+                "'quoted {1}' {2}", "{0,number,#.##} total", "{0} items, {1,date,yyyy}", "{3}", "}{0}"};
+        final Object[] args = {1234.567, new Date(0), "text", null};
+        for (final String pattern : patterns) {
+            final MessageTemplate template = MessageTemplate.of(ServiceMessageType.INFO, pattern);
+            assertEquals(new MessageFormat(pattern).format(args), template.format(args), pattern);
+            assertEquals(new MessageFormat(pattern).format(new Object[0]), template.format(), pattern);
+        }
+    }
+
+    @Test
+    void formatJavaTime() {
+        final MessageTemplate template = MessageTemplate.of(ServiceMessageType.INFO, "message {0}");
+        assertEquals("message 2020-12-01", template.format(LocalDate.of(2020, 12, 1)));
+    }
+
+    @Test
+    void split() {
+        final MessageTemplate simple = MessageTemplate.of(ServiceMessageType.ERROR, "Invalid {0} ''{1}''", "C1");
+        assertArrayEquals(new String[]{"Invalid ", " '", "'"}, simple.getLiterals());
+        assertArrayEquals(new int[]{0, 1}, simple.getIndices());
+        final MessageTemplate complex = MessageTemplate.of(ServiceMessageType.ERROR, "{0,number}");
+        assertNull(complex.getLiterals());
+        assertNull(complex.getIndices());
+        assertThrows(IllegalArgumentException.class, () -> MessageTemplate.of(ServiceMessageType.ERROR, "{x"));
+        assertThrows(IllegalArgumentException.class, () -> MessageTemplate.of(ServiceMessageType.ERROR, "{0}",
+                null, new String[]{""}, new int[]{0}));
+    }
+
+    @Test
+    void toMessage() {
+        final MessageTemplate template = MessageTemplate.of(ServiceMessageType.WARN, "Check {0}", "W1",
+                new String[]{"Check ", ""}, new int[]{0});
+        final ServiceMessage actual = template.toMessage("price");
+        assertEquals(ServiceMessageType.WARN, actual.getType());
+        assertEquals("Check price", actual.getMessage());
+        assertEquals("W1", actual.getCode());
+    }
+
+    @Test
+    void addToBuilder() {
+        final MessageTemplate template = MessageTemplate.of(ServiceMessageType.ERROR, "Invalid currency {0}", "CUR");
+        final AppResponseBuilder bean = ResponseBuilder.of().withDuplicateCollapsing(DuplicateKey.PATTERN);
+        bean.add(template, "XXX").add(template, "YYY");
+        assertFalse(bean.isOk());
+        assertTrue(bean.hasCode("CUR"));
+        assertEquals(1, bean.getMessages().size());
+        assertEquals(2, bean.getMessages().get(0).getCount());
+        final AppResponseBuilder provided = ResponseBuilder.of()
+                .withMessageProvider((type, message, args) -> ServiceMessage.of(type, "translated"));
+        provided.add(template, "XXX");
+        assertEquals("translated", provided.getMessages().get(0).getMessage());
+        assertEquals("CUR", provided.getMessages().get(0).getCode());
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import com.itagile.logic.api.AppResponse;
+import com.itagile.logic.api.ResponseSummary;
+import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ResponseAggregator tests.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+class ResponseAggregatorTest {
+
+    @Test
+    void merge() {
+        final AppResponseBuilder first = ResponseBuilder.of().withSequencing("a");
+        final AppResponseBuilder second = ResponseBuilder.of().withSequencing("b");
+        first.addError("Missing {0}", "x").withCode("E1");
+        first.addWarning("Slow");
+        first.addInfo("Only a");
+        second.addWarning("Slow");
+        second.addError("Missing {0}", "x").withCode("E1");
+        second.addError("Missing {0}", "y").withCode("E1");
+        second.addInfo("Only b");
+        final ResponseAggregator<AppResponse> aggregator = ResponseAggregator.of();
+        assertThrows(IllegalStateException.class, aggregator::getSummary);
+        final AppResponse merged = aggregator.add(first.build()).add(second.build()).add(AppResponse.empty()).merge();
+        final List<ServiceMessage> messages = merged.getMessages();
+        assertEquals("Missing x, Slow, Only a, Missing y, Only b", merged.getMessages(", "));
+        assertEquals("a", messages.get(0).getOrigin());
+        assertEquals("b", messages.get(1).getOrigin());
+        assertEquals("a", messages.get(2).getOrigin());
+        assertEquals("b", messages.get(3).getOrigin());
+        assertEquals(Long.valueOf(2), messages.get(3).getSequence());
+        assertFalse(merged.isOk());
+        final ResponseSummary summary = aggregator.getSummary();
+        assertFalse(summary.isOk());
+        assertEquals(2, summary.getErrorCount());
+        assertEquals(1, summary.getWarningCount());
+        assertEquals(2, summary.getInfoCount());
+    }
+
+    @Test
+    void mergeWithoutSequence() {
+        final AppResponse first = new AppResponse(Arrays.asList(
+                ServiceMessage.of(ServiceMessageType.INFO, "1"),
+                ServiceMessage.of(ServiceMessageType.INFO, "3")));
+        final AppResponse second = new AppResponse() {
+            @Override
+            public List<ServiceMessage> getMessages() {
+                return Arrays.asList(
+                        ServiceMessage.of(ServiceMessageType.INFO, "2"),
+                        ServiceMessage.of(ServiceMessageType.WARN, "4"),
+                        ServiceMessage.of(ServiceMessageType.INFO, "1"));
+            }
+        };
+        final ResponseAggregator<AppResponse> aggregator = ResponseAggregator.of(AppResponse::new)
+                .add(first).add(second);
+        final AppResponse merged = aggregator.merge();
+        assertTrue(merged.isOk());
+        assertEquals("1,2,3,4", merged.getMessages(","));
+        assertEquals(3, aggregator.getSummary().getInfoCount());
+        assertEquals(1, aggregator.getSummary().getWarningCount());
+        assertTrue(ResponseAggregator.of().merge().getMessages().isEmpty());
+    }
+}
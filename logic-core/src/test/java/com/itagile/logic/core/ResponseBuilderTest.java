@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import com.itagile.logic.api.AppResponse;
+import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ResponseBuilder tests.
+ *
+ * @author Javier Alcala
+ * @since 1.0.0
+ */
+class ResponseBuilderTest {
+
+    @Test
+    void of() {
+        assertThat(ResponseBuilder.of(), instanceOf(AppResponseBuilder.class));
+    }
+
+    private static class AppResponseMock extends AppResponse {
+    }
+
+    @Test
+    void ofWithClass() {
+        assertThat(ResponseBuilder.of(AppResponseMock.class), instanceOf(AppResponseDataBuilder.class));
+    }
+
+    @Test
+    void testWithSupplier() {
+        assertThat(ResponseBuilder.of(AppResponseMock::new), instanceOf(AppResponseDataBuilder.class));
+    }
+
+    private static AppResponse validate(final int item) {
+        final AppResponseBuilder resp = ResponseBuilder.of();
+        if (item % 7 == 0) {
+            resp.addError("Error {0}", item);
+        }
+        if (item % 5 == 0) {
+            resp.addWarning("Warning {0}", item);
+        }
+        return resp.build();
+    }
+
+    @Test
+    void toResponse() {
+        final List<ServiceMessage> expected = IntStream.range(0, 20_000).mapToObj(ResponseBuilderTest::validate)
+                .flatMap(x -> x.getMessages().stream()).collect(Collectors.toList());
+        final AppResponse actual = IntStream.range(0, 20_000).parallel().mapToObj(ResponseBuilderTest::validate)
+                .collect(ResponseBuilder.toResponse());
+        assertFalse(actual.isOk());
+        assertEquals(expected.size(), actual.getMessages().size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getMessage(), actual.getMessages().get(i).getMessage());
+        }
+    }
+
+    @Test
+    void toResponseWithSupplier() {
+        final AppResponseMock actual = IntStream.range(1, 5).mapToObj(ResponseBuilderTest::validate)
+                .collect(ResponseBuilder.toResponse(AppResponseMock::new));
+        assertTrue(actual.isOk());
+        assertTrue(actual.getMessages().isEmpty());
+        final AppResponse single = IntStream.range(0, 1).mapToObj(ResponseBuilderTest::validate)
+                .collect(ResponseBuilder.toResponse());
+        assertEquals("Error 0,Warning 0", single.getMessages(","));
+    }
+
+    /**
+     * Builder implementing only the methods of version 1.0.0.
+     */
+    private static final class LegacyBuilder implements ResponseBuilder {
+        private final List<ServiceMessage> messages = new ArrayList<>();
+
+        @Override
+        public boolean isOk() {
+            return messages.stream().noneMatch(x -> x.getType() == ServiceMessageType.ERROR);
+        }
+
+        @Override
+        public List<ServiceMessage> getMessages() {
+            return messages;
+        }
+
+        private ResponseBuilder add(final ServiceMessageType type, final String message, final Object... args) {
+            messages.add(ServiceMessage.of(type, args.length == 0 ? message : TextUtils.format(message, args)));
+            return this;
+        }
+
+        @Override
+        public ResponseBuilder addError(final String message) {
+            return add(ServiceMessageType.ERROR, message);
+        }
+
+        @Override
+        public ResponseBuilder addError(final String message, final Object... args) {
+            return add(ServiceMessageType.ERROR, message, args);
+        }
+
+        @Override
+        public ResponseBuilder addWarning(final String message) {
+            return add(ServiceMessageType.WARN, message);
+        }
+
+        @Override
+        public ResponseBuilder addWarning(final String message, final Object... args) {
+            return add(ServiceMessageType.WARN, message, args);
+        }
+
+        @Override
+        public ResponseBuilder addInfo(final String message) {
+            return add(ServiceMessageType.INFO, message);
+        }
+
+        @Override
+        public ResponseBuilder addInfo(final String message, final Object... args) {
+            return add(ServiceMessageType.INFO, message, args);
+        }
+
+        @Override
+        public ResponseBuilder addAll(final AppResponse response) {
+            return addAll(response.getMessages());
+        }
+
+        @Override
+        public ResponseBuilder addAll(final Collection<ServiceMessage> other) {
+            messages.addAll(other);
+            return this;
+        }
+
+        @Override
+        public ResponseBuilder withCode(final String code) {
+            messages.get(messages.size() - 1).setCode(code);
+            return this;
+        }
+
+        @Override
+        public boolean hasCode(final String code) {
+            return messages.stream().anyMatch(x -> code.equals(x.getCode()));
+        }
+    }
+
+    @Test
+    void defaultMethods() {
+        final ResponseBuilder resp = new LegacyBuilder();
+        resp.add(MessageTemplate.of(ServiceMessageType.WARN, "Warning {0}", "W1"), 1);
+        resp.add(MessageTemplate.of(ServiceMessageType.ERROR, "Error {0}"), 2);
+        resp.add(MessageTemplate.of(ServiceMessageType.INFO, "Info"));
+        assertTrue(resp.hasCode("W1"));
+        final AppResponse actual = resp.build();
+        assertFalse(actual.isOk());
+        assertEquals("Warning 1,Error 2,Info", actual.getMessages(","));
+        assertEquals(ServiceMessageType.WARN, actual.getMessages().get(0).getType());
+        assertNull(actual.getMessages().get(1).getCode());
+        assertThrows(AppResponseException.class, resp::throwIfNotOk);
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import com.itagile.logic.api.AppResponse;
+import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ResponseCache tests.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+class ResponseCacheTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private AppResponse validate(final String value) {
+        loads.incrementAndGet();
+        final AppResponseBuilder resp = ResponseBuilder.of();
+        resp.addError("{0} is not valid", value).withCode("E1");
+        resp.addWarning("Warning {0}", value);
+        return resp.build();
+    }
+
+    @Test
+    void get() {
+        final ResponseCache<String, AppResponse> cache = ResponseCache.of(this::validate, 10, Duration.ofMinutes(1));
+        final AppResponse actual = cache.get("a");
+        assertSame(actual, cache.get("a"));
+        assertNotSame(actual, cache.get("b"));
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(2, cache.size());
+        assertEquals("a is not valid", actual.getMessages().get(0).getMessage());
+    }
+
+    @Test
+    void frozen() {
+        final ResponseCache<String, AppResponse> cache = ResponseCache.of(this::validate, 10, Duration.ofMinutes(1));
+        final AppResponse actual = cache.get("a");
+        final List<ServiceMessage> empty = Collections.emptyList();
+        assertThrows(UnsupportedOperationException.class, () -> actual.setMessages(empty));
+        final ServiceMessage message = actual.getMessages().get(0);
+        assertThrows(UnsupportedOperationException.class, () -> message.setCode("E2"));
+        assertEquals("E1", message.getCode());
+        final AppResponse copy = actual.withMessage(ServiceMessage.of(ServiceMessageType.INFO, "Info"));
+        copy.setMessages(empty);
+        assertEquals(2, actual.getMessages().size());
+    }
+
+    @Test
+    void addAll() {
+        final ResponseCache<String, AppResponse> cache = ResponseCache.of(this::validate, 10, Duration.ofMinutes(1));
+        final AppResponse cached = cache.get("a");
+        final AppResponseBuilder resp = ResponseBuilder.of();
+        resp.addAllShared(cached);
+        assertSame(cached.getMessages(), resp.getMessages());
+        resp.withCode("W1");
+        resp.addInfo("Info");
+        assertSame(cached.getMessages().get(0), resp.getMessages().get(0));
+        assertEquals("W1", resp.getMessages().get(1).getCode());
+        assertNull(cached.getMessages().get(1).getCode());
+        assertEquals(2, cached.getMessages().size());
+        assertEquals(3, resp.getMessages().size());
+    }
+
+    @Test
+    void evictLeastRecentlyUsed() {
+        final ResponseCache<String, AppResponse> cache = ResponseCache.of(this::validate, 2, Duration.ofMinutes(1));
+        final AppResponse a = cache.get("a");
+        cache.get("b");
+        cache.get("a");
+        cache.get("c");
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictionCount());
+        assertSame(a, cache.get("a"));
+        cache.get("b");
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void evictLoadedOnly() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ResponseCache<String, AppResponse> cache = ResponseCache.of(value -> {
+            if ("a".equals(value)) {
+                started.countDown();
+                try {
+                    assertTrue(release.await(10, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return validate(value);
+        }, 1, Duration.ofMinutes(1));
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final Future<AppResponse> first = executor.submit(() -> cache.get("a"));
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            cache.get("b");
+            cache.get("c");
+            assertEquals(2, cache.size());
+            assertEquals(1, cache.getEvictionCount());
+            final Future<AppResponse> second = executor.submit(() -> cache.get("a"));
+            while (cache.getHitCount() < 1) {
+                Thread.yield();
+            }
+            release.countDown();
+            assertSame(first.get(10, TimeUnit.SECONDS), second.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(3, loads.get());
+        assertEquals(1, cache.size());
+        assertEquals(2, cache.getEvictionCount());
+        cache.get("a");
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void segments() {
+        final ResponseCache<String, AppResponse> cache = ResponseCache.of(this::validate, 1024,
+                Duration.ofMinutes(1));
+        for (int i = 0; i < 2000; i++) {
+            cache.get("key" + i);
+        }
+        assertTrue(cache.size() <= 1024);
+        assertEquals(2000 - cache.size(), cache.getEvictionCount());
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void expire() {
+        final AtomicLong now = new AtomicLong();
+        final ResponseCache<String, AppResponse> cache = ResponseCache.of(this::validate, 10, Duration.ofSeconds(1),
+                now::get);
+        final AppResponse a = cache.get("a");
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+        assertSame(a, cache.get("a"));
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        assertNotSame(a, cache.get("a"));
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    void invalidate() {
+        final ResponseCache<String, AppResponse> cache = ResponseCache.of(this::validate, 10, Duration.ofMinutes(1));
+        cache.get("a");
+        cache.get("b");
+        cache.invalidate("a");
+        assertEquals(1, cache.size());
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void loadOnce() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ResponseCache<String, AppResponse> cache = ResponseCache.of(value -> {
+            started.countDown();
+            try {
+                assertTrue(release.await(10, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return validate(value);
+        }, 10, Duration.ofMinutes(1));
+        final int threads = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<AppResponse>> results = new ArrayList<>();
+            results.add(executor.submit(() -> cache.get("a")));
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            for (int i = 1; i < threads; i++) {
+                results.add(executor.submit(() -> cache.get("a")));
+            }
+            while (cache.getHitCount() < threads - 1) {
+                Thread.yield();
+            }
+            release.countDown();
+            final AppResponse expected = results.get(0).get(10, TimeUnit.SECONDS);
+            for (final Future<AppResponse> result : results) {
+                assertSame(expected, result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    void loaderFails() {
+        final ResponseCache<String, AppResponse> cache = ResponseCache.of(value -> {
+            if (loads.incrementAndGet() == 1) {
+                throw new IllegalStateException("Unavailable");
+            }
+            return new AppResponse();
+        }, 10, Duration.ofMinutes(1));
+        assertThrows(IllegalStateException.class, () -> cache.get("a"));
+        assertEquals(0, cache.size());
+        assertTrue(cache.get("a").isOk());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void invalidArguments() {
+        final Duration ttl = Duration.ofMinutes(1);
+        assertThrows(IllegalArgumentException.class, () -> ResponseCache.of(this::validate, 0, ttl));
+        assertThrows(IllegalArgumentException.class, () -> ResponseCache.of(this::validate, 1, Duration.ZERO));
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import com.itagile.logic.api.AppResponse;
+import com.itagile.logic.api.ServiceMessage;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ResponseComposer tests.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+class ResponseComposerTest {
+
+    private static AppResponse response(final String message, final boolean error) {
+        final AppResponseBuilder resp = ResponseBuilder.of();
+        if (error) {
+            resp.addError(message);
+        } else {
+            resp.addInfo(message);
+        }
+        return resp.build();
+    }
+
+    private static List<String> texts(final AppResponse response) {
+        return response.getMessages().stream().map(ServiceMessage::getMessage).collect(Collectors.toList());
+    }
+
+    @Test
+    void mergeAsCompleted() throws Exception {
+        final CompletableFuture<AppResponse> first = new CompletableFuture<>();
+        final CompletableFuture<AppResponse> second = new CompletableFuture<>();
+        final CompletableFuture<AppResponse> composed = ResponseComposer.of(AppResponse::new)
+                .add("first", first)
+                .add("second", second)
+                .add("third", () -> response("Third", false))
+                .compose();
+        second.complete(response("Second", false));
+        assertFalse(composed.isDone());
+        first.complete(response("First", true));
+        final AppResponse actual = composed.get(10, TimeUnit.SECONDS);
+        assertFalse(actual.isOk());
+        assertEquals(3, actual.getMessages().size());
+        assertTrue(texts(actual).indexOf("Second") < texts(actual).indexOf("First"));
+    }
+
+    @Test
+    void failures() throws Exception {
+        final CompletableFuture<AppResponse> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException("Unavailable"));
+        final AppResponse actual = ResponseComposer.of(AppResponse::new)
+                .add("failed", failed)
+                .add("thrown", () -> {
+                    throw new AppResponseException(response("Rejected", true));
+                })
+                .withErrorMessage("Service unavailable")
+                .compose().get(10, TimeUnit.SECONDS);
+        assertFalse(actual.isOk());
+        assertTrue(texts(actual).containsAll(Arrays.asList("Service unavailable", "Rejected")));
+        assertFalse(texts(actual).contains("Unavailable"));
+    }
+
+    @Test
+    void timeout() throws Exception {
+        final CompletableFuture<AppResponse> slow = new CompletableFuture<>();
+        final AppResponse actual = ResponseComposer.of(AppResponse::new)
+                .withTimeout(Duration.ofMillis(50))
+                .add("slow", slow)
+                .add("fast", CompletableFuture.completedFuture(response("Fast", false)), null)
+                .compose().get(10, TimeUnit.SECONDS);
+        assertFalse(actual.isOk());
+        assertEquals(2, actual.getMessages().size());
+        assertTrue(texts(actual).containsAll(Arrays.asList("Fast", "slow timed out after 50 ms")));
+        assertTrue(slow.isCancelled());
+    }
+
+    @Test
+    void timeoutFromAdd() throws Exception {
+        final CompletableFuture<AppResponse> slow = new CompletableFuture<>();
+        final CompletableFuture<AppResponse> pending = new CompletableFuture<>();
+        final ResponseComposer<AppResponse> composer = ResponseComposer.of(AppResponse::new)
+                .add("slow", slow, Duration.ofMillis(20))
+                .add("pending", pending);
+        while (!slow.isCancelled()) {
+            Thread.sleep(1);
+        }
+        final CompletableFuture<AppResponse> composed = composer.compose();
+        assertFalse(composed.isDone());
+        pending.complete(response("Pending", false));
+        assertEquals("slow timed out after 20 ms; Pending", composed.get(10, TimeUnit.SECONDS).getMessages("; "));
+        final CompletableFuture<AppResponse> other = new CompletableFuture<>();
+        final ResponseComposer<AppResponse> cancelling = ResponseComposer.of(AppResponse::new)
+                .withCancelOnError()
+                .add("slow", new CompletableFuture<>(), Duration.ofMillis(20))
+                .add("other", other);
+        Thread.sleep(100);
+        assertEquals("slow timed out after 20 ms",
+                cancelling.compose().get(10, TimeUnit.SECONDS).getMessages("; "));
+        assertTrue(other.isCancelled());
+    }
+
+    @Test
+    void cancelOnError() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            final CompletableFuture<AppResponse> pending = new CompletableFuture<>();
+            final CompletableFuture<AppResponse> failing = new CompletableFuture<>();
+            final CompletableFuture<AppResponse> composed = ResponseComposer.of(AppResponse::new)
+                    .withExecutor(executor)
+                    .withCancelOnError()
+                    .add("pending", pending)
+                    .add("blocked", () -> {
+                        started.countDown();
+                        try {
+                            Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                        } catch (InterruptedException e) {
+                            interrupted.countDown();
+                        }
+                        return response("Late", false);
+                    })
+                    .add("failing", failing)
+                    .compose();
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            failing.complete(response("Error", true));
+            final AppResponse actual = composed.get(10, TimeUnit.SECONDS);
+            assertEquals("Error", actual.getMessages("; "));
+            assertTrue(pending.isCancelled());
+            assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void cancelComposed() {
+        final CompletableFuture<AppResponse> pending = new CompletableFuture<>();
+        final CompletableFuture<AppResponse> composed = ResponseComposer.of(AppResponse::new)
+                .add("pending", pending)
+                .compose();
+        composed.cancel(true);
+        assertTrue(pending.isCancelled());
+    }
+
+    @Test
+    void composeOnce() throws Exception {
+        final ResponseComposer<AppResponse> composer = ResponseComposer.of(AppResponse::new);
+        assertTrue(composer.compose().get().isOk());
+        assertThrows(IllegalStateException.class, composer::compose);
+        final CompletableFuture<AppResponse> call = new CompletableFuture<>();
+        assertThrows(IllegalStateException.class, () -> composer.add("late", call));
+    }
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import com.itagile.logic.api.AppResponse;
+import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ResponseJournal tests.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+class ResponseJournalTest {
+
+    @TempDir
+    Path dir;
+
+    private static AppResponse response(final int i) {
+        return new AppResponse(Arrays.asList(
+                ServiceMessage.of(ServiceMessageType.ERROR, "Error " + i + " €", "E" + i % 10),
+                ServiceMessage.of(ServiceMessageType.WARN, "Warning " + i)));
+    }
+
+    private static List<JournalRecord> records(final ResponseJournal journal) {
+        return StreamSupport.stream(journal.spliterator(), false).collect(Collectors.toList());
+    }
+
+    private static long segments(final Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    void append() throws IOException {
+        final long start = System.currentTimeMillis();
+        try (ResponseJournal journal = ResponseJournal.open(dir)) {
+            journal.append(response(1));
+            journal.append(AppResponse.empty());
+            final List<JournalRecord> records = records(journal);
+            assertEquals(2, records.size());
+            final JournalRecord record = records.get(0);
+            assertFalse(record.isOk());
+            assertEquals(2, record.getMessageCount());
+            assertTrue(record.getTimestamp() >= start);
+            assertTrue(record.hasType(ServiceMessageType.WARN));
+            assertFalse(record.hasType(ServiceMessageType.INFO));
+            assertTrue(record.hasCode("E1"));
+            assertTrue(record.hasCode(null));
+            assertFalse(record.hasCode("E"));
+            assertFalse(record.hasCode("E10"));
+            TestUtils.assertListEquals(response(1).getMessages(), record.toResponse().getMessages());
+            assertTrue(records.get(1).isOk());
+            assertEquals(0, records.get(1).getMessageCount());
+            assertFalse(records.get(1).hasCode(null));
+            journal.force();
+            final Iterator<JournalRecord> iterator = journal.iterator();
+            iterator.next();
+            iterator.next();
+            assertThrows(NoSuchElementException.class, iterator::next);
+            final Iterator<JournalRecord> open = journal.iterator();
+            open.next();
+            journal.close();
+            assertThrows(IllegalStateException.class, open::next);
+            assertThrows(IllegalStateException.class, record::isOk);
+            assertThrows(IllegalStateException.class, () -> record.hasCode("E1"));
+            assertThrows(IllegalStateException.class, record::toResponse);
+            assertThrows(IllegalStateException.class, () -> journal.append(response(2)));
+        }
+        assertEquals(1, segments(dir));
+    }
+
+    @Test
+    void concurrentAppend() throws Exception {
+        final int threads = 4;
+        final int count = 2_000;
+        try (ResponseJournal journal = ResponseJournal.open(dir, 8_192)) {
+            final ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                final List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < threads; t++) {
+                    final int first = t * count;
+                    futures.add(executor.submit(() -> {
+                        for (int i = first; i < first + count; i++) {
+                            journal.append(response(i));
+                        }
+                    }));
+                }
+                for (final Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdown();
+            }
+            final List<JournalRecord> records = records(journal);
+            assertEquals(threads * count, records.size());
+            assertEquals(threads * count / 10, records.stream().filter(x -> x.hasCode("E3")).count());
+            final List<String> messages = records.stream()
+                    .map(x -> x.toResponse().getMessages().get(1).getMessage())
+                    .sorted().collect(Collectors.toList());
+            assertEquals(threads * count, messages.stream().distinct().count());
+        }
+        assertTrue(segments(dir) > 1);
+    }
+
+    @Test
+    void reopen() throws IOException {
+        try (ResponseJournal journal = ResponseJournal.open(dir, 1_024)) {
+            for (int i = 0; i < 30; i++) {
+                journal.append(response(i));
+            }
+        }
+        final long files = segments(dir);
+        assertTrue(files > 1);
+        try (ResponseJournal journal = ResponseJournal.open(dir, 1_024)) {
+            assertEquals(30, records(journal).size());
+            for (int i = 30; i < 40; i++) {
+                journal.append(response(i));
+            }
+            final List<JournalRecord> records = records(journal);
+            assertEquals(40, records.size());
+            for (int i = 0; i < 40; i++) {
+                assertEquals("Warning " + i, records.get(i).toResponse().getMessages().get(1).getMessage());
+            }
+        }
+        assertTrue(segments(dir) >= files);
+    }
+
+    @Test
+    void recoverIncomplete() throws IOException {
+        try (ResponseJournal journal = ResponseJournal.open(dir, 8_192)) {
+            for (int i = 0; i < 4; i++) {
+                journal.append(response(i));
+            }
+        }
+        final Path file;
+        try (Stream<Path> files = Files.list(dir)) {
+            file = files.findFirst().orElseThrow(IllegalStateException::new);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            final int first = buffer.getInt(0);
+            assertEquals(0, first % Integer.BYTES);
+            for (int i = 0; i < first; i++) {
+                buffer.put(i, (byte) 0);
+            }
+            final int second = buffer.getInt(first);
+            buffer.putInt(first, -second);
+            DirectBuffers.free(buffer);
+        }
+        for (int reopen = 0; reopen < 2; reopen++) {
+            try (ResponseJournal journal = ResponseJournal.open(dir, 8_192)) {
+                final List<JournalRecord> records = records(journal);
+                assertEquals(2 + reopen, records.size());
+                assertEquals("Warning 2", records.get(0).toResponse().getMessages().get(1).getMessage());
+                assertEquals("Warning 3", records.get(1).toResponse().getMessages().get(1).getMessage());
+                journal.append(response(4 + reopen));
+                assertEquals(3 + reopen, records(journal).size());
+            }
+        }
+    }
+
+    @Test
+    void recordTooLarge() throws IOException {
+        final char[] large = new char[2_000];
+        Arrays.fill(large, 'x');
+        try (ResponseJournal journal = ResponseJournal.open(dir, 1_024)) {
+            final AppResponse response = new AppResponse(Arrays.asList(
+                    ServiceMessage.of(ServiceMessageType.ERROR, new String(large))));
+            assertThrows(IllegalArgumentException.class, () -> journal.append(response));
+            journal.append(response(1));
+            assertEquals(1, records(journal).size());
+        }
+        assertThrows(IllegalArgumentException.class, () -> ResponseJournal.open(dir, 8));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * RuleChain tests.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+class RuleChainTest {
+
+    private final AtomicLong time = new AtomicLong();
+
+    private final AtomicInteger expensiveRuns = new AtomicInteger();
+
+    private RuleChain<Integer> chain() {
+        return RuleChain.<Integer>of()
+                .withTicker(time::get)
+                .add("expensive", (item, builder) -> {
+                    expensiveRuns.incrementAndGet();
+                    time.addAndGet(100);
+                })
+                .add("cheap", (item, builder) -> {
+                    time.addAndGet(1);
+                    if (item % 2 == 0) {
+                        builder.addError("Even {0}", item);
+                    }
+                })
+                .add("never", (item, builder) -> time.addAndGet(1))
+                .barrier()
+                .add("last", (item, builder) -> {
+                    time.addAndGet(1);
+                    builder.addError("Always");
+                });
+    }
+
+    @Test
+    void reorder() {
+        final RuleChain<Integer> chain = chain().withReorderPeriod(null);
+        assertEquals(Arrays.asList("expensive", "cheap", "never", "last"), chain.getOrder());
+        for (int i = 0; i < 10; i++) {
+            assertFalse(chain.validate(i, ResponseBuilder.of()));
+        }
+        assertEquals(10, expensiveRuns.get());
+        assertEquals(Arrays.asList("expensive", "cheap", "never", "last"), chain.getOrder());
+        chain.reorder();
+        assertEquals(Arrays.asList("cheap", "never", "expensive", "last"), chain.getOrder());
+        final AppResponseBuilder builder = ResponseBuilder.of();
+        assertFalse(chain.validate(2, builder));
+        assertEquals("Even 2", builder.getMessages(","));
+        assertEquals(10, expensiveRuns.get());
+        assertFalse(chain.validate(3, builder));
+        assertEquals(10, expensiveRuns.get());
+    }
+
+    @Test
+    void reorderPeriodically() {
+        final RuleChain<Integer> chain = chain().withReorderPeriod(Duration.ofNanos(1_000));
+        for (int i = 0; i < 5; i++) {
+            chain.validate(i, ResponseBuilder.of());
+        }
+        assertEquals("expensive", chain.getOrder().get(0));
+        for (int i = 5; i < 10; i++) {
+            chain.validate(i, ResponseBuilder.of());
+        }
+        assertEquals(Arrays.asList("cheap", "never", "expensive", "last"), chain.getOrder());
+    }
+
+    @Test
+    void pipeline() {
+        final PipelineResult result = ValidationPipeline.of(chain())
+                .run(Arrays.asList(1, 2, 3).iterator(), (index, messages) -> { });
+        assertEquals(3, result.getFailedItemCount());
+    }
+}
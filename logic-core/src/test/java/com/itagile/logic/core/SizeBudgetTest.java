@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageType;
+
+/**
+ * SizeBudget tests.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+class SizeBudgetTest {
+
+    private static final int MESSAGE_SIZE = JsonSize.of(ServiceMessage.of(ServiceMessageType.INFO, "0123456789"));
+
+    private final SizeBudget budget = new SizeBudget(SizeBudget.RESERVED + 2 * (MESSAGE_SIZE + 1), JsonSize::of);
+
+    private static ServiceMessage message(final ServiceMessageType type) {
+        return ServiceMessage.of(type, "0123456789");
+    }
+
+    @Test
+    void fits() {
+        assertTrue(budget.fits(message(ServiceMessageType.INFO), false));
+        assertTrue(budget.fits(message(ServiceMessageType.INFO), false));
+        assertFalse(budget.isExhausted());
+        assertNull(budget.notice());
+        assertFalse(budget.fits(message(ServiceMessageType.ERROR), true));
+        assertTrue(budget.isExhausted());
+        assertTrue(budget.isLastOmitted());
+        assertFalse(budget.fits(message(ServiceMessageType.INFO), false));
+        final ServiceMessage notice = budget.notice();
+        assertEquals(ServiceMessageType.ERROR, notice.getType());
+        assertEquals("2 messages omitted to fit the response size", notice.getMessage());
+        assertEquals(AbstractAppResponseBuilder.TRUNCATED_CODE, notice.getCode());
+        assertNull(budget.notice());
+        assertEquals(2, budget.noticeIndex(2));
+        assertEquals(2, budget.noticeIndex(3));
+    }
+
+    @Test
+    void truncate() {
+        assertTrue(budget.fits(message(ServiceMessageType.INFO), false));
+        final ServiceMessage longer = ServiceMessage.of(ServiceMessageType.WARN, "01234567890123456789");
+        assertTrue(budget.fits(longer, false));
+        assertTrue(budget.isExhausted());
+        assertFalse(budget.isLastOmitted());
+        assertTrue(longer.getMessage().length() < 20);
+    }
+
+    @Test
+    void codeFits() {
+        final ServiceMessage first = message(ServiceMessageType.INFO);
+        assertTrue(budget.fits(first, false));
+        assertTrue(budget.fits(message(ServiceMessageType.INFO), false));
+        assertTrue(budget.codeFits(0, first, "C1"));
+        assertFalse(budget.codeFits(1, first, "C12345"));
+        assertTrue(budget.isExhausted());
+        assertEquals(1, budget.noticeIndex(2));
+        assertEquals(ServiceMessageType.WARN, budget.notice().getType());
+    }
+
+    @Test
+    void restore() {
+        final SizeBudget saved = budget.copy();
+        budget.fits(message(ServiceMessageType.INFO), false);
+        budget.fits(message(ServiceMessageType.INFO), false);
+        budget.fits(message(ServiceMessageType.ERROR), false);
+        budget.restore(saved);
+        assertFalse(budget.isExhausted());
+        assertNull(budget.notice());
+        assertTrue(budget.fits(message(ServiceMessageType.INFO), false));
+        budget.omit(ServiceMessageType.INFO);
+        budget.reset();
+        assertFalse(budget.isLastOmitted());
+        assertNull(budget.notice());
+        assertEquals(0, budget.noticeIndex(0));
+    }
+
+    @Test
+    void invalidLimit() {
+        assertThrows(IllegalArgumentException.class, () -> new SizeBudget(SizeBudget.RESERVED - 1, JsonSize::of));
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import com.itagile.logic.api.AppResponse;
+import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SpillingResponseBuilder tests.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+class SpillingResponseBuilderTest {
+
+    @TempDir
+    Path dir;
+
+    private long files() throws IOException {
+        try (Stream<Path> list = Files.list(dir)) {
+            return list.count();
+        }
+    }
+
+    @Test
+    void inMemory() throws IOException {
+        try (SpillingResponseBuilder builder = new SpillingResponseBuilder(2, dir)) {
+            builder.addError("Error {0}", 1).withCode("E1");
+            builder.addWarning("Warning");
+            builder.addInfo("Info").withCode("I1");
+            final AppResponse response = builder.build();
+            assertFalse(response instanceof SpilledAppResponse);
+            assertSame(response, builder.build());
+            assertFalse(response.isOk());
+            assertEquals("Error 1, Warning, Info", response.getMessages(", "));
+            assertEquals("I1", response.getMessages().get(2).getCode());
+            assertEquals(0, files());
+        }
+        assertSame(AppResponse.empty(), SpillingResponseBuilder.of(0).build());
+    }
+
+    @Test
+    void spill() throws IOException {
+        final List<ServiceMessage> expected = TestUtils.sampleMessages(5_000);
+        final SpillingResponseBuilder builder = new SpillingResponseBuilder(100, dir);
+        builder.addAll(expected);
+        final AppResponse response = builder.build();
+        assertTrue(response instanceof SpilledAppResponse);
+        assertFalse(response.isOk());
+        assertThrows(IllegalStateException.class, () -> builder.addInfo("Late"));
+        final List<ServiceMessage> actual = response.getMessages();
+        try (SpilledAppResponse spilled = (SpilledAppResponse) response) {
+            TestUtils.assertListEquals(expected, actual);
+            final Iterator<ServiceMessage> iterator = actual.iterator();
+            for (final ServiceMessage message : expected) {
+                assertEquals(message.getMessage(), iterator.next().getMessage());
+            }
+            assertFalse(iterator.hasNext());
+            assertSame(expected.get(99), actual.get(99));
+            assertThrows(UnsupportedOperationException.class, () -> actual.get(100).setCode("X"));
+            assertThrows(IndexOutOfBoundsException.class, () -> actual.get(5_000));
+            assertThrows(UnsupportedOperationException.class, () -> spilled.setMessages(Collections.emptyList()));
+            assertEquals(TestUtils.toJson(new AppResponse(expected)), TestUtils.toJson(spilled));
+            final AppResponse copy = spilled.without("C0");
+            assertEquals(4_999, copy.getMessages().size());
+            assertTrue(copy instanceof SpilledAppResponse);
+            final List<ServiceMessage> kept = new ArrayList<>(expected.subList(1, expected.size()));
+            TestUtils.assertListEquals(kept, copy.getMessages());
+            TestUtils.assertListEquals(kept, new ArrayList<>(copy.getMessages()));
+            final AppResponse fixed = copy.without("C200")
+                    .withMessage(ServiceMessage.of(ServiceMessageType.INFO, "Last"));
+            assertTrue(fixed instanceof SpilledAppResponse);
+            assertEquals(4_999, fixed.getMessages().size());
+            assertEquals(expected.get(199).getMessage(), fixed.getMessages().get(198).getMessage());
+            assertEquals(expected.get(201).getMessage(), fixed.getMessages().get(199).getMessage());
+            assertEquals(expected.get(300).getMessage(), fixed.getMessages().get(298).getMessage());
+            assertEquals("Last", fixed.getMessages().get(4_998).getMessage());
+            assertFalse(fixed.isOk());
+            assertEquals(4_999, spilled.without("C0").getMessages().size());
+        }
+        assertEquals(0, files());
+        assertEquals(expected.get(99).getMessage(), actual.get(99).getMessage());
+        assertThrows(UncheckedIOException.class, () -> actual.get(100));
+    }
+
+    @Test
+    void withCode() throws IOException {
+        final AppResponse other = ResponseBuilder.of().addWarning("Shared").withCode("W1").build().freeze();
+        try (SpillingResponseBuilder builder = new SpillingResponseBuilder(1, dir)) {
+            builder.addAll(other).withCode("W2");
+            builder.addError("Error {0}", 2).withCode("E2");
+            builder.addAll(other).withCode("W3");
+            builder.addInfo("Info").withCode("I4");
+            assertTrue(builder.hasCode("W3"));
+            assertTrue(builder.hasCode("I4"));
+            assertFalse(builder.hasCode("W1"));
+            final List<ServiceMessage> snapshot = builder.getMessages();
+            builder.addInfo("Info 5");
+            assertEquals(4, snapshot.size());
+            assertEquals(5, builder.getMessages().size());
+            try (SpilledAppResponse response = (SpilledAppResponse) builder.build()) {
+                final List<ServiceMessage> messages = response.getMessages();
+                assertEquals("W2", messages.get(0).getCode());
+                assertEquals("E2", messages.get(1).getCode());
+                assertEquals("W3", messages.get(2).getCode());
+                assertEquals("I4", messages.get(3).getCode());
+                assertNull(messages.get(4).getCode());
+                assertEquals("W1", other.getMessages().get(0).getCode());
+            }
+        }
+        assertEquals(0, files());
+    }
+
+    @Test
+    void closeWithoutBuild() throws IOException {
+        final SpillingResponseBuilder builder = new SpillingResponseBuilder(0, dir);
+        builder.addError("Error 1");
+        builder.addError("Error 2");
+        final List<ServiceMessage> messages = builder.getMessages();
+        assertEquals("Error 1", messages.get(0).getMessage());
+        builder.close();
+        assertEquals(0, files());
+        assertThrows(UncheckedIOException.class, () -> messages.get(0));
+        assertThrows(IllegalStateException.class, () -> builder.addInfo("Late"));
+        assertThrows(IllegalArgumentException.class, () -> SpillingResponseBuilder.of(-1));
+    }
+}
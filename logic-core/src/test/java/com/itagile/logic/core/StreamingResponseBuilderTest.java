@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import com.itagile.logic.api.AppResponse;
+import com.itagile.logic.api.ResponseEvent;
+import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * StreamingResponseBuilder tests.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+class StreamingResponseBuilderTest {
+
+    /**
+     * Subscriber recording the events received.
+     */
+    private static final class Recorder implements ResponseFlow.Subscriber<ResponseEvent> {
+        private final List<ResponseEvent> events = new CopyOnWriteArrayList<>();
+
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        private final long initialRequest;
+
+        private volatile ResponseFlow.Subscription subscription;
+
+        private volatile Throwable error;
+
+        Recorder(final long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(final ResponseFlow.Subscription newSubscription) {
+            this.subscription = newSubscription;
+            if (initialRequest > 0) {
+                newSubscription.request(initialRequest);
+            }
+        }
+
+        @Override
+        public void onNext(final ResponseEvent item) {
+            events.add(item);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            error = throwable;
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            done.countDown();
+        }
+    }
+
+    @Test
+    void stream() throws InterruptedException {
+        final StreamingResponseBuilder resp = StreamingResponseBuilder.of();
+        final Recorder recorder = new Recorder(Long.MAX_VALUE);
+        resp.subscribe(recorder);
+        resp.addError("{0} is not valid", "a");
+        assertTrue(recorder.events.isEmpty());
+        resp.withCode("E1");
+        resp.add(MessageTemplate.of(ServiceMessageType.WARN, "Warning", "W1"));
+        assertEquals(1, recorder.events.size());
+        assertEquals("E1", recorder.events.get(0).getMessage().getCode());
+        assertTrue(resp.hasCode("E1"));
+        assertTrue(resp.hasCode("W1"));
+        assertFalse(resp.isOk());
+        assertTrue(resp.getMessages().isEmpty());
+        resp.addAll(ResponseBuilder.of().addInfo("Info").build());
+        final AppResponse actual = resp.build();
+        assertTrue(recorder.done.await(10, TimeUnit.SECONDS));
+        assertEquals(4, recorder.events.size());
+        assertEquals("Info", recorder.events.get(2).getMessage().getMessage());
+        final ResponseEvent summary = recorder.events.get(3);
+        assertNull(summary.getMessage());
+        assertFalse(summary.getSummary().isOk());
+        assertEquals(1, summary.getSummary().getErrorCount());
+        assertEquals(1, summary.getSummary().getWarningCount());
+        assertEquals(1, summary.getSummary().getInfoCount());
+        assertFalse(actual.isOk());
+        assertEquals("1 errors, 1 warnings and 1 informative messages were streamed", actual.getMessages(""));
+        assertSame(summary.getSummary(), resp.complete());
+        assertThrows(IllegalStateException.class, () -> resp.addInfo("Late"));
+    }
+
+    @Test
+    void backpressure() throws Exception {
+        final StreamingResponseBuilder resp = new StreamingResponseBuilder(2);
+        final Recorder recorder = new Recorder(0);
+        resp.subscribe(recorder);
+        final Thread producer = new Thread(() -> {
+            for (int i = 0; i < 10; i++) {
+                resp.addInfo("Info {0}", i);
+            }
+            resp.complete();
+        });
+        producer.start();
+        while (producer.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+        assertTrue(recorder.events.isEmpty());
+        recorder.subscription.request(3);
+        assertTrue(recorder.events.size() <= 3);
+        recorder.subscription.request(Long.MAX_VALUE);
+        producer.join(TimeUnit.SECONDS.toMillis(10));
+        assertTrue(recorder.done.await(10, TimeUnit.SECONDS));
+        assertEquals(11, recorder.events.size());
+        assertEquals("Info 9", recorder.events.get(9).getMessage().getMessage());
+        assertTrue(recorder.events.get(10).getSummary().isOk());
+    }
+
+    @Test
+    void cancel() throws Exception {
+        final StreamingResponseBuilder resp = new StreamingResponseBuilder(1);
+        final Recorder recorder = new Recorder(1);
+        resp.subscribe(recorder);
+        final Thread producer = new Thread(() -> {
+            for (int i = 0; i < 10; i++) {
+                resp.addInfo("Info");
+            }
+            resp.complete();
+        });
+        producer.start();
+        while (producer.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+        recorder.subscription.cancel();
+        producer.join(TimeUnit.SECONDS.toMillis(10));
+        assertFalse(producer.isAlive());
+        assertEquals(1, recorder.events.size());
+        assertEquals(1, recorder.done.getCount());
+    }
+
+    @Test
+    void interrupt() throws Exception {
+        final StreamingResponseBuilder resp = new StreamingResponseBuilder(1);
+        final Recorder recorder = new Recorder(0);
+        resp.subscribe(recorder);
+        final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        final Thread producer = new Thread(() -> {
+            resp.addInfo("Info 1");
+            resp.addInfo("Info 2");
+            try {
+                resp.addInfo("Info 3");
+            } catch (final IllegalStateException e) {
+                failure.set(e);
+                assertTrue(Thread.interrupted());
+            }
+        });
+        producer.start();
+        while (producer.getState() != Thread.State.WAITING) {
+            Thread.sleep(1);
+        }
+        producer.interrupt();
+        producer.join(TimeUnit.SECONDS.toMillis(10));
+        assertFalse(producer.isAlive());
+        assertTrue(failure.get().getCause() instanceof InterruptedException);
+        recorder.subscription.request(Long.MAX_VALUE);
+        resp.complete();
+        assertTrue(recorder.done.await(10, TimeUnit.SECONDS));
+        assertEquals(3, recorder.events.size());
+        assertEquals("Info 2", recorder.events.get(1).getMessage().getMessage());
+        assertEquals(2, recorder.events.get(2).getSummary().getInfoCount());
+    }
+
+    @Test
+    void completeExceptionally() throws InterruptedException {
+        final StreamingResponseBuilder resp = StreamingResponseBuilder.of();
+        resp.addInfo("Info");
+        final IllegalStateException error = new IllegalStateException("Failed");
+        resp.completeExceptionally(error);
+        final Recorder recorder = new Recorder(Long.MAX_VALUE);
+        resp.subscribe(recorder);
+        assertTrue(recorder.done.await(10, TimeUnit.SECONDS));
+        assertSame(error, recorder.error);
+        assertEquals(1, recorder.events.size());
+        assertTrue(resp.build().isOk());
+    }
+
+    @Test
+    void singleSubscriber() {
+        final StreamingResponseBuilder resp = StreamingResponseBuilder.of();
+        resp.subscribe(new Recorder(1));
+        final Recorder second = new Recorder(1);
+        resp.subscribe(second);
+        assertTrue(second.error instanceof IllegalStateException);
+    }
+
+    @Test
+    void invalidRequest() {
+        final StreamingResponseBuilder resp = StreamingResponseBuilder.of();
+        final Recorder recorder = new Recorder(0);
+        resp.subscribe(recorder);
+        recorder.subscription.request(0);
+        assertTrue(recorder.error instanceof IllegalArgumentException);
+        resp.addInfo("Info");
+        resp.complete();
+        resp.completeExceptionally(new IllegalStateException("Late"));
+        assertTrue(recorder.events.isEmpty());
+        assertTrue(recorder.error instanceof IllegalArgumentException);
+    }
+
+    @Test
+    void codesBounded() {
+        final StreamingResponseBuilder resp = StreamingResponseBuilder.of();
+        resp.subscribe(new Recorder(Long.MAX_VALUE));
+        for (int i = 0; i < 2_000; i++) {
+            resp.addInfo("Info").withCode("C" + i);
+        }
+        resp.addInfo("Info");
+        assertTrue(resp.hasCode("C0"));
+        assertTrue(resp.hasCode("C1023"));
+        assertFalse(resp.hasCode("C1024"));
+        resp.complete();
+        assertFalse(resp.hasCode("C0"));
+    }
+
+    @Test
+    void invalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new StreamingResponseBuilder(0));
+    }
+
+    @Test
+    void withMessageProvider() {
+        final AtomicReference<String> resolved = new AtomicReference<>();
+        final StreamingResponseBuilder resp = StreamingResponseBuilder.of()
+                .withMessageProvider((type, message, args) -> {
+                    resolved.set(message);
+                    return ServiceMessage.of(type, message.toUpperCase());
+                });
+        final Recorder recorder = new Recorder(Long.MAX_VALUE);
+        resp.subscribe(recorder);
+        resp.addWarning("warning");
+        resp.complete();
+        assertEquals("warning", resolved.get());
+        assertEquals("WARNING", recorder.events.get(0).getMessage().getMessage());
+    }
+}
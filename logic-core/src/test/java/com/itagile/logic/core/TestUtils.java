@@ -18,8 +18,12 @@ package com.itagile.logic.core;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itagile.logic.api.ServiceMessage;
+import com.itagile.logic.api.ServiceMessageType;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -79,8 +83,44 @@ public class TestUtils {
         for (int i = 0; i < expected.size(); i++) {
             final T actualItem = actual.get(i);
             final T expectedItem = expected.get(i);
-            assertThat("Items in index " + i + " aren't equal", actualItem, samePropertyValuesAs(expectedItem));
+            assertThat("Items in index " + i + " aren't equal", actualItem, samePropertyValuesAs(expectedItem, "frozen"));
         }
     }
 
+    /**
+     * Creates messages covering the properties of a message: every type and no type, text with tabs and non ASCII
+     * characters, a text larger than 64 KiB, no text, codes, negative counts, extreme sample indices and sequence
+     * numbers, and origins.
+     *
+     * @param count the number of messages
+     * @return the messages
+     */
+    public static List<ServiceMessage> sampleMessages(final int count) {
+        final List<ServiceMessage> messages = new ArrayList<>();
+        final char[] large = new char[100_000];
+        Arrays.fill(large, '\u00f1');
+        for (int i = 0; i < count; i++) {
+            final ServiceMessage message = ServiceMessage.of(ServiceMessageType.values()[i % 3],
+                    i % 97 == 0 ? null : "Message \t" + i + " \u20ac \u2713", i % 5 == 0 ? "C" + i : null);
+            if (i % 7 == 0) {
+                message.setCount(i - 300);
+            }
+            if (i % 11 == 0) {
+                message.setSampleIndices(Arrays.asList(i, -i, Integer.MAX_VALUE, Integer.MIN_VALUE));
+            }
+            if (i % 13 == 0) {
+                message.setType(null);
+            }
+            if (i % 3 == 0) {
+                message.setSequence(i % 17 == 0 ? Long.MIN_VALUE : i * 1_000_000_007L);
+            }
+            if (i % 4 == 0) {
+                message.setOrigin("node-" + i);
+            }
+            messages.add(message);
+        }
+        messages.get(count / 2).setMessage(new String(large));
+        return messages;
+    }
+
 }
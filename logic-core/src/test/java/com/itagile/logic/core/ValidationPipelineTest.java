@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.itagile.logic.core;
+
+import com.itagile.logic.api.ServiceMessage;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ValidationPipeline tests.
+ *
+ * @author Javier Alcala
+ * @since 1.1.0
+ */
+class ValidationPipelineTest {
+
+    private static final BiConsumer<Integer, ResponseBuilder> VALIDATION = (value, resp) -> {
+        if (value % 3 == 0) {
+            resp.addError("{0} is multiple of 3", value).withCode("E3");
+        }
+        if (value % 5 == 0) {
+            resp.addWarning("{0} is multiple of 5", value);
+        }
+        if (value % 7 == 0) {
+            throw new AppResponseException(ResponseBuilder.of().addError("{0} is multiple of 7", value).build());
+        }
+        resp.addInfo("Checked");
+    };
+
+    private static List<Long> failedIndices(final ValidationPipeline<Integer> pipeline, final int count) {
+        final List<Long> indices = new ArrayList<>();
+        final PipelineResult result = pipeline.run(IntStream.range(1, count + 1).boxed().iterator(),
+                (index, messages) -> {
+                    assertFalse(messages.isEmpty());
+                    indices.add(index);
+                });
+        assertEquals(count, result.getItemCount());
+        assertEquals(indices.size(), result.getFailedItemCount());
+        return indices;
+    }
+
+    @Test
+    void run() {
+        final StringWriter writer = new StringWriter();
+        final PipelineResult result = ValidationPipeline.of(VALIDATION)
+                .run(IntStream.rangeClosed(1, 15).boxed().spliterator(), ValidationSink.of(writer));
+        assertFalse(result.isOk());
+        assertEquals(15, result.getItemCount());
+        // 3, 6, 7, 9, 12, 14, 15
+        assertEquals(7, result.getFailedItemCount());
+        assertEquals(7, result.getErrorCount());
+        assertEquals(3, result.getWarningCount());
+        assertEquals(13, result.getInfoCount());
+        final String[] lines = writer.toString().split("\n");
+        assertEquals(13, lines.length);
+        assertEquals("2\tERROR\tE3\t3 is multiple of 3", lines[0]);
+        assertEquals("2\tINFO\t\tChecked", lines[1]);
+        assertEquals("6\tERROR\t\t7 is multiple of 7", lines[4]);
+        assertEquals("14\tWARN\t\t15 is multiple of 5", lines[11]);
+    }
+
+    @Test
+    void ok() {
+        final List<Long> indices = new ArrayList<>();
+        final PipelineResult result = ValidationPipeline.<Integer>of(VALIDATION)
+                .run(IntStream.of(1, 2, 4, 5).boxed().iterator(), (index, messages) -> indices.add(index));
+        assertTrue(result.isOk());
+        assertEquals(4, result.getItemCount());
+        assertEquals(1, result.getWarningCount());
+        assertTrue(indices.isEmpty());
+    }
+
+    @Test
+    void parallelChunks() {
+        final List<Long> expected = failedIndices(ValidationPipeline.of(VALIDATION), 10_000);
+        final List<Long> actual = failedIndices(ValidationPipeline.of(VALIDATION).withParallelChunks(64), 10_000);
+        assertEquals(expected, actual);
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            assertEquals(expected, failedIndices(ValidationPipeline.of(VALIDATION).withParallelChunks(7)
+                    .withExecutor(executor), 10_000));
+        } finally {
+            executor.shutdown();
+        }
+        assertThrows(IllegalArgumentException.class, () -> ValidationPipeline.of(VALIDATION).withParallelChunks(0));
+    }
+
+    @Test
+    void withBuilder() {
+        final List<String> texts = new ArrayList<>();
+        ValidationPipeline.of(VALIDATION)
+                .withBuilder(() -> new AppResponseBuilder().withMessageProvider(
+                        (type, message, args) -> ServiceMessage.of(type, message)))
+                .run(IntStream.of(3).boxed().iterator(), (index, messages) -> messages.forEach(
+                        x -> texts.add(x.getMessage())));
+        assertEquals("[{0} is multiple of 3, Checked]", texts.toString());
+    }
+
+    @Test
+    void validationFailure() {
+        final ValidationPipeline<Integer> pipeline = ValidationPipeline.of((value, resp) -> {
+            throw new IllegalStateException("Unexpected " + value);
+        });
+        assertThrows(IllegalStateException.class,
+                () -> pipeline.run(IntStream.of(1).boxed().iterator(), (index, messages) -> { }));
+        pipeline.withParallelChunks(2);
+        assertThrows(IllegalStateException.class,
+                () -> pipeline.run(IntStream.of(1, 2, 3).boxed().iterator(), (index, messages) -> { }));
+    }
+
+    @Test
+    void sinkFailure() {
+        final ValidationSink sink = (index, messages) -> {
+            throw new IOException("Disk full");
+        };
+        final UncheckedIOException actual = assertThrows(UncheckedIOException.class,
+                () -> ValidationPipeline.of(VALIDATION).run(IntStream.of(3).boxed().iterator(), sink));
+        assertEquals("Disk full", actual.getCause().getMessage());
+    }
+
+    @Test
+    void sinkEscapesLineBreaks() throws IOException {
+        final StringWriter writer = new StringWriter();
+        final List<ServiceMessage> messages = new ArrayList<>();
+        messages.add(ServiceMessage.of(com.itagile.logic.api.ServiceMessageType.ERROR, "a\tb\r\nc"));
+        ValidationSink.of(writer).accept(4, messages);
+        assertEquals("4\tERROR\t\ta b  c\n", writer.toString());
+    }
+}
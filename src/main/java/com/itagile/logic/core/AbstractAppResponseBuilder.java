@@ -1,162 +0,0 @@
-/*
- * Copyright (c) 2020 the original author or authors.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- *    http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-
-package com.itagile.logic.core;
-
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
-import java.util.Objects;
-
-import com.itagile.logic.api.AppResponse;
-import com.itagile.logic.api.ServiceMessage;
-import com.itagile.logic.api.ServiceMessageType;
-
-/**
- * Abstract base class for AppResponse builder implementations.
- *
- * @author Javier Alcala
- * @since 1.0.0
- */
-public abstract class AbstractAppResponseBuilder implements ResponseBuilder {
-    /**
-     * Determines if this response was successful.
-     */
-    private boolean ok = true;
-
-    /**
-     * List of messages for this response.
-     */
-    private final List<ServiceMessage> messages = new ArrayList<>();
-
-    /**
-     * The service for custom ServiceMessage instantiation.
-     */
-    private MessageProvider messageProvider;
-
-    /**
-     * Determines if this response was successful.
-     *
-     * @return true if no errors where found.
-     */
-    @Override
-    public final boolean isOk() {
-        return ok;
-    }
-
-    /**
-     * Returns the list of messages for this response. The list returned is immutable.
-     *
-     * @return the list of messages
-     */
-    @Override
-    public final List<ServiceMessage> getMessages() {
-        return Collections.unmodifiableList(messages);
-    }
-
-    /**
-     * Sets the service for custom ServiceMessage instantiation.
-     *
-     * @param messageProvider the service for custom ServiceMessage instantiation
-     */
-    protected void setMessageProvider(final MessageProvider messageProvider) {
-        this.messageProvider = messageProvider;
-    }
-
-    /**
-     * Appends a message and changes the ok state to false if the type is ERROR.
-     *
-     * @param type the type of this message
-     * @param message the error message to append
-     * @param args arguments referenced by the format specifiers in the format string
-     * @return this object
-     */
-    private ResponseBuilder addMessage(final ServiceMessageType type, final String message,
-            final Object... args) {
-        final ServiceMessage dto;
-        if (messageProvider == null) {
-            if (args.length == 0) {
-                dto = ServiceMessage.of(type, message);
-            } else {
-                dto = ServiceMessage.of(type, TextUtils.format(message, args));
-            }
-        } else {
-            dto = messageProvider.getMessage(type, message, args);
-        }
-        messages.add(dto);
-        if (dto.getType() == ServiceMessageType.ERROR) {
-            ok = false;
-        }
-        return this;
-    }
-
-    @Override
-    public final ResponseBuilder addError(final String message) {
-        return addMessage(ServiceMessageType.ERROR, message);
-    }
-
-    @Override
-    public final ResponseBuilder addError(final String message, final Object... args) {
-        return addMessage(ServiceMessageType.ERROR, message, args);
-    }
-
-    @Override
-    public final ResponseBuilder addWarning(final String message) {
-        return addMessage(ServiceMessageType.WARN, message);
-    }
-
-    @Override
-    public final ResponseBuilder addWarning(final String message, final Object... args) {
-        return addMessage(ServiceMessageType.WARN, message, args);
-    }
-
-    @Override
-    public final ResponseBuilder addInfo(final String message) {
-        return addMessage(ServiceMessageType.INFO, message);
-    }
-
-    @Override
-    public final ResponseBuilder addInfo(final String message, final Object... args) {
-        return addMessage(ServiceMessageType.INFO, message, args);
-    }
-
-    @Override
-    public final ResponseBuilder addAll(final AppResponse response) {
-        return addAll(response.getMessages());
-    }
-
-    @Override
-    public final ResponseBuilder addAll(final Collection<ServiceMessage> messages) {
-        messages.forEach(message -> addMessage(message.getType(), message.getMessage()));
-        return this;
-    }
-
-    @Override
-    public ResponseBuilder withCode(final String code) {
-        if (messages.size() > 0) {
-            final ServiceMessage message = messages.get(messages.size() - 1);
-            message.setCode(code);
-        }
-        return this;
-    }
-
-    @Override
-    public boolean hasCode(final String code) {
-        return messages.stream().anyMatch(x -> Objects.equals(x.getCode(), code));
-    }
-
-}
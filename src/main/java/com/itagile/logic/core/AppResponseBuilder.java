@@ -1,48 +0,0 @@
-/*
- * Copyright (c) 2020 the original author or authors.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- *    http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-
-package com.itagile.logic.core;
-
-import com.itagile.logic.api.AppResponse;
-
-/**
- * A builder for creating an AppResponse object.
- *
- * @author Javier Alcala
- * @since 1.0.0
- */
-public class AppResponseBuilder extends AbstractAppResponseBuilder {
-    /**
-     * Builds an instance and assigns final properties values.
-     *
-     * @return the new instance
-     */
-    public AppResponse build() {
-        return new AppResponse(getMessages());
-    }
-
-    /**
-     * Sets the service for custom ServiceMessage instantiation.
-     *
-     * @param messageProvider the service for custom ServiceMessage instantiation
-     * @return this object
-     */
-    public AppResponseBuilder withMessageProvider(final MessageProvider messageProvider) {
-        setMessageProvider(messageProvider);
-        return this;
-    }
-
-}
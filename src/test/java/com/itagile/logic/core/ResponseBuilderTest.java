@@ -1,50 +0,0 @@
-/*
- * Copyright (c) 2020 the original author or authors.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- *    http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-
-package com.itagile.logic.core;
-
-import com.itagile.logic.api.AppResponse;
-import org.junit.jupiter.api.Test;
-
-import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.instanceOf;
-
-/**
- * ResponseBuilder tests.
- *
- * @author Javier Alcala
- * @since 1.0.0
- */
-class ResponseBuilderTest {
-
-    @Test
-    void of() {
-        assertThat(ResponseBuilder.of(), instanceOf(AppResponseBuilder.class));
-    }
-
-    private static class AppResponseMock extends AppResponse {
-    }
-
-    @Test
-    void ofWithClass() {
-        assertThat(ResponseBuilder.of(AppResponseMock.class), instanceOf(AppResponseDataBuilder.class));
-    }
-
-    @Test
-    void testWithSupplier() {
-        assertThat(ResponseBuilder.of(AppResponseMock::new), instanceOf(AppResponseDataBuilder.class));
-    }
-}
\ No newline at end of file